@@ -1,6 +1,8 @@
 package org.algoyog.algos.algos.sort;
 
 import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
 
 /**
  * Implementation of common sorting algorithms
@@ -260,6 +262,76 @@ public class SortingAlgorithms {
         System.arraycopy(output, 0, arr, 0, n);
     }
 
+    /**
+     * Parallel LSD Radix Sort of an index permutation by int keys
+     * Returns the indices 0..n-1 ordered by keys[i] (signed order); equal keys keep index order.
+     * Keys are processed 8 bits at a time. Each pass splits the input into chunks that build
+     * their digit histograms in parallel, turns the histograms into per-chunk write positions,
+     * and then scatters every chunk in parallel. Passes where all keys share a digit are skipped.
+     * Time Complexity: O(4 * n / P) per thread for P threads
+     * Space Complexity: O(n) for the two index buffers
+     * Stable: Yes
+     */
+    public int[] parallelRadixSortIndices(int[] keys) {
+        int n = keys.length;
+        int[] src = new int[n];
+        int[] dst = new int[n];
+        for (int i = 0; i < n; i++) src[i] = i;
+
+        int chunkCount = Math.max(1, Math.min(4 * ForkJoinPool.getCommonPoolParallelism(),
+                n / RADIX_MIN_CHUNK));
+        int chunkSize = (n + chunkCount - 1) / Math.max(1, chunkCount);
+        int[][] counts = new int[chunkCount][256];
+
+        for (int shift = 0; shift < 32; shift += 8) {
+            final int s = shift;
+            final int[] from = src;
+            final int[] to = dst;
+
+            // Flipping the sign bit makes negative keys sort before positive ones
+            IntStream.range(0, chunkCount).parallel().forEach(c -> {
+                int[] count = counts[c];
+                Arrays.fill(count, 0);
+                int end = Math.min(n, (c + 1) * chunkSize);
+                for (int i = c * chunkSize; i < end; i++) {
+                    count[((keys[from[i]] ^ Integer.MIN_VALUE) >>> s) & 0xFF]++;
+                }
+            });
+
+            // Exclusive prefix sums in (digit, chunk) order give each chunk its write positions
+            int position = 0;
+            boolean singleDigit = false;
+            for (int digit = 0; digit < 256; digit++) {
+                int digitTotal = 0;
+                for (int c = 0; c < chunkCount; c++) {
+                    int count = counts[c][digit];
+                    counts[c][digit] = position;
+                    position += count;
+                    digitTotal += count;
+                }
+                if (digitTotal == n) singleDigit = true;
+            }
+            if (singleDigit) continue; // This digit does not reorder anything
+
+            IntStream.range(0, chunkCount).parallel().forEach(c -> {
+                int[] next = counts[c];
+                int end = Math.min(n, (c + 1) * chunkSize);
+                for (int i = c * chunkSize; i < end; i++) {
+                    int index = from[i];
+                    to[next[((keys[index] ^ Integer.MIN_VALUE) >>> s) & 0xFF]++] = index;
+                }
+            });
+
+            src = to;
+            dst = from;
+        }
+
+        return src;
+    }
+
+    // Below this many elements per chunk the parallel overhead outweighs the work
+    private static final int RADIX_MIN_CHUNK = 1 << 14;
+
     /**
      * Bucket Sort - For uniformly distributed values over a range
      * Time Complexity: Average O(n + k), Worst O(n²) if all elements in one bucket
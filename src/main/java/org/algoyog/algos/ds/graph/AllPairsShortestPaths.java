@@ -0,0 +1,276 @@
+package org.algoyog.algos.ds.graph;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * All-Pairs Shortest Paths
+ *
+ * Blocked Floyd-Warshall for dense graphs: the distance matrix is one flat long[] and the
+ * k-loop is processed one B x B tile at a time, so the three tiles a step reads stay in L1/L2
+ * instead of streaming whole rows of an int[][] through the cache. For every diagonal tile:
+ * 1. the diagonal tile itself is updated
+ * 2. the tiles in its row and column are updated (independent of each other, in parallel)
+ * 3. all remaining tiles are updated (independent of each other, in parallel)
+ *
+ * Johnson's algorithm for sparse graphs: Bellman-Ford potentials make every edge weight
+ * non-negative, then Dijkstra runs from every source in parallel. Rows are streamed to a
+ * callback one source at a time, so the V x V matrix is never held in memory.
+ */
+public class AllPairsShortestPaths {
+    // Returned for unreachable pairs
+    public static final long UNREACHABLE = Long.MAX_VALUE;
+
+    // Internal infinity. Entries stay in [-INF, INF]: relaxations clamp at -INF, so negative
+    // cycles cannot push a distance past Long.MIN_VALUE, and the sum of two entries never overflows.
+    private static final long INF = Long.MAX_VALUE / 4;
+
+    // 64 x 64 longs = 32 KB per tile
+    private static final int DEFAULT_BLOCK_SIZE = 64;
+
+    /**
+     * Dense V x V distance matrix stored row by row in a flat array
+     */
+    public static class DistanceMatrix {
+        private final int n;
+        private final int stride;
+        private final long[] dist;
+        private final boolean negativeCycle;
+
+        DistanceMatrix(int n, int stride, long[] dist, boolean negativeCycle) {
+            this.n = n;
+            this.stride = stride;
+            this.dist = dist;
+            this.negativeCycle = negativeCycle;
+        }
+
+        public int getVertexCount() {
+            return n;
+        }
+
+        // Shortest distance from u to v, or UNREACHABLE
+        public long get(int u, int v) {
+            return dist[u * stride + v];
+        }
+
+        // Copy of the distances from u
+        public long[] row(int u) {
+            return Arrays.copyOfRange(dist, u * stride, u * stride + n);
+        }
+
+        // When true, distances between vertices connected through the cycle are meaningless
+        public boolean hasNegativeCycle() {
+            return negativeCycle;
+        }
+    }
+
+    public DistanceMatrix floydWarshall(GraphAlgorithms.WeightedGraph graph) {
+        return floydWarshall(graph, DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Blocked, parallel Floyd-Warshall
+     * Negative edge weights are allowed; a negative cycle shows up as a negative diagonal entry.
+     * Time Complexity: O(V³) work, O(V³ / P) per thread in phase 3
+     * Space Complexity: O(V²) for the padded matrix
+     *
+     * @throws IllegalArgumentException if blockSize is less than 1
+     */
+    public DistanceMatrix floydWarshall(GraphAlgorithms.WeightedGraph graph, int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Block size must be positive: " + blockSize);
+        }
+        int n = graph.getVertexCount();
+        int tiles = Math.max(1, (n + blockSize - 1) / blockSize);
+        int N = tiles * blockSize; // Padded so every tile is full; padding rows stay unreachable
+        long[] d = new long[N * N];
+        Arrays.fill(d, INF);
+
+        for (int v = 0; v < N; v++) {
+            d[v * N + v] = 0;
+        }
+        List<int[]>[] adj = graph.getAdjList();
+        for (int u = 0; u < n; u++) {
+            for (int[] edge : adj[u]) {
+                int index = u * N + edge[0];
+                d[index] = Math.min(d[index], edge[1]);
+            }
+        }
+
+        for (int kb = 0; kb < tiles; kb++) {
+            final int k = kb;
+
+            // Phase 1: diagonal tile
+            updateTile(d, N, blockSize, k, k, k);
+
+            // Phase 2: tiles in row k and column k depend only on the diagonal tile
+            IntStream.range(0, 2 * tiles).parallel().forEach(t -> {
+                int other = t >> 1;
+                if (other == k) return;
+                if ((t & 1) == 0) {
+                    updateTile(d, N, blockSize, k, other, k);
+                } else {
+                    updateTile(d, N, blockSize, other, k, k);
+                }
+            });
+
+            // Phase 3: every other tile depends only on its row-k and column-k tiles
+            IntStream.range(0, tiles * tiles).parallel().forEach(t -> {
+                int ib = t / tiles;
+                int jb = t % tiles;
+                if (ib == k || jb == k) return;
+                updateTile(d, N, blockSize, ib, jb, k);
+            });
+        }
+
+        boolean negativeCycle = false;
+        for (int v = 0; v < n; v++) {
+            if (d[v * N + v] < 0) negativeCycle = true;
+        }
+        for (int i = 0; i < d.length; i++) {
+            if (d[i] == INF) d[i] = UNREACHABLE;
+        }
+
+        return new DistanceMatrix(n, N, d, negativeCycle);
+    }
+
+    /**
+     * Relax tile (ib, jb) through the intermediate vertices of tile kb:
+     * d[i][j] = min(d[i][j], d[i][k] + d[k][j])
+     * The innermost loop walks contiguous row segments, which the JIT can vectorize.
+     */
+    private static void updateTile(long[] d, int N, int B, int ib, int jb, int kb) {
+        int i0 = ib * B;
+        int j0 = jb * B;
+        int k0 = kb * B;
+
+        for (int k = k0; k < k0 + B; k++) {
+            int kRow = k * N;
+            for (int i = i0; i < i0 + B; i++) {
+                int iRow = i * N;
+                long dik = d[iRow + k];
+                if (dik == INF) continue; // Unreachable
+
+                for (int j = j0; j < j0 + B; j++) {
+                    long dkj = d[kRow + j];
+                    long candidate = Math.max(dik + dkj, -INF);
+                    if (dkj != INF && candidate < d[iRow + j]) {
+                        d[iRow + j] = candidate;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Receives the distance row of one source
+     * Called concurrently from worker threads. The array is a per-thread buffer that is reused
+     * once accept returns, so copy whatever must be kept; unreachable entries are Integer.MAX_VALUE.
+     */
+    @FunctionalInterface
+    public interface RowSink {
+        void accept(int source, int[] distances);
+    }
+
+    /**
+     * Johnson's Algorithm
+     * 1. h = SPFA distances from a virtual source joined to every vertex with 0-weight edges
+     * 2. Reweight once: w'(u, v) = w(u, v) + h[u] - h[v] >= 0
+     * 3. Dijkstra from every source in parallel on the reweighted CSR graph; every worker thread
+     *    reuses its own distance array and heap
+     * 4. d(s, t) = d'(s, t) - h[s] + h[t]
+     * Time Complexity: O(V * E) for the potentials + O(V (V + E) log V) work for the searches
+     * Space Complexity: O(V + E) plus O(V) per worker thread
+     *
+     * Sums are done in long; a reweighted edge, reweighted path or final distance that does not
+     * fit in an int is rejected instead of wrapping around.
+     *
+     * @throws IllegalStateException if the graph has a negative cycle
+     * @throws IllegalArgumentException if a distance does not fit in an int
+     */
+    public void johnson(GraphAlgorithms.WeightedGraph graph, RowSink sink) {
+        int V = graph.getVertexCount();
+        int[] h = new GraphAlgorithms().spfa(graph, -1);
+
+        CsrGraph csr = CsrGraph.of(graph);
+        int[] offsets = csr.getOffsets();
+        int[] targets = csr.getTargets();
+        int[] weights = csr.getWeights().clone();
+        for (int u = 0; u < V; u++) {
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                weights[e] = toInt((long) weights[e] + h[u] - h[targets[e]], "Reweighted edge");
+            }
+        }
+        CsrGraph reweighted = new CsrGraph(offsets, targets, weights);
+
+        ThreadLocal<DijkstraScratch> scratch = ThreadLocal.withInitial(() -> new DijkstraScratch(V));
+        IntStream.range(0, V).parallel().forEach(s -> {
+            int[] dist = scratch.get().run(reweighted, s);
+            for (int t = 0; t < V; t++) {
+                if (dist[t] != Integer.MAX_VALUE) {
+                    dist[t] = toInt((long) dist[t] - h[s] + h[t], "Distance");
+                }
+            }
+            sink.accept(s, dist);
+        });
+    }
+
+    // Values equal to Integer.MAX_VALUE are rejected too: that value means unreachable
+    private static int toInt(long value, String what) {
+        if (value < Integer.MIN_VALUE || value >= Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(what + " " + value + " does not fit in an int");
+        }
+        return (int) value;
+    }
+
+    /**
+     * Dijkstra buffers owned by one worker thread
+     */
+    private static class DijkstraScratch {
+        private final int[] dist;
+        private final boolean[] tooFar; // Reached only by paths longer than an int holds
+        private final IntMinHeap heap;
+
+        DijkstraScratch(int V) {
+            dist = new int[V];
+            tooFar = new boolean[V];
+            heap = new IntMinHeap(V);
+        }
+
+        int[] run(CsrGraph graph, int source) {
+            int[] offsets = graph.getOffsets();
+            int[] targets = graph.getTargets();
+            int[] weights = graph.getWeights();
+            Arrays.fill(dist, Integer.MAX_VALUE);
+            Arrays.fill(tooFar, false);
+            dist[source] = 0;
+            heap.clear();
+            heap.push(0, source);
+
+            while (!heap.isEmpty()) {
+                int d = heap.peekKey();
+                int u = heap.peekValue();
+                heap.pop();
+                if (d > dist[u]) continue; // Stale entry
+
+                for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                    int v = targets[e];
+                    long candidate = (long) d + weights[e];
+                    if (candidate < dist[v]) {
+                        dist[v] = (int) candidate;
+                        heap.push((int) candidate, v);
+                    } else if (candidate >= Integer.MAX_VALUE) {
+                        tooFar[v] = true;
+                    }
+                }
+            }
+            for (int v = 0; v < dist.length; v++) {
+                if (tooFar[v] && dist[v] == Integer.MAX_VALUE) {
+                    throw new IllegalArgumentException("Reweighted distance from " + source + " to " + v + " does not fit in an int");
+                }
+            }
+            return dist;
+        }
+    }
+}
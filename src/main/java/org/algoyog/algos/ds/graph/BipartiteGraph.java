@@ -0,0 +1,112 @@
+package org.algoyog.algos.ds.graph;
+
+import java.util.Arrays;
+
+/**
+ * Bipartite graph between left vertices 0 .. L-1 and right vertices 0 .. R-1
+ * Both sides are numbered from 0 independently. Edges are collected into two growable int
+ * arrays and turned into a CSR adjacency of the left side (left vertex -> right neighbors) the
+ * first time it is needed, and again after further edges were added.
+ *
+ * Space Complexity: O(L + E) ints
+ */
+public class BipartiteGraph {
+    private final int leftCount;
+    private final int rightCount;
+    private int edgeCount;
+    private int[] edgeLeft;
+    private int[] edgeRight;
+
+    // CSR of the left side, null until built or after an edge was added
+    private int[] offsets;
+    private int[] targets;
+
+    public BipartiteGraph(int leftCount, int rightCount) {
+        this.leftCount = leftCount;
+        this.rightCount = rightCount;
+        edgeLeft = new int[16];
+        edgeRight = new int[16];
+    }
+
+    /**
+     * Build from parallel edge arrays: edge i joins left[i] and right[i]
+     * Time Complexity: O(L + E)
+     */
+    public static BipartiteGraph of(int leftCount, int rightCount, int[] left, int[] right) {
+        if (left.length != right.length) {
+            throw new IllegalArgumentException("Edge arrays must have the same length");
+        }
+        BipartiteGraph graph = new BipartiteGraph(leftCount, rightCount);
+        for (int i = 0; i < left.length; i++) {
+            graph.checkEdge(left[i], right[i]);
+        }
+        graph.edgeLeft = left.clone();
+        graph.edgeRight = right.clone();
+        graph.edgeCount = left.length;
+        return graph;
+    }
+
+    public void addEdge(int left, int right) {
+        checkEdge(left, right);
+        if (edgeCount == edgeLeft.length) {
+            edgeLeft = Arrays.copyOf(edgeLeft, edgeCount << 1);
+            edgeRight = Arrays.copyOf(edgeRight, edgeCount << 1);
+        }
+        edgeLeft[edgeCount] = left;
+        edgeRight[edgeCount++] = right;
+        offsets = null;
+    }
+
+    private void checkEdge(int left, int right) {
+        if (left < 0 || left >= leftCount || right < 0 || right >= rightCount) {
+            throw new IllegalArgumentException("Edge (" + left + ", " + right + ") out of range");
+        }
+    }
+
+    public int getLeftCount() {
+        return leftCount;
+    }
+
+    public int getRightCount() {
+        return rightCount;
+    }
+
+    public int getEdgeCount() {
+        return edgeCount;
+    }
+
+    public int degree(int left) {
+        buildAdjacency();
+        return offsets[left + 1] - offsets[left];
+    }
+
+    // Right neighbors of left vertex u are getTargets()[getOffsets()[u] .. getOffsets()[u + 1])
+    public int[] getOffsets() {
+        buildAdjacency();
+        return offsets;
+    }
+
+    public int[] getTargets() {
+        buildAdjacency();
+        return targets;
+    }
+
+    // Counting sort of the edges by left endpoint; insertion order is kept per vertex
+    private void buildAdjacency() {
+        if (offsets != null) return;
+        int[] start = new int[leftCount + 1];
+        for (int i = 0; i < edgeCount; i++) {
+            start[edgeLeft[i] + 1]++;
+        }
+        for (int u = 0; u < leftCount; u++) {
+            start[u + 1] += start[u];
+        }
+        int[] fill = Arrays.copyOf(start, leftCount);
+        int[] adjacency = new int[edgeCount];
+        for (int i = 0; i < edgeCount; i++) {
+            adjacency[fill[edgeLeft[i]]++] = edgeRight[i];
+        }
+        targets = adjacency;
+        offsets = start;
+    }
+}
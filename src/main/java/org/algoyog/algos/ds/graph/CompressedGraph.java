@@ -0,0 +1,365 @@
+package org.algoyog.algos.ds.graph;
+
+import java.util.Arrays;
+
+/**
+ * Read-only compressed adjacency storage
+ * Every neighbor list is sorted and stored as gaps in Elias-gamma code in one bit stream:
+ *
+ *   first neighbor:  gamma(zigzag(n0 - v) + 1)   (signed distance from the vertex itself)
+ *   following ones:  gamma(n[i] - n[i - 1])      (always >= 1, lists are deduplicated)
+ *
+ * gamma(x) writes floor(log2 x) zero bits followed by x in binary, so a gap of 1 costs one bit,
+ * 2-3 cost three and 4-7 five bits. On graphs whose neighbor lists are local (crawl order,
+ * grids, graphs relabeled with VertexReordering.bfsOrder) most gaps are tiny and an edge takes
+ * a few bits instead of the 32 of a CsrGraph target.
+ *
+ * Codes are self-delimiting, so a row ends where the next one starts and no degrees are
+ * stored. Decoding reads a 64-bit window at the current bit position and takes the code length
+ * from Long.numberOfLeadingZeros, without a loop over bits.
+ *
+ * Row start positions are kept as 16-bit offsets relative to a 64-bit base per block of 64
+ * vertices (17 bits per vertex, O(1) random access to any neighbor list). Graphs with a block
+ * longer than 2^16 bits fall back to 32-bit relative offsets.
+ * Parallel edges are collapsed; the traversals visit neighbors in increasing id order.
+ */
+public class CompressedGraph {
+    private static final int BLOCK_SHIFT = 6;
+
+    private final int V;
+    private final int edgeCount;
+    private final long[] bits;      // Code stream, most significant bit first; two words of padding
+    private final long[] blockBase; // Bit position of the first row of every block
+    // Row start of v minus its block base; exactly one of the two is non-null
+    private final char[] narrow;
+    private final int[] wide;
+
+    private CompressedGraph(int V, int edgeCount, long[] bits, long[] blockBase, char[] narrow, int[] wide) {
+        this.V = V;
+        this.edgeCount = edgeCount;
+        this.bits = bits;
+        this.blockBase = blockBase;
+        this.narrow = narrow;
+        this.wide = wide;
+    }
+
+    public static CompressedGraph of(GraphAlgorithms.Graph graph) {
+        return of(CsrGraph.of(graph));
+    }
+
+    /**
+     * Compress a CSR graph (weights are dropped)
+     * Time Complexity: O(V + E log d) where d is the maximum degree
+     * Space Complexity: O(d) besides the result
+     */
+    public static CompressedGraph of(CsrGraph graph) {
+        int V = graph.getVertexCount();
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int maxDegree = 0;
+        for (int v = 0; v < V; v++) {
+            maxDegree = Math.max(maxDegree, graph.degree(v));
+        }
+
+        BitWriter writer = new BitWriter(Math.max(1, targets.length / 16));
+        long[] rowStart = new long[V + 1];
+        int[] row = new int[maxDegree];
+        int edgeCount = 0;
+
+        for (int v = 0; v < V; v++) {
+            rowStart[v] = writer.position;
+            int count = offsets[v + 1] - offsets[v];
+            System.arraycopy(targets, offsets[v], row, 0, count);
+            Arrays.sort(row, 0, count);
+
+            int last = -1;
+            for (int i = 0; i < count; i++) {
+                int target = row[i];
+                if (i > 0 && target == last) continue; // Parallel edge
+                if (last < 0) {
+                    long diff = (long) target - v;
+                    writer.writeGamma(((diff << 1) ^ (diff >> 63)) + 1);
+                } else {
+                    writer.writeGamma(target - last);
+                }
+                last = target;
+                edgeCount++;
+            }
+        }
+        rowStart[V] = writer.position;
+
+        // Index: 64-bit base per block, offsets inside the block as narrow as they fit
+        long[] blockBase = new long[(V >>> BLOCK_SHIFT) + 1];
+        long maxDelta = 0;
+        for (int v = 0; v <= V; v++) {
+            int block = v >>> BLOCK_SHIFT;
+            if ((v & ((1 << BLOCK_SHIFT) - 1)) == 0) blockBase[block] = rowStart[v];
+            maxDelta = Math.max(maxDelta, rowStart[v] - blockBase[block]);
+        }
+        if (maxDelta >>> 32 != 0) {
+            throw new IllegalArgumentException("Neighbor lists of 64 consecutive vertices exceed 2^32 bits");
+        }
+
+        char[] narrow = null;
+        int[] wide = null;
+        if (maxDelta <= Character.MAX_VALUE) {
+            narrow = new char[V + 1];
+            for (int v = 0; v <= V; v++) narrow[v] = (char) (rowStart[v] - blockBase[v >>> BLOCK_SHIFT]);
+        } else {
+            wide = new int[V + 1];
+            for (int v = 0; v <= V; v++) wide[v] = (int) (rowStart[v] - blockBase[v >>> BLOCK_SHIFT]);
+        }
+
+        return new CompressedGraph(V, edgeCount, writer.toArray(), blockBase, narrow, wide);
+    }
+
+    public int getVertexCount() {
+        return V;
+    }
+
+    // Number of distinct edges
+    public int getEdgeCount() {
+        return edgeCount;
+    }
+
+    // Size of the code stream plus the offset index
+    public long sizeInBits() {
+        long index = narrow != null ? (long) narrow.length * 16 : (long) wide.length * 32;
+        return (long) bits.length * 64 + (long) blockBase.length * 64 + index;
+    }
+
+    public double bitsPerEdge() {
+        return edgeCount == 0 ? 0 : (double) sizeInBits() / edgeCount;
+    }
+
+    // Bit position where the row of v starts (v == V gives the end of the stream)
+    private long rowStart(int v) {
+        long delta = narrow != null ? narrow[v] : wide[v] & 0xFFFFFFFFL;
+        return blockBase[v >>> BLOCK_SHIFT] + delta;
+    }
+
+    // 64 bits of the stream starting at bit position p
+    private static long window(long[] bits, long p) {
+        int i = (int) (p >>> 6);
+        int shift = (int) p & 63;
+        long w = bits[i] << shift;
+        if (shift != 0) w |= bits[i + 1] >>> (64 - shift);
+        return w;
+    }
+
+    /**
+     * Number of distinct neighbors of v
+     * Time Complexity: O(d), the row has to be decoded
+     */
+    public int degree(int v) {
+        int count = 0;
+        NeighborCursor cursor = cursor(v);
+        while (cursor.hasNext()) {
+            cursor.nextInt();
+            count++;
+        }
+        return count;
+    }
+
+    // Decoded, sorted neighbors of v
+    public int[] neighbors(int v) {
+        int[] result = new int[8];
+        int count = 0;
+        NeighborCursor cursor = cursor(v);
+        while (cursor.hasNext()) {
+            if (count == result.length) result = Arrays.copyOf(result, count << 1);
+            result[count++] = cursor.nextInt();
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    public NeighborCursor cursor(int v) {
+        return new NeighborCursor().reset(v);
+    }
+
+    /**
+     * Sequential decoder over one neighbor list
+     * Reusable: reset moves it to another vertex without allocating.
+     */
+    public class NeighborCursor {
+        private long position;
+        private long end;
+        private int vertex;
+        private int last = -1;
+
+        public NeighborCursor reset(int v) {
+            position = rowStart(v);
+            end = rowStart(v + 1);
+            vertex = v;
+            last = -1;
+            return this;
+        }
+
+        public boolean hasNext() {
+            return position < end;
+        }
+
+        public int nextInt() {
+            long w = window(bits, position);
+            int zeros = Long.numberOfLeadingZeros(w);
+            long x = window(bits, position + zeros) >>> (63 - zeros);
+            position += 2 * zeros + 1;
+
+            if (last < 0) {
+                long zigzag = x - 1;
+                last = (int) (vertex + ((zigzag >>> 1) ^ -(zigzag & 1)));
+            } else {
+                last += (int) x;
+            }
+            return last;
+        }
+    }
+
+    /**
+     * BFS decoding neighbor lists on the fly
+     * Time Complexity: O(V + E)
+     * Space Complexity: O(V)
+     */
+    public GraphAlgorithms.Traversal bfs(int start) {
+        int[] queue = new int[V];
+        int[] depth = new int[V];
+        int[] parent = new int[V];
+        Arrays.fill(depth, -1);
+        Arrays.fill(parent, -1);
+        NeighborCursor cursor = new NeighborCursor();
+        int head = 0;
+        int tail = 0;
+        depth[start] = 0;
+        queue[tail++] = start;
+
+        while (head < tail) {
+            int u = queue[head++];
+            cursor.reset(u);
+            while (cursor.hasNext()) {
+                int v = cursor.nextInt();
+                if (depth[v] < 0) {
+                    depth[v] = depth[u] + 1;
+                    parent[v] = u;
+                    queue[tail++] = v;
+                }
+            }
+        }
+        return new GraphAlgorithms.Traversal(Arrays.copyOf(queue, tail), depth, parent);
+    }
+
+    /**
+     * Iterative DFS (preorder) decoding neighbor lists on the fly
+     * Every vertex on the stack remembers its bit position and last decoded neighbor, so a
+     * row is decoded exactly once however often the search returns to it.
+     * Time Complexity: O(V + E)
+     * Space Complexity: O(V)
+     */
+    public GraphAlgorithms.Traversal dfs(int start) {
+        int[] order = new int[V];
+        int[] depth = new int[V];
+        int[] parent = new int[V];
+        int[] stack = new int[V];
+        long[] position = new long[V];
+        int[] last = new int[V];
+        Arrays.fill(depth, -1);
+        Arrays.fill(parent, -1);
+        int count = 0;
+        int top = 0;
+
+        depth[start] = 0;
+        order[count++] = start;
+        stack[top++] = start;
+        position[start] = rowStart(start);
+        last[start] = -1;
+
+        while (top > 0) {
+            int u = stack[top - 1];
+            if (position[u] == rowStart(u + 1)) {
+                top--; // All neighbors explored, backtrack
+                continue;
+            }
+
+            long p = position[u];
+            int zeros = Long.numberOfLeadingZeros(window(bits, p));
+            long x = window(bits, p + zeros) >>> (63 - zeros);
+            position[u] = p + 2 * zeros + 1;
+            int v;
+            if (last[u] < 0) {
+                long zigzag = x - 1;
+                v = (int) (u + ((zigzag >>> 1) ^ -(zigzag & 1)));
+            } else {
+                v = last[u] + (int) x;
+            }
+            last[u] = v;
+
+            if (depth[v] < 0) {
+                depth[v] = depth[u] + 1;
+                parent[v] = u;
+                order[count++] = v;
+                stack[top++] = v;
+                position[v] = rowStart(v);
+                last[v] = -1;
+            }
+        }
+        return new GraphAlgorithms.Traversal(Arrays.copyOf(order, count), depth, parent);
+    }
+
+    // Decompress into an adjacency list graph with sorted neighbor lists
+    public GraphAlgorithms.Graph toGraph() {
+        GraphAlgorithms.Graph graph = new GraphAlgorithms.Graph(V);
+        NeighborCursor cursor = new NeighborCursor();
+        for (int u = 0; u < V; u++) {
+            cursor.reset(u);
+            while (cursor.hasNext()) {
+                graph.addEdge(u, cursor.nextInt());
+            }
+        }
+        return graph;
+    }
+
+    /**
+     * Appends Elias-gamma codes to a growing long[]
+     */
+    private static class BitWriter {
+        private long[] words;
+        private long position;
+
+        BitWriter(int initialWords) {
+            words = new long[initialWords + 2];
+        }
+
+        // x >= 1
+        void writeGamma(long x) {
+            int length = 64 - Long.numberOfLeadingZeros(x);
+            position += length - 1; // Zero prefix, already zero in the array
+            writeBits(x, length);
+        }
+
+        // Lowest `length` bits of value, most significant first
+        private void writeBits(long value, int length) {
+            ensure(position + length);
+            int i = (int) (position >>> 6);
+            int used = (int) position & 63;
+            int free = 64 - used;
+            if (length <= free) {
+                words[i] |= value << (free - length);
+            } else {
+                words[i] |= value >>> (length - free);
+                words[i + 1] |= value << (64 - (length - free));
+            }
+            position += length;
+        }
+
+        private void ensure(long bitCount) {
+            // Keep two spare words so window() can always read one word past the end
+            int needed = (int) ((bitCount + 63) >>> 6) + 2;
+            if (needed > words.length) {
+                words = Arrays.copyOf(words, Math.max(needed, words.length + (words.length >> 1)));
+            }
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(words, (int) ((position + 63) >>> 6) + 2);
+        }
+    }
+}
@@ -0,0 +1,634 @@
+package org.algoyog.algos.ds.graph;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Contraction Hierarchies for repeated shortest path queries on a static WeightedGraph
+ *
+ * Preprocessing contracts vertices from least to most important. Contracting v removes it from
+ * the graph and adds a shortcut u -> w for every path u -> v -> w that is the only shortest path
+ * between u and w (checked with a bounded "witness" Dijkstra that avoids v). Importance is the
+ * edge difference: shortcuts added minus edges removed, plus the number of already contracted
+ * neighbors so that contraction spreads evenly over the graph.
+ *
+ * Vertices are contracted in rounds. Each round picks an independent set of vertices whose
+ * priority is a local minimum, computes their shortcuts in parallel and then applies them.
+ *
+ * A query runs two Dijkstra searches that only move upward in the contraction order: forward
+ * from the source over the upward graph and backward from the target over the downward graph.
+ * The shortest path distance is the best meeting point of the two searches.
+ *
+ * Preprocessing Time: O(V * witness search) in practice, parallel within each round
+ * Query Time: a few hundred settled vertices on road-like graphs instead of O((V + E) log V)
+ * Space Complexity: O(V + E + shortcuts)
+ */
+public class ContractionHierarchy {
+    private static final int INF = Integer.MAX_VALUE;
+    private static final int MAGIC = 0x43484731; // "CHG1"
+
+    // A witness search gives up after settling this many vertices and the shortcut is kept
+    private static final int WITNESS_SETTLE_LIMIT = 500;
+
+    private final int n;
+    private final int[] rank;
+
+    // Upward graph: edges u -> v with rank[v] > rank[u], scanned by the forward search
+    private final int[] upOffsets;
+    private final int[] upTargets;
+    private final int[] upWeights;
+
+    // Downward graph stored reversed: at v, the edges u -> v with rank[u] > rank[v],
+    // scanned by the backward search
+    private final int[] downOffsets;
+    private final int[] downTargets;
+    private final int[] downWeights;
+
+    private final ThreadLocal<Query> queries = ThreadLocal.withInitial(this::newQuery);
+
+    private ContractionHierarchy(int n, int[] rank,
+                                 int[] upOffsets, int[] upTargets, int[] upWeights,
+                                 int[] downOffsets, int[] downTargets, int[] downWeights) {
+        this.n = n;
+        this.rank = rank;
+        this.upOffsets = upOffsets;
+        this.upTargets = upTargets;
+        this.upWeights = upWeights;
+        this.downOffsets = downOffsets;
+        this.downTargets = downTargets;
+        this.downWeights = downWeights;
+    }
+
+    /**
+     * Build the hierarchy for a directed graph with non-negative weights
+     * Use addUndirectedEdge on the input graph for road networks without one-way streets
+     */
+    public static ContractionHierarchy build(GraphAlgorithms.WeightedGraph graph) {
+        return new Contractor(graph).contract();
+    }
+
+    /**
+     * Shortest path distance from source to target, Integer.MAX_VALUE if unreachable
+     * Longer distances saturate at Integer.MAX_VALUE - 1 like the shortcut weights do.
+     * Safe to call from several threads; every thread reuses its own query buffers
+     */
+    public int distance(int source, int target) {
+        return queries.get().distance(source, target);
+    }
+
+    /**
+     * Create a query object with its own search buffers
+     * A single Query is not thread-safe but can be reused for any number of queries
+     */
+    public Query newQuery() {
+        return new Query();
+    }
+
+    public int getVertexCount() {
+        return n;
+    }
+
+    // Position of v in the contraction order (0 = contracted first)
+    public int getRank(int v) {
+        return rank[v];
+    }
+
+    // Number of edges in the upward and downward search graphs, shortcuts included
+    public int getSearchEdgeCount() {
+        return upTargets.length + downTargets.length;
+    }
+
+    /**
+     * Bidirectional upward Dijkstra with reusable buffers
+     * Only the entries touched by the previous query are reset, so a query costs
+     * time proportional to the search space rather than to V.
+     */
+    public final class Query {
+        private final int[] distForward = new int[n];
+        private final int[] distBackward = new int[n];
+        private final IntMinHeap forward = new IntMinHeap(64);
+        private final IntMinHeap backward = new IntMinHeap(64);
+        private int[] touched = new int[64];
+        private int touchedSize;
+
+        private Query() {
+            Arrays.fill(distForward, INF);
+            Arrays.fill(distBackward, INF);
+        }
+
+        public int distance(int source, int target) {
+            if (source == target) return 0;
+            reset();
+
+            distForward[source] = 0;
+            distBackward[target] = 0;
+            touch(source);
+            touch(target);
+            forward.push(0, source);
+            backward.push(0, target);
+
+            int best = INF;
+            boolean forwardTurn = true;
+
+            // A direction may stop once its smallest key can no longer improve the best meeting point
+            while (true) {
+                boolean canForward = !forward.isEmpty() && forward.peekKey() < best;
+                boolean canBackward = !backward.isEmpty() && backward.peekKey() < best;
+                if (!canForward && !canBackward) break;
+
+                if (canForward && (forwardTurn || !canBackward)) {
+                    best = settle(forward, distForward, distBackward, upOffsets, upTargets, upWeights, best);
+                } else {
+                    best = settle(backward, distBackward, distForward, downOffsets, downTargets, downWeights, best);
+                }
+                forwardTurn = !forwardTurn;
+            }
+
+            return best;
+        }
+
+        private int settle(IntMinHeap heap, int[] dist, int[] otherDist,
+                           int[] offsets, int[] targets, int[] weights, int best) {
+            int d = heap.peekKey();
+            int u = heap.peekValue();
+            heap.pop();
+
+            // Skip stale heap entries
+            if (d > dist[u]) return best;
+
+            if (otherDist[u] != INF) {
+                best = Math.min(best, addSaturated(d, otherDist[u]));
+            }
+
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int v = targets[e];
+                int nd = addSaturated(d, weights[e]);
+                if (nd < dist[v]) {
+                    if (dist[v] == INF) touch(v);
+                    dist[v] = nd;
+                    heap.push(nd, v);
+                }
+            }
+            return best;
+        }
+
+        private void touch(int v) {
+            if (touchedSize == touched.length) {
+                touched = Arrays.copyOf(touched, touchedSize << 1);
+            }
+            touched[touchedSize++] = v;
+        }
+
+        private void reset() {
+            for (int i = 0; i < touchedSize; i++) {
+                distForward[touched[i]] = INF;
+                distBackward[touched[i]] = INF;
+            }
+            touchedSize = 0;
+            forward.clear();
+            backward.clear();
+        }
+    }
+
+    /**
+     * Write the contracted graph in a compact binary format
+     * The arrays are copied in bulk, so reloading is limited by I/O rather than by parsing.
+     */
+    public void writeTo(WritableByteChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC).putInt(n).putInt(upTargets.length).putInt(downTargets.length).flip();
+        writeFully(channel, header);
+
+        for (int[] array : new int[][]{rank, upOffsets, upTargets, upWeights, downOffsets, downTargets, downWeights}) {
+            writeInts(channel, array);
+        }
+    }
+
+    public static ContractionHierarchy readFrom(ReadableByteChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN);
+        readFully(channel, header);
+        header.flip();
+        if (header.getInt() != MAGIC) {
+            throw new IOException("Not a contraction hierarchy file");
+        }
+        int n = header.getInt();
+        int upCount = header.getInt();
+        int downCount = header.getInt();
+        if (n < 0 || n == Integer.MAX_VALUE || upCount < 0 || downCount < 0) {
+            throw new IOException("Corrupt contraction hierarchy header: " + n + " vertices, "
+                    + upCount + " up edges, " + downCount + " down edges");
+        }
+
+        int[] rank = readInts(channel, n);
+        int[] upOffsets = readInts(channel, n + 1);
+        int[] upTargets = readInts(channel, upCount);
+        int[] upWeights = readInts(channel, upCount);
+        int[] downOffsets = readInts(channel, n + 1);
+        int[] downTargets = readInts(channel, downCount);
+        int[] downWeights = readInts(channel, downCount);
+
+        return new ContractionHierarchy(n, rank, upOffsets, upTargets, upWeights,
+                downOffsets, downTargets, downWeights);
+    }
+
+    public void save(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            writeTo(channel);
+        }
+    }
+
+    public static ContractionHierarchy load(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return readFrom(channel);
+        }
+    }
+
+    private static final int IO_CHUNK = 1 << 16;
+
+    private static void writeInts(WritableByteChannel channel, int[] array) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(IO_CHUNK).order(ByteOrder.LITTLE_ENDIAN);
+        IntBuffer ints = buffer.asIntBuffer();
+        for (int from = 0; from < array.length; from += ints.capacity()) {
+            int len = Math.min(ints.capacity(), array.length - from);
+            ints.clear();
+            ints.put(array, from, len);
+            buffer.clear().limit(len * Integer.BYTES);
+            writeFully(channel, buffer);
+        }
+    }
+
+    // The array grows with the data actually read, so a corrupt count ends in EOFException, not OOM
+    private static int[] readInts(ReadableByteChannel channel, int count) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(IO_CHUNK).order(ByteOrder.LITTLE_ENDIAN);
+        IntBuffer ints = buffer.asIntBuffer();
+        int[] array = new int[Math.min(count, ints.capacity())];
+        for (int from = 0; from < count; from += ints.capacity()) {
+            int len = Math.min(ints.capacity(), count - from);
+            if (from + len > array.length) {
+                array = Arrays.copyOf(array, (int) Math.min(count, Math.max(from + len, (long) array.length << 1)));
+            }
+            buffer.clear().limit(len * Integer.BYTES);
+            readFully(channel, buffer);
+            ints.clear();
+            ints.get(array, from, len);
+        }
+        return array;
+    }
+
+    private static void writeFully(WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static void readFully(ReadableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("Truncated contraction hierarchy file");
+            }
+        }
+    }
+
+    private static int addSaturated(int a, int b) {
+        long sum = (long) a + b;
+        return sum >= INF ? INF - 1 : (int) sum;
+    }
+
+    /**
+     * Preprocessing state: a mutable adjacency structure (out-edges and in-edges per vertex)
+     * from which contracted vertices are removed as shortcuts are added.
+     */
+    private static class Contractor {
+        private final int n;
+        private final int[][] outTo, outW, inTo, inW;
+        private final int[] outSize, inSize;
+
+        private final int[] priority;
+        private final int[] contractedNeighbors;
+        private final int[] rank;
+        private final boolean[] inCurrentSet;
+
+        // Edges recorded at contraction time; they all lead to vertices contracted later
+        private final int[][] upTo, upW, downTo, downW;
+
+        private final ThreadLocal<WitnessSearch> searches;
+
+        Contractor(GraphAlgorithms.WeightedGraph graph) {
+            n = graph.getVertexCount();
+            outTo = new int[n][];
+            outW = new int[n][];
+            inTo = new int[n][];
+            inW = new int[n][];
+            outSize = new int[n];
+            inSize = new int[n];
+            priority = new int[n];
+            contractedNeighbors = new int[n];
+            rank = new int[n];
+            inCurrentSet = new boolean[n];
+            upTo = new int[n][];
+            upW = new int[n][];
+            downTo = new int[n][];
+            downW = new int[n][];
+            searches = ThreadLocal.withInitial(WitnessSearch::new);
+
+            for (int v = 0; v < n; v++) {
+                outTo[v] = new int[4];
+                outW[v] = new int[4];
+                inTo[v] = new int[4];
+                inW[v] = new int[4];
+            }
+
+            for (int u = 0; u < n; u++) {
+                for (int[] edge : graph.getAdjList()[u]) {
+                    if (edge[1] < 0) {
+                        throw new IllegalArgumentException("Contraction hierarchies require non-negative weights");
+                    }
+                    if (edge[0] != u) {
+                        addOrDecrease(u, edge[0], edge[1]);
+                    }
+                }
+            }
+        }
+
+        ContractionHierarchy contract() {
+            Arrays.fill(rank, -1);
+            IntStream.range(0, n).parallel().forEach(v -> priority[v] = computePriority(v));
+
+            int[] remaining = IntStream.range(0, n).toArray();
+            int remainingCount = n;
+            int nextRank = 0;
+            boolean[] dirty = new boolean[n];
+            int[] dirtyList = new int[n];
+
+            while (remainingCount > 0) {
+                // The vertex with the globally smallest (priority, id) is always a local minimum
+                int[] set = Arrays.stream(remaining, 0, remainingCount).parallel()
+                        .filter(this::isLocalMinimum).toArray();
+                for (int v : set) inCurrentSet[v] = true;
+
+                // Shortcut searches only read the graph, so the whole set is processed in parallel
+                int[][] shortcuts = new int[set.length][];
+                IntStream.range(0, set.length).parallel().forEach(i -> {
+                    WitnessSearch ws = searches.get();
+                    int count = findShortcuts(set[i], ws);
+                    shortcuts[i] = Arrays.copyOf(ws.found, 3 * count);
+                });
+
+                int dirtyCount = 0;
+                for (int i = 0; i < set.length; i++) {
+                    int v = set[i];
+                    rank[v] = nextRank++;
+                    dirtyCount = removeVertex(v, dirty, dirtyList, dirtyCount);
+
+                    int[] found = shortcuts[i];
+                    for (int j = 0; j < found.length; j += 3) {
+                        addOrDecrease(found[j], found[j + 1], found[j + 2]);
+                    }
+                }
+                for (int v : set) inCurrentSet[v] = false;
+
+                // Lazy update: only neighbors of contracted vertices change priority
+                int[] toUpdate = Arrays.copyOf(dirtyList, dirtyCount);
+                for (int v : toUpdate) dirty[v] = false;
+                IntStream.range(0, toUpdate.length).parallel()
+                        .forEach(i -> priority[toUpdate[i]] = computePriority(toUpdate[i]));
+
+                int kept = 0;
+                for (int i = 0; i < remainingCount; i++) {
+                    if (rank[remaining[i]] < 0) remaining[kept++] = remaining[i];
+                }
+                remainingCount = kept;
+            }
+
+            return buildSearchGraphs();
+        }
+
+        private boolean isLocalMinimum(int v) {
+            for (int i = 0; i < outSize[v]; i++) {
+                if (!precedes(v, outTo[v][i])) return false;
+            }
+            for (int i = 0; i < inSize[v]; i++) {
+                if (!precedes(v, inTo[v][i])) return false;
+            }
+            return true;
+        }
+
+        private boolean precedes(int a, int b) {
+            return priority[a] < priority[b] || (priority[a] == priority[b] && a < b);
+        }
+
+        private int computePriority(int v) {
+            int shortcuts = findShortcuts(v, searches.get());
+            return shortcuts - (inSize[v] + outSize[v]) + contractedNeighbors[v];
+        }
+
+        /**
+         * Collect into ws.found the (u, w, weight) triples of shortcuts needed when v is contracted
+         * Returns the number of shortcuts
+         */
+        private int findShortcuts(int v, WitnessSearch ws) {
+            ws.foundSize = 0;
+            int[] to = outTo[v];
+            int[] tw = outW[v];
+            int outDegree = outSize[v];
+            if (outDegree == 0) return 0;
+
+            int maxOut = 0;
+            for (int j = 0; j < outDegree; j++) maxOut = Math.max(maxOut, tw[j]);
+
+            for (int i = 0; i < inSize[v]; i++) {
+                int u = inTo[v][i];
+                int wu = inW[v][i];
+                ws.search(u, v, addSaturated(wu, maxOut));
+
+                for (int j = 0; j < outDegree; j++) {
+                    int w = to[j];
+                    if (w == u) continue;
+                    int via = addSaturated(wu, tw[j]);
+                    if (ws.dist[w] > via) {
+                        ws.add(u, w, via);
+                    }
+                }
+                ws.reset();
+            }
+            return ws.foundSize / 3;
+        }
+
+        /**
+         * Record v's remaining edges as search edges and unlink v from its neighbors
+         */
+        private int removeVertex(int v, boolean[] dirty, int[] dirtyList, int dirtyCount) {
+            upTo[v] = Arrays.copyOf(outTo[v], outSize[v]);
+            upW[v] = Arrays.copyOf(outW[v], outSize[v]);
+            downTo[v] = Arrays.copyOf(inTo[v], inSize[v]);
+            downW[v] = Arrays.copyOf(inW[v], inSize[v]);
+
+            for (int i = 0; i < outSize[v]; i++) {
+                int w = outTo[v][i];
+                removeFrom(inTo[w], inW[w], inSize, w, v);
+                contractedNeighbors[w]++;
+                if (!dirty[w]) {
+                    dirty[w] = true;
+                    dirtyList[dirtyCount++] = w;
+                }
+            }
+            for (int i = 0; i < inSize[v]; i++) {
+                int u = inTo[v][i];
+                removeFrom(outTo[u], outW[u], outSize, u, v);
+                contractedNeighbors[u]++;
+                if (!dirty[u]) {
+                    dirty[u] = true;
+                    dirtyList[dirtyCount++] = u;
+                }
+            }
+
+            outTo[v] = outW[v] = inTo[v] = inW[v] = null;
+            outSize[v] = inSize[v] = 0;
+            return dirtyCount;
+        }
+
+        // Swap-remove target from the edge list of vertex owner
+        private static void removeFrom(int[] targets, int[] weights, int[] sizes, int owner, int target) {
+            int size = sizes[owner];
+            for (int i = 0; i < size; i++) {
+                if (targets[i] == target) {
+                    targets[i] = targets[size - 1];
+                    weights[i] = weights[size - 1];
+                    sizes[owner] = size - 1;
+                    return;
+                }
+            }
+        }
+
+        // Add edge u -> v, or lower its weight if it already exists
+        private void addOrDecrease(int u, int v, int w) {
+            for (int i = 0; i < outSize[u]; i++) {
+                if (outTo[u][i] == v) {
+                    if (w < outW[u][i]) {
+                        outW[u][i] = w;
+                        for (int j = 0; j < inSize[v]; j++) {
+                            if (inTo[v][j] == u) {
+                                inW[v][j] = w;
+                                break;
+                            }
+                        }
+                    }
+                    return;
+                }
+            }
+
+            if (outSize[u] == outTo[u].length) {
+                outTo[u] = Arrays.copyOf(outTo[u], outSize[u] << 1);
+                outW[u] = Arrays.copyOf(outW[u], outSize[u] << 1);
+            }
+            outTo[u][outSize[u]] = v;
+            outW[u][outSize[u]++] = w;
+
+            if (inSize[v] == inTo[v].length) {
+                inTo[v] = Arrays.copyOf(inTo[v], inSize[v] << 1);
+                inW[v] = Arrays.copyOf(inW[v], inSize[v] << 1);
+            }
+            inTo[v][inSize[v]] = u;
+            inW[v][inSize[v]++] = w;
+        }
+
+        private ContractionHierarchy buildSearchGraphs() {
+            int[] upOffsets = new int[n + 1];
+            int[] downOffsets = new int[n + 1];
+            for (int v = 0; v < n; v++) {
+                upOffsets[v + 1] = upOffsets[v] + upTo[v].length;
+                downOffsets[v + 1] = downOffsets[v] + downTo[v].length;
+            }
+
+            int[] upTargets = new int[upOffsets[n]];
+            int[] upWeights = new int[upOffsets[n]];
+            int[] downTargets = new int[downOffsets[n]];
+            int[] downWeights = new int[downOffsets[n]];
+            for (int v = 0; v < n; v++) {
+                System.arraycopy(upTo[v], 0, upTargets, upOffsets[v], upTo[v].length);
+                System.arraycopy(upW[v], 0, upWeights, upOffsets[v], upW[v].length);
+                System.arraycopy(downTo[v], 0, downTargets, downOffsets[v], downTo[v].length);
+                System.arraycopy(downW[v], 0, downWeights, downOffsets[v], downW[v].length);
+            }
+
+            return new ContractionHierarchy(n, rank, upOffsets, upTargets, upWeights,
+                    downOffsets, downTargets, downWeights);
+        }
+
+        /**
+         * Bounded Dijkstra from u that avoids the vertex being contracted
+         * (and, during a round, every vertex of the current independent set)
+         */
+        private class WitnessSearch {
+            final int[] dist = new int[n];
+            final IntMinHeap heap = new IntMinHeap(64);
+            int[] touched = new int[64];
+            int touchedSize;
+            int[] found = new int[48];
+            int foundSize;
+
+            WitnessSearch() {
+                Arrays.fill(dist, INF);
+            }
+
+            void search(int source, int avoid, int limit) {
+                dist[source] = 0;
+                touch(source);
+                heap.push(0, source);
+                int settled = 0;
+
+                while (!heap.isEmpty()) {
+                    int d = heap.peekKey();
+                    int x = heap.peekValue();
+                    heap.pop();
+                    if (d > dist[x]) continue;
+                    if (d > limit || ++settled > WITNESS_SETTLE_LIMIT) break;
+
+                    for (int i = 0; i < outSize[x]; i++) {
+                        int y = outTo[x][i];
+                        if (y == avoid || inCurrentSet[y]) continue;
+                        int nd = addSaturated(d, outW[x][i]);
+                        if (nd < dist[y]) {
+                            if (dist[y] == INF) touch(y);
+                            dist[y] = nd;
+                            heap.push(nd, y);
+                        }
+                    }
+                }
+                heap.clear();
+            }
+
+            void touch(int v) {
+                if (touchedSize == touched.length) {
+                    touched = Arrays.copyOf(touched, touchedSize << 1);
+                }
+                touched[touchedSize++] = v;
+            }
+
+            void reset() {
+                for (int i = 0; i < touchedSize; i++) dist[touched[i]] = INF;
+                touchedSize = 0;
+            }
+
+            void add(int u, int w, int weight) {
+                if (foundSize + 3 > found.length) {
+                    found = Arrays.copyOf(found, found.length << 1);
+                }
+                found[foundSize++] = u;
+                found[foundSize++] = w;
+                found[foundSize++] = weight;
+            }
+        }
+    }
+}
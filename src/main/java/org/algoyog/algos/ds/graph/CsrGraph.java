@@ -0,0 +1,157 @@
+package org.algoyog.algos.ds.graph;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compressed Sparse Row (CSR) graph
+ * The neighbors of vertex v are targets[offsets[v] .. offsets[v + 1] - 1], so the whole graph
+ * lives in two (or three, with weights) flat int arrays instead of one list object per vertex.
+ * Scans are sequential memory reads, nothing is boxed, and read-only access is thread-safe,
+ * which is what the parallel algorithms in this package iterate over.
+ *
+ * Space Complexity: O(V + E) ints
+ */
+public class CsrGraph {
+    private final int V;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] weights; // null for unweighted graphs
+
+    public CsrGraph(int[] offsets, int[] targets, int[] weights) {
+        this.V = offsets.length - 1;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+    }
+
+    /**
+     * Convert an adjacency list graph, keeping the neighbor order of every vertex
+     * Time Complexity: O(V + E)
+     */
+    public static CsrGraph of(GraphAlgorithms.Graph graph) {
+        List<Integer>[] adj = graph.getAdjList();
+        int V = graph.getVertexCount();
+        int[] offsets = new int[V + 1];
+        for (int v = 0; v < V; v++) {
+            offsets[v + 1] = offsets[v] + adj[v].size();
+        }
+
+        int[] targets = new int[offsets[V]];
+        for (int v = 0; v < V; v++) {
+            int i = offsets[v];
+            for (int neighbor : adj[v]) {
+                targets[i++] = neighbor;
+            }
+        }
+        return new CsrGraph(offsets, targets, null);
+    }
+
+    /**
+     * Convert a weighted adjacency list graph, keeping the neighbor order of every vertex
+     * Time Complexity: O(V + E)
+     */
+    public static CsrGraph of(GraphAlgorithms.WeightedGraph graph) {
+        List<int[]>[] adj = graph.getAdjList();
+        int V = graph.getVertexCount();
+        int[] offsets = new int[V + 1];
+        for (int v = 0; v < V; v++) {
+            offsets[v + 1] = offsets[v] + adj[v].size();
+        }
+
+        int[] targets = new int[offsets[V]];
+        int[] weights = new int[offsets[V]];
+        for (int v = 0; v < V; v++) {
+            int i = offsets[v];
+            for (int[] edge : adj[v]) {
+                targets[i] = edge[0];
+                weights[i++] = edge[1];
+            }
+        }
+        return new CsrGraph(offsets, targets, weights);
+    }
+
+    public int getVertexCount() {
+        return V;
+    }
+
+    public int getEdgeCount() {
+        return targets.length;
+    }
+
+    public int degree(int v) {
+        return offsets[v + 1] - offsets[v];
+    }
+
+    public boolean isWeighted() {
+        return weights != null;
+    }
+
+    // The arrays are shared, not copied; callers must not modify them
+    public int[] getOffsets() {
+        return offsets;
+    }
+
+    public int[] getTargets() {
+        return targets;
+    }
+
+    public int[] getWeights() {
+        return weights;
+    }
+
+    /**
+     * Graph with every edge reversed (in-edges become out-edges)
+     * Within each vertex the reversed edges are ordered by source vertex.
+     * Time Complexity: O(V + E)
+     */
+    public CsrGraph transpose() {
+        int[] tOffsets = new int[V + 1];
+        for (int target : targets) {
+            tOffsets[target + 1]++;
+        }
+        for (int v = 0; v < V; v++) {
+            tOffsets[v + 1] += tOffsets[v];
+        }
+
+        int[] cursor = Arrays.copyOf(tOffsets, V);
+        int[] tTargets = new int[targets.length];
+        int[] tWeights = weights == null ? null : new int[targets.length];
+        for (int u = 0; u < V; u++) {
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int slot = cursor[targets[e]]++;
+                tTargets[slot] = u;
+                if (tWeights != null) tWeights[slot] = weights[e];
+            }
+        }
+        return new CsrGraph(tOffsets, tTargets, tWeights);
+    }
+
+    /**
+     * Convert back to an adjacency list Graph (weights are dropped)
+     * Time Complexity: O(V + E)
+     */
+    public GraphAlgorithms.Graph toGraph() {
+        GraphAlgorithms.Graph graph = new GraphAlgorithms.Graph(V);
+        for (int u = 0; u < V; u++) {
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                graph.addEdge(u, targets[e]);
+            }
+        }
+        return graph;
+    }
+
+    /**
+     * Convert back to a WeightedGraph; an unweighted graph gets weight 1 on every edge
+     * Time Complexity: O(V + E)
+     */
+    public GraphAlgorithms.WeightedGraph toWeightedGraph() {
+        GraphAlgorithms.WeightedGraph graph = new GraphAlgorithms.WeightedGraph(V);
+        for (int u = 0; u < V; u++) {
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                graph.addEdge(u, targets[e], weights == null ? 1 : weights[e]);
+            }
+        }
+        return graph;
+    }
+}
@@ -0,0 +1,356 @@
+package org.algoyog.algos.ds.graph;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Single source shortest paths kept up to date while edges are inserted and re-weighted
+ *
+ * The structure is seeded with one Dijkstra search from the source over a private copy of the
+ * graph, recording the shortest path tree (parent of every reached vertex). After that:
+ *
+ * 1. insertEdge / a weight decrease of u -> v can only shorten paths through v. If it improves
+ *    v, a Dijkstra search starts at v alone and only follows edges that improve their target,
+ *    so the work is proportional to the region whose distance actually dropped.
+ * 2. A weight increase is the fallback path. If u -> v is not a tree edge nothing changes.
+ *    Otherwise only the tree subtree below v can get longer: its vertices are re-seeded from
+ *    their in-edges leaving the subtree and a Dijkstra search restricted to the subtree settles
+ *    them again.
+ *
+ * Both searches compute the new distances aside and publish them together at the end.
+ * Readers never lock. Distances are published through an AtomicIntegerArray and a sequence
+ * number that is odd while an update is being applied (a seqlock): distance(v) is a single
+ * volatile read, getDistances() copies the array and retries until no update overlapped.
+ * Updates are serialized among themselves. Weights must be non-negative.
+ *
+ * Time Complexity: O((V + E) log V) to seed; per update O(A log A) over the affected region A
+ * Space Complexity: O(V + E), edges are stored in both directions
+ */
+public class DynamicShortestPaths {
+    private static final int INF = Integer.MAX_VALUE;
+
+    private final int n;
+    private final int source;
+
+    // Out- and in-edges per vertex as growable parallel arrays
+    private final int[][] outTargets;
+    private final int[][] outWeights;
+    private final int[] outDegree;
+    private final int[][] inSources;
+    private final int[][] inWeights;
+    private final int[] inDegree;
+
+    // Published distances; dist[v] == INF when v is unreachable
+    private final AtomicIntegerArray dist;
+    private final int[] parent;
+    private volatile long sequence;
+
+    // Work state reused by every update
+    private final IntMinHeap heap;
+    private final int[] tentative;
+    private final int[] mark;
+    private final int[] region;
+    private int stamp;
+    private int lastAffected;
+
+    /**
+     * Copy the graph and run the seeding Dijkstra search
+     * Time Complexity: O((V + E) log V)
+     *
+     * @throws IllegalArgumentException if the source is out of range or a weight is negative
+     */
+    public DynamicShortestPaths(GraphAlgorithms.WeightedGraph graph, int source) {
+        this.n = graph.getVertexCount();
+        if (source < 0 || source >= n) {
+            throw new IllegalArgumentException("Source " + source + " out of range");
+        }
+        this.source = source;
+        outTargets = new int[n][];
+        outWeights = new int[n][];
+        outDegree = new int[n];
+        inSources = new int[n][];
+        inWeights = new int[n][];
+        inDegree = new int[n];
+        for (int v = 0; v < n; v++) {
+            int size = Math.max(2, graph.getAdjList()[v].size());
+            outTargets[v] = new int[size];
+            outWeights[v] = new int[size];
+            inSources[v] = new int[2];
+            inWeights[v] = new int[2];
+        }
+        for (int u = 0; u < n; u++) {
+            for (int[] edge : graph.getAdjList()[u]) {
+                checkEdge(u, edge[0], edge[1]);
+                addArc(u, edge[0], edge[1]);
+            }
+        }
+
+        dist = new AtomicIntegerArray(n);
+        parent = new int[n];
+        heap = new IntMinHeap(n);
+        tentative = new int[n];
+        mark = new int[n];
+        region = new int[n];
+        seed();
+    }
+
+    public int getVertexCount() {
+        return n;
+    }
+
+    public int getSource() {
+        return source;
+    }
+
+    /**
+     * Current distance from the source to v, Integer.MAX_VALUE if unreachable
+     * Lock-free; during an update it returns either the old or the new distance of v. Reads of
+     * different vertices may straddle an update; only getDistances() is consistent.
+     */
+    public int distance(int v) {
+        return dist.get(v);
+    }
+
+    /**
+     * Consistent copy of all distances as of one point between updates
+     * Retries while an update overlaps the copy; never blocks an update.
+     * Time Complexity: O(V) per attempt
+     */
+    public int[] getDistances() {
+        int[] copy = new int[n];
+        while (true) {
+            long before = sequence;
+            if ((before & 1) == 0) {
+                for (int v = 0; v < n; v++) {
+                    copy[v] = dist.get(v);
+                }
+                if (sequence == before) return copy;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    // Number of completed updates times two; odd while an update is being published
+    public long getSequence() {
+        return sequence;
+    }
+
+    // Predecessor of v on its current shortest path, -1 for the source and unreachable vertices
+    public synchronized int getParent(int v) {
+        return parent[v];
+    }
+
+    // Vertices whose distance was recomputed by the last update
+    public synchronized int getLastAffected() {
+        return lastAffected;
+    }
+
+    /**
+     * Add the edge u -> v with weight w (parallel edges are allowed)
+     * Time Complexity: O(A log A) for the A vertices whose distance drops
+     */
+    public synchronized void insertEdge(int u, int v, int w) {
+        checkEdge(u, v, w);
+        addArc(u, v, w);
+        lastAffected = 0;
+        relaxFrom(u, v, w);
+    }
+
+    /**
+     * Give every edge u -> v the weight w
+     * A decrease propagates like an insertion; an increase of a shortest path tree edge
+     * repairs the subtree below v.
+     *
+     * @throws IllegalArgumentException if there is no edge u -> v or w is negative
+     */
+    public synchronized void setWeight(int u, int v, int w) {
+        checkEdge(u, v, w);
+        int old = INF; // Lightest of the parallel edges, the one paths can use
+        boolean found = false;
+        for (int i = 0; i < outDegree[u]; i++) {
+            if (outTargets[u][i] == v) {
+                old = Math.min(old, outWeights[u][i]);
+                outWeights[u][i] = w;
+                found = true;
+            }
+        }
+        if (!found) {
+            throw new IllegalArgumentException("No edge " + u + " -> " + v);
+        }
+        for (int i = 0; i < inDegree[v]; i++) {
+            if (inSources[v][i] == u) inWeights[v][i] = w;
+        }
+
+        lastAffected = 0;
+        if (w < old) {
+            relaxFrom(u, v, w);
+        } else if (w > old && parent[v] == u) {
+            repairSubtree(v);
+        }
+    }
+
+    private void checkEdge(int u, int v, int w) {
+        if (u < 0 || u >= n || v < 0 || v >= n) {
+            throw new IllegalArgumentException("Edge (" + u + ", " + v + ") out of range");
+        }
+        if (w < 0) {
+            throw new IllegalArgumentException("Negative weight " + w + " on edge (" + u + ", " + v + ")");
+        }
+    }
+
+    private void addArc(int u, int v, int w) {
+        if (outDegree[u] == outTargets[u].length) {
+            outTargets[u] = Arrays.copyOf(outTargets[u], outDegree[u] << 1);
+            outWeights[u] = Arrays.copyOf(outWeights[u], outDegree[u] << 1);
+        }
+        outTargets[u][outDegree[u]] = v;
+        outWeights[u][outDegree[u]++] = w;
+        if (inDegree[v] == inSources[v].length) {
+            inSources[v] = Arrays.copyOf(inSources[v], inDegree[v] << 1);
+            inWeights[v] = Arrays.copyOf(inWeights[v], inDegree[v] << 1);
+        }
+        inSources[v][inDegree[v]] = u;
+        inWeights[v][inDegree[v]++] = w;
+    }
+
+    // Full Dijkstra from the source; the published array is still empty so no seqlock is needed
+    private void seed() {
+        Arrays.fill(parent, -1);
+        for (int v = 0; v < n; v++) {
+            dist.lazySet(v, INF);
+        }
+        dist.lazySet(source, 0);
+        heap.clear();
+        heap.push(0, source);
+        while (!heap.isEmpty()) {
+            int d = heap.peekKey();
+            int x = heap.peekValue();
+            heap.pop();
+            if (d > dist.get(x)) continue;
+            for (int i = 0; i < outDegree[x]; i++) {
+                int y = outTargets[x][i];
+                long candidate = (long) d + outWeights[x][i];
+                if (candidate < dist.get(y)) {
+                    dist.lazySet(y, (int) candidate);
+                    parent[y] = x;
+                    heap.push((int) candidate, y);
+                }
+            }
+        }
+        sequence = 0;
+    }
+
+    /**
+     * Propagate an improvement through u -> v with weight w
+     * The vertices whose distance drops are marked with a new stamp; their distances are kept
+     * in tentative[] during the search and published together at the end.
+     */
+    private void relaxFrom(int u, int v, int w) {
+        int du = dist.get(u);
+        if (du == INF || (long) du + w >= dist.get(v)) return;
+
+        stamp++;
+        int size = 0;
+        mark[v] = stamp;
+        region[size++] = v;
+        tentative[v] = du + w;
+        parent[v] = u;
+        heap.clear();
+        heap.push(du + w, v);
+        while (!heap.isEmpty()) {
+            int d = heap.peekKey();
+            int x = heap.peekValue();
+            heap.pop();
+            if (d > tentative[x]) continue;
+            for (int i = 0; i < outDegree[x]; i++) {
+                int y = outTargets[x][i];
+                long candidate = (long) d + outWeights[x][i];
+                int current = mark[y] == stamp ? tentative[y] : dist.get(y);
+                if (candidate < current) {
+                    if (mark[y] != stamp) {
+                        mark[y] = stamp;
+                        region[size++] = y;
+                    }
+                    tentative[y] = (int) candidate;
+                    parent[y] = x;
+                    heap.push((int) candidate, y);
+                }
+            }
+        }
+
+        sequence++;
+        for (int k = 0; k < size; k++) {
+            dist.lazySet(region[k], tentative[region[k]]);
+        }
+        sequence++;
+        lastAffected = size;
+    }
+
+    /**
+     * Recompute the shortest path tree subtree rooted at root after its parent edge got heavier
+     * Distances outside the subtree cannot change: their tree paths do not use the edge.
+     */
+    private void repairSubtree(int root) {
+        // Collect the subtree: children of x are the out-neighbors whose parent is x
+        stamp++;
+        int size = 0;
+        region[size++] = root;
+        mark[root] = stamp;
+        for (int k = 0; k < size; k++) {
+            int x = region[k];
+            for (int i = 0; i < outDegree[x]; i++) {
+                int y = outTargets[x][i];
+                if (parent[y] == x && mark[y] != stamp) {
+                    mark[y] = stamp;
+                    region[size++] = y;
+                }
+            }
+        }
+
+        // Seed every subtree vertex from its best in-edge that leaves the subtree
+        heap.clear();
+        for (int k = 0; k < size; k++) {
+            int x = region[k];
+            long best = INF;
+            int from = -1;
+            for (int i = 0; i < inDegree[x]; i++) {
+                int p = inSources[x][i];
+                int dp = dist.get(p);
+                if (mark[p] == stamp || dp == INF) continue;
+                long candidate = (long) dp + inWeights[x][i];
+                if (candidate < best) {
+                    best = candidate;
+                    from = p;
+                }
+            }
+            tentative[x] = (int) best;
+            parent[x] = from;
+            if (from >= 0) heap.push((int) best, x);
+        }
+
+        // Dijkstra restricted to the subtree
+        while (!heap.isEmpty()) {
+            int d = heap.peekKey();
+            int x = heap.peekValue();
+            heap.pop();
+            if (d > tentative[x]) continue;
+            for (int i = 0; i < outDegree[x]; i++) {
+                int y = outTargets[x][i];
+                if (mark[y] != stamp) continue;
+                long candidate = (long) d + outWeights[x][i];
+                if (candidate < tentative[y]) {
+                    tentative[y] = (int) candidate;
+                    parent[y] = x;
+                    heap.push((int) candidate, y);
+                }
+            }
+        }
+
+        sequence++;
+        for (int k = 0; k < size; k++) {
+            dist.lazySet(region[k], tentative[region[k]]);
+        }
+        sequence++;
+        lastAffected = size;
+    }
+}
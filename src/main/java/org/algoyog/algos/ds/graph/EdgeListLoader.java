@@ -0,0 +1,352 @@
+package org.algoyog.algos.ds.graph;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+/**
+ * Parallel edge-list loader building CsrGraph arrays straight from a memory-mapped file
+ * No line is turned into a String and no edge into an object: the file is split into chunks
+ * (text chunks end on a newline), every chunk is mapped on its own and parsed byte by byte in
+ * parallel, and the CSR arrays are filled in two passes over the chunks:
+ *
+ * 1. count: every edge increments the degree of its source (atomic counters)
+ * 2. scatter: prefix sums give the row offsets, then every edge claims the next free slot of
+ *    its source row and writes its target (and weight)
+ *
+ * Neighbor order inside a row depends on thread timing. Use csr.toGraph() or
+ * csr.toWeightedGraph() when an adjacency list graph is needed.
+ *
+ * Text format: one edge per line, "source target" or "source target weight", separated by
+ * spaces, tabs or commas. Empty lines are skipped, and so is everything after '#' or '%'.
+ * Binary format (little endian): int MAGIC, int flags (bit 0: weighted), int vertex count,
+ * long edge count, then per edge int source, int target and, if weighted, int weight.
+ */
+public class EdgeListLoader {
+    public static final int MAGIC = 0x45444745; // "EDGE"
+    private static final int HEADER_BYTES = 20;
+
+    // Largest single mapping; MappedByteBuffer is indexed by int
+    private static final long MAX_CHUNK_BYTES = 1L << 30;
+
+    public CsrGraph loadText(Path path) {
+        return loadText(path, -1);
+    }
+
+    /**
+     * Load a text edge list
+     * When vertexCount is negative it is taken as the largest vertex id + 1, which costs one
+     * extra parsing pass over the file.
+     * Time Complexity: O(file size / P + V)
+     * Space Complexity: O(V + E) for the result
+     *
+     * @throws IllegalArgumentException for malformed lines, with the byte offset of the line,
+     *                                  or if the vertex count does not fit in an int array
+     */
+    public CsrGraph loadText(Path path, int vertexCount) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long[] bounds = textChunks(channel);
+            int chunks = bounds.length - 1;
+            MappedByteBuffer[] buffers = new MappedByteBuffer[chunks];
+            for (int c = 0; c < chunks; c++) {
+                buffers[c] = channel.map(FileChannel.MapMode.READ_ONLY, bounds[c], bounds[c + 1] - bounds[c]);
+            }
+
+            // Pass 0 (only without a vertex count): largest id and the line shape
+            ChunkStats[] stats = new ChunkStats[chunks];
+            if (vertexCount < 0) {
+                IntStream.range(0, chunks).parallel().forEach(c -> {
+                    ChunkStats s = new ChunkStats();
+                    parseText(buffers[c], bounds[c], (u, v, w) -> s.maxId = Math.max(s.maxId, Math.max(u, v)), s);
+                    stats[c] = s;
+                });
+                int maxId = -1;
+                for (ChunkStats s : stats) maxId = Math.max(maxId, s.maxId);
+                vertexCount = maxId + 1;
+            }
+
+            // Pass 1: degrees
+            final int V = vertexCount;
+            // Negative only when the largest id is Integer.MAX_VALUE and the count wrapped around
+            if (V < 0 || V == Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Vertex count must be below " + Integer.MAX_VALUE);
+            }
+            AtomicIntegerArray degree = new AtomicIntegerArray(V + 1);
+            IntStream.range(0, chunks).parallel().forEach(c -> {
+                ChunkStats s = new ChunkStats();
+                parseText(buffers[c], bounds[c], (u, v, w) -> {
+                    checkVertex(u, V);
+                    checkVertex(v, V);
+                    degree.incrementAndGet(u + 1);
+                }, s);
+                stats[c] = s;
+            });
+
+            boolean plain = false;
+            boolean weighted = false;
+            for (ChunkStats s : stats) {
+                plain |= s.plainLines;
+                weighted |= s.weightedLines;
+            }
+            if (plain && weighted) {
+                throw new IllegalArgumentException("Edge list mixes weighted and unweighted lines");
+            }
+
+            // Pass 2: scatter into the rows
+            int[] offsets = prefixSums(degree, V);
+            AtomicIntegerArray cursor = new AtomicIntegerArray(offsets.length - 1);
+            for (int v = 0; v < V; v++) cursor.set(v, offsets[v]);
+            int[] targets = new int[offsets[V]];
+            int[] weights = weighted ? new int[offsets[V]] : null;
+            IntStream.range(0, chunks).parallel().forEach(c ->
+                    parseText(buffers[c], bounds[c], (u, v, w) -> {
+                        int slot = cursor.getAndIncrement(u);
+                        targets[slot] = v;
+                        if (weights != null) weights[slot] = w;
+                    }, new ChunkStats()));
+
+            return new CsrGraph(offsets, targets, weights);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Load the binary edge format written by writeBinary
+     * Records have a fixed size, so chunks are cut at record boundaries without scanning.
+     * Time Complexity: O(file size / P + V)
+     */
+    public CsrGraph loadBinary(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining() && channel.read(header, header.position()) > 0) {
+                // Fill the header
+            }
+            header.flip();
+            if (header.remaining() < HEADER_BYTES || header.getInt() != MAGIC) {
+                throw new IllegalArgumentException("Not a binary edge list: " + path);
+            }
+            boolean weighted = (header.getInt() & 1) != 0;
+            int V = header.getInt();
+            long edgeCount = header.getLong();
+            int recordBytes = weighted ? 12 : 8;
+            if (V < 0 || V == Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Vertex count " + V + " does not match any graph");
+            }
+            if (edgeCount < 0 || edgeCount > Integer.MAX_VALUE
+                    || channel.size() < HEADER_BYTES + edgeCount * recordBytes) {
+                throw new IllegalArgumentException("Edge count " + edgeCount + " does not match the file size");
+            }
+
+            long perChunk = Math.max(1, Math.min(MAX_CHUNK_BYTES / recordBytes,
+                    (edgeCount + 4L * parallelism() - 1) / (4L * parallelism())));
+            int chunks = (int) Math.max(1, (edgeCount + perChunk - 1) / perChunk);
+            MappedByteBuffer[] buffers = new MappedByteBuffer[chunks];
+            for (int c = 0; c < chunks; c++) {
+                long first = c * perChunk;
+                long count = Math.min(perChunk, edgeCount - first);
+                buffers[c] = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES + first * recordBytes, count * recordBytes);
+                buffers[c].order(ByteOrder.LITTLE_ENDIAN);
+            }
+
+            AtomicIntegerArray degree = new AtomicIntegerArray(V + 1);
+            IntStream.range(0, chunks).parallel().forEach(c -> {
+                MappedByteBuffer buffer = buffers[c];
+                for (int p = 0; p < buffer.limit(); p += recordBytes) {
+                    int u = buffer.getInt(p);
+                    checkVertex(u, V);
+                    checkVertex(buffer.getInt(p + 4), V);
+                    degree.incrementAndGet(u + 1);
+                }
+            });
+
+            int[] offsets = prefixSums(degree, V);
+            AtomicIntegerArray cursor = new AtomicIntegerArray(V);
+            for (int v = 0; v < V; v++) cursor.set(v, offsets[v]);
+            int[] targets = new int[offsets[V]];
+            int[] weights = weighted ? new int[offsets[V]] : null;
+            IntStream.range(0, chunks).parallel().forEach(c -> {
+                MappedByteBuffer buffer = buffers[c];
+                for (int p = 0; p < buffer.limit(); p += recordBytes) {
+                    int slot = cursor.getAndIncrement(buffer.getInt(p));
+                    targets[slot] = buffer.getInt(p + 4);
+                    if (weights != null) weights[slot] = buffer.getInt(p + 8);
+                }
+            });
+
+            return new CsrGraph(offsets, targets, weights);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Write a graph in the binary edge format (weighted if the graph has weights)
+     * Time Complexity: O(V + E)
+     */
+    public void writeBinary(CsrGraph graph, Path path) {
+        int V = graph.getVertexCount();
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int[] weights = graph.getWeights();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(MAGIC).putInt(weights != null ? 1 : 0).putInt(V).putLong(targets.length);
+            for (int u = 0; u < V; u++) {
+                for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                    if (buffer.remaining() < 12) drain(channel, buffer);
+                    buffer.putInt(u).putInt(targets[e]);
+                    if (weights != null) buffer.putInt(weights[e]);
+                }
+            }
+            drain(channel, buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) channel.write(buffer);
+        buffer.clear();
+    }
+
+    @FunctionalInterface
+    private interface EdgeSink {
+        void accept(int source, int target, int weight);
+    }
+
+    private static class ChunkStats {
+        int maxId = -1;
+        boolean plainLines;
+        boolean weightedLines;
+    }
+
+    /**
+     * Parse every line of one chunk; base is the file offset of the chunk (for error messages)
+     */
+    private static void parseText(MappedByteBuffer buffer, long base, EdgeSink sink, ChunkStats stats) {
+        int n = buffer.limit();
+        int[] fields = new int[3];
+        int p = 0;
+
+        while (p < n) {
+            int lineStart = p;
+            int count = 0;
+            byte c;
+            while (p < n && (c = buffer.get(p)) != '\n') {
+                if (c == ' ' || c == '\t' || c == ',' || c == '\r') {
+                    p++;
+                    continue;
+                }
+                if (c == '#' || c == '%') {
+                    // Comment up to the end of the line
+                    while (p < n && buffer.get(p) != '\n') p++;
+                    break;
+                }
+                boolean negative = c == '-';
+                if (negative) p++;
+                long value = 0;
+                int digits = 0;
+                while (p < n && (c = buffer.get(p)) >= '0' && c <= '9') {
+                    value = value * 10 + (c - '0');
+                    if (value > Integer.MAX_VALUE) throw malformed(base, lineStart, "number too large");
+                    digits++;
+                    p++;
+                }
+                if (digits == 0 || count == 3) throw malformed(base, lineStart, "expected 2 or 3 integers");
+                fields[count++] = (int) (negative ? -value : value);
+            }
+            p++; // Newline
+
+            if (count == 0) continue; // Empty line
+            if (count == 1) throw malformed(base, lineStart, "expected 2 or 3 integers");
+            if (fields[0] < 0 || fields[1] < 0) throw malformed(base, lineStart, "negative vertex id");
+            if (count == 2) stats.plainLines = true;
+            else stats.weightedLines = true;
+            sink.accept(fields[0], fields[1], count == 3 ? fields[2] : 1);
+        }
+    }
+
+    private static IllegalArgumentException malformed(long base, int lineStart, String reason) {
+        return new IllegalArgumentException("Malformed edge at byte " + (base + lineStart) + ": " + reason);
+    }
+
+    private static void checkVertex(int v, int V) {
+        if (v < 0 || v >= V) {
+            throw new IllegalArgumentException("Vertex " + v + " out of range for " + V + " vertices");
+        }
+    }
+
+    // offsets[v] from the shifted degree counts (degree[v + 1] holds the degree of v)
+    private static int[] prefixSums(AtomicIntegerArray degree, int V) {
+        int[] offsets = new int[V + 1];
+        long total = 0;
+        for (int v = 0; v < V; v++) {
+            total += degree.get(v + 1);
+            if (total > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("More than " + Integer.MAX_VALUE + " edges");
+            }
+            offsets[v + 1] = (int) total;
+        }
+        return offsets;
+    }
+
+    /**
+     * Chunk boundaries: about 4 chunks per worker thread, each at most 1 GB, every boundary
+     * moved forward to just after the next newline
+     */
+    private static long[] textChunks(FileChannel channel) throws IOException {
+        long size = channel.size();
+        int chunks = (int) Math.max(Math.min(4L * parallelism(), Math.max(1, size >> 16)),
+                (size + MAX_CHUNK_BYTES - 1) / MAX_CHUNK_BYTES);
+        long[] bounds = new long[chunks + 1];
+        ByteBuffer probe = ByteBuffer.allocate(4096);
+        for (int c = 1; c < chunks; c++) {
+            long position = Math.max(bounds[c - 1], size * c / chunks);
+            bounds[c] = nextLineStart(channel, position, probe);
+        }
+        bounds[chunks] = size;
+
+        // Boundaries past the end or too far apart would leave empty or oversized chunks
+        int kept = 1;
+        for (int c = 1; c <= chunks; c++) {
+            if (bounds[c] > bounds[kept - 1]) bounds[kept++] = bounds[c];
+        }
+        for (int c = 1; c < kept; c++) {
+            if (bounds[c] - bounds[c - 1] > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Line longer than 2 GB near byte " + bounds[c - 1]);
+            }
+        }
+        return Arrays.copyOf(bounds, Math.max(kept, 2));
+    }
+
+    // Position just after the first '\n' at or after position, or the file size
+    private static long nextLineStart(FileChannel channel, long position, ByteBuffer probe) throws IOException {
+        long size = channel.size();
+        while (position < size) {
+            probe.clear();
+            int read = channel.read(probe, position);
+            if (read <= 0) break;
+            for (int i = 0; i < read; i++) {
+                if (probe.get(i) == '\n') return position + i + 1;
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    private static int parallelism() {
+        return ForkJoinPool.getCommonPoolParallelism();
+    }
+}
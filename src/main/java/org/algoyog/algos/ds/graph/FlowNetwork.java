@@ -0,0 +1,397 @@
+package org.algoyog.algos.ds.graph;
+
+import java.util.Arrays;
+
+/**
+ * Flow Network with Maximum Flow and Minimum Cut
+ *
+ * Every edge is stored as a pair of arcs: arc 2k is the forward arc of edge k and arc 2k + 1 its
+ * reverse, so the partner of arc a is a ^ 1. residual[a] is the capacity still usable on arc a;
+ * pushing f units along a does residual[a] -= f and residual[a ^ 1] += f. All state lives in
+ * flat primitive arrays, indexed per vertex through a CSR list of arc ids.
+ *
+ * 1. dinic: BFS level graph plus blocking flow with current-arc pointers, no recursion
+ * 2. pushRelabel: highest-label preflow push with periodic global relabeling, fast on dense instances
+ * 3. minCut: source side of a minimum cut and the edges crossing it, after either solver
+ */
+public class FlowNetwork {
+    private final int V;
+    private int edgeCount;
+    private int[] head;        // head[a]: vertex arc a points to (tail of a is head[a ^ 1])
+    private long[] capacity;   // capacity[a]: original capacity (0 for reverse arcs)
+    private long[] residual;
+
+    // CSR index of arcs per vertex, rebuilt when edges were added since the last solve
+    private int[] arcStart;
+    private int[] arcs;
+
+    public FlowNetwork(int V) {
+        this.V = V;
+        head = new int[16];
+        capacity = new long[16];
+        residual = new long[16];
+    }
+
+    /**
+     * Add a directed edge with the given capacity
+     * Returns the edge id used by getFlow and minCutEdges
+     */
+    public int addEdge(int from, int to, long cap) {
+        if (cap < 0) {
+            throw new IllegalArgumentException("Capacity must be non-negative");
+        }
+        int a = 2 * edgeCount;
+        if (a + 2 > head.length) {
+            int size = head.length << 1;
+            head = Arrays.copyOf(head, size);
+            capacity = Arrays.copyOf(capacity, size);
+            residual = Arrays.copyOf(residual, size);
+        }
+        head[a] = to;
+        head[a + 1] = from;
+        capacity[a] = cap;
+        residual[a] = cap;
+        arcs = null;
+        return edgeCount++;
+    }
+
+    public int getVertexCount() {
+        return V;
+    }
+
+    public int getEdgeCount() {
+        return edgeCount;
+    }
+
+    // Flow currently sent along edge k
+    public long getFlow(int edge) {
+        return capacity[2 * edge] - residual[2 * edge];
+    }
+
+    public int getFrom(int edge) {
+        return head[2 * edge + 1];
+    }
+
+    public int getTo(int edge) {
+        return head[2 * edge];
+    }
+
+    public long getCapacity(int edge) {
+        return capacity[2 * edge];
+    }
+
+    // Remove all flow so the network can be solved again
+    public void reset() {
+        System.arraycopy(capacity, 0, residual, 0, 2 * edgeCount);
+    }
+
+    private void checkTerminals(int source, int sink) {
+        if (source == sink) {
+            throw new IllegalArgumentException("Source and sink must differ");
+        }
+    }
+
+    private void buildArcIndex() {
+        if (arcs != null) return;
+        int arcCount = 2 * edgeCount;
+        arcStart = new int[V + 1];
+        for (int a = 0; a < arcCount; a++) {
+            arcStart[head[a ^ 1] + 1]++;
+        }
+        for (int v = 0; v < V; v++) {
+            arcStart[v + 1] += arcStart[v];
+        }
+        int[] fill = Arrays.copyOf(arcStart, V);
+        arcs = new int[arcCount];
+        for (int a = 0; a < arcCount; a++) {
+            arcs[fill[head[a ^ 1]]++] = a;
+        }
+    }
+
+    /**
+     * Dinic's Algorithm
+     * Repeats: BFS from the source assigns levels over residual arcs, then a blocking flow is
+     * pushed along arcs that go exactly one level up. The current-arc pointer it[v] never
+     * revisits an arc that was found useless in the same phase.
+     * Time Complexity: O(V² E) in general, O(E √V) on unit-capacity networks
+     * Space Complexity: O(V + E)
+     */
+    public long dinic(int source, int sink) {
+        checkTerminals(source, sink);
+        buildArcIndex();
+        int[] level = new int[V];
+        int[] queue = new int[V];
+        int[] it = new int[V];
+        int[] path = new int[V];
+        long total = 0;
+
+        while (buildLevels(source, sink, level, queue)) {
+            System.arraycopy(arcStart, 0, it, 0, V);
+            total += blockingFlow(source, sink, level, it, path);
+        }
+        return total;
+    }
+
+    private boolean buildLevels(int source, int sink, int[] level, int[] queue) {
+        Arrays.fill(level, -1);
+        level[source] = 0;
+        int headIdx = 0;
+        int tail = 0;
+        queue[tail++] = source;
+
+        while (headIdx < tail) {
+            int u = queue[headIdx++];
+            for (int i = arcStart[u]; i < arcStart[u + 1]; i++) {
+                int a = arcs[i];
+                int v = head[a];
+                if (residual[a] > 0 && level[v] < 0) {
+                    level[v] = level[u] + 1;
+                    queue[tail++] = v;
+                }
+            }
+        }
+        return level[sink] >= 0;
+    }
+
+    // Iterative DFS keeping the current path as a stack of arcs
+    private long blockingFlow(int source, int sink, int[] level, int[] it, int[] path) {
+        long total = 0;
+        int top = 0;
+        int v = source;
+
+        while (true) {
+            if (v == sink) {
+                long f = Long.MAX_VALUE;
+                for (int k = 0; k < top; k++) {
+                    f = Math.min(f, residual[path[k]]);
+                }
+                int firstSaturated = -1;
+                for (int k = 0; k < top; k++) {
+                    int a = path[k];
+                    residual[a] -= f;
+                    residual[a ^ 1] += f;
+                    if (firstSaturated < 0 && residual[a] == 0) firstSaturated = k;
+                }
+                total += f;
+
+                // Retreat to the tail of the first saturated arc and continue from there
+                top = firstSaturated;
+                v = head[path[top] ^ 1];
+                continue;
+            }
+
+            // Advance along the current arc if it is admissible
+            int end = arcStart[v + 1];
+            while (it[v] < end) {
+                int a = arcs[it[v]];
+                if (residual[a] > 0 && level[head[a]] == level[v] + 1) break;
+                it[v]++;
+            }
+
+            if (it[v] < end) {
+                int a = arcs[it[v]];
+                path[top++] = a;
+                v = head[a];
+            } else {
+                // Dead end: v cannot reach the sink in this phase
+                level[v] = -1;
+                if (v == source) break;
+                int a = path[--top];
+                v = head[a ^ 1];
+                it[v]++;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Highest-Label Push-Relabel
+     * Vertices with excess are kept in buckets by height and the highest one is discharged:
+     * push excess along admissible arcs (height drops by exactly 1), relabel when none is left.
+     * After a number of relabels proportional to V, heights are recomputed exactly by a reverse
+     * BFS from the sink (and from the source for vertices that cannot reach the sink any more),
+     * which avoids most of the slow one-step relabels.
+     * Time Complexity: O(V² √E)
+     * Space Complexity: O(V + E)
+     */
+    public long pushRelabel(int source, int sink) {
+        checkTerminals(source, sink);
+        buildArcIndex();
+        return new PushRelabel(source, sink).run();
+    }
+
+    private class PushRelabel {
+        final int source;
+        final int sink;
+        final int[] height = new int[V];
+        final long[] excess = new long[V];
+        final int[] it = new int[V];
+        final int[] bucketHead = new int[2 * V + 1];
+        final int[] nextInBucket = new int[V];
+        final int[] queue = new int[V];
+        int maxActive;
+        int relabelsSinceUpdate;
+
+        PushRelabel(int source, int sink) {
+            this.source = source;
+            this.sink = sink;
+        }
+
+        long run() {
+            // Saturate every arc leaving the source
+            for (int i = arcStart[source]; i < arcStart[source + 1]; i++) {
+                int a = arcs[i];
+                long f = residual[a];
+                if (f > 0) {
+                    residual[a] = 0;
+                    residual[a ^ 1] += f;
+                    excess[head[a]] += f;
+                    excess[source] -= f;
+                }
+            }
+
+            globalRelabel();
+            while (maxActive >= 0) {
+                int v = bucketHead[maxActive];
+                if (v < 0) {
+                    maxActive--;
+                    continue;
+                }
+                bucketHead[maxActive] = nextInBucket[v];
+                discharge(v);
+
+                if (relabelsSinceUpdate > V) {
+                    globalRelabel();
+                }
+            }
+            return excess[sink];
+        }
+
+        private void discharge(int v) {
+            int end = arcStart[v + 1];
+            while (excess[v] > 0) {
+                if (it[v] == end) {
+                    relabel(v);
+                    continue;
+                }
+
+                int a = arcs[it[v]];
+                int w = head[a];
+                if (residual[a] > 0 && height[v] == height[w] + 1) {
+                    long f = Math.min(excess[v], residual[a]);
+                    residual[a] -= f;
+                    residual[a ^ 1] += f;
+                    if (excess[w] == 0 && w != source && w != sink) {
+                        activate(w);
+                    }
+                    excess[v] -= f;
+                    excess[w] += f;
+                } else {
+                    it[v]++;
+                }
+            }
+        }
+
+        private void relabel(int v) {
+            int minHeight = 2 * V;
+            for (int i = arcStart[v]; i < arcStart[v + 1]; i++) {
+                int a = arcs[i];
+                if (residual[a] > 0) {
+                    minHeight = Math.min(minHeight, height[head[a]]);
+                }
+            }
+            height[v] = minHeight + 1;
+            it[v] = arcStart[v];
+            relabelsSinceUpdate++;
+        }
+
+        private void activate(int v) {
+            int h = height[v];
+            nextInBucket[v] = bucketHead[h];
+            bucketHead[h] = v;
+            if (h > maxActive) maxActive = h;
+        }
+
+        /**
+         * Exact heights: distance to the sink in the residual graph, or V + distance to the
+         * source for vertices that can no longer reach the sink
+         */
+        private void globalRelabel() {
+            Arrays.fill(height, 2 * V);
+            reverseBfs(sink, 0);
+            height[source] = V;
+            reverseBfs(source, V);
+
+            Arrays.fill(bucketHead, -1);
+            maxActive = -1;
+            for (int v = 0; v < V; v++) {
+                it[v] = arcStart[v];
+                if (excess[v] > 0 && v != source && v != sink && height[v] < 2 * V) {
+                    activate(v);
+                }
+            }
+            relabelsSinceUpdate = 0;
+        }
+
+        // BFS over arcs u -> v with residual capacity, walked backwards from root
+        private void reverseBfs(int root, int base) {
+            height[root] = base;
+            int headIdx = 0;
+            int tail = 0;
+            queue[tail++] = root;
+            while (headIdx < tail) {
+                int v = queue[headIdx++];
+                for (int i = arcStart[v]; i < arcStart[v + 1]; i++) {
+                    int a = arcs[i];
+                    int u = head[a];
+                    if (residual[a ^ 1] > 0 && height[u] == 2 * V && u != source && u != sink) {
+                        height[u] = height[v] + 1;
+                        queue[tail++] = u;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Source side of a minimum cut: vertices reachable from the source over residual arcs
+     * Only meaningful after dinic or pushRelabel has run.
+     * Time Complexity: O(V + E)
+     */
+    public boolean[] minCutSourceSide(int source) {
+        buildArcIndex();
+        boolean[] reachable = new boolean[V];
+        int[] stack = new int[V];
+        int top = 0;
+        reachable[source] = true;
+        stack[top++] = source;
+        while (top > 0) {
+            int u = stack[--top];
+            for (int i = arcStart[u]; i < arcStart[u + 1]; i++) {
+                int a = arcs[i];
+                int v = head[a];
+                if (residual[a] > 0 && !reachable[v]) {
+                    reachable[v] = true;
+                    stack[top++] = v;
+                }
+            }
+        }
+        return reachable;
+    }
+
+    /**
+     * Edges of a minimum cut: edges from the source side to the sink side
+     * Their capacities add up to the maximum flow value.
+     */
+    public int[] minCutEdges(int source) {
+        boolean[] sourceSide = minCutSourceSide(source);
+        int[] cut = new int[edgeCount];
+        int count = 0;
+        for (int k = 0; k < edgeCount; k++) {
+            if (sourceSide[head[2 * k + 1]] && !sourceSide[head[2 * k]]) {
+                cut[count++] = k;
+            }
+        }
+        return Arrays.copyOf(cut, count);
+    }
+}
@@ -1,6 +1,7 @@
 package org.algoyog.algos.ds.graph;
 
 import java.util.*;
+import java.util.function.IntPredicate;
 
 /**
  * Graph Algorithms Implementation
@@ -50,54 +51,254 @@ public class GraphAlgorithms {
      * Space Complexity: O(V) for queue and visited array
      */
     public void bfs(Graph graph, int start) {
-        boolean[] visited = new boolean[graph.getVertexCount()];
-        Queue<Integer> queue = new LinkedList<>();
-
-        // Mark the starting vertex as visited and enqueue it
-        visited[start] = true;
-        queue.offer(start);
+        // Build the line first so stdout is written (and locked) once, not once per vertex
+        StringBuilder line = new StringBuilder();
+        bfs(graph, start, vertex -> {
+            line.append(vertex).append(' ');
+            return true;
+        });
 
         System.out.println("BFS traversal starting from vertex " + start + ":");
+        System.out.println(line);
+    }
 
-        while (!queue.isEmpty()) {
-            // Dequeue a vertex and print it
-            int current = queue.poll();
-            System.out.print(current + " ");
+    /**
+     * BFS calling a visitor for every vertex in visit order
+     * The traversal stops as soon as the visitor returns false.
+     * Returns the number of vertices visited (including the one that stopped it).
+     * Time Complexity: O(V + E) at most
+     * Space Complexity: O(V)
+     */
+    public int bfs(Graph graph, int start, IntPredicate visitor) {
+        return visitAll(new BfsIterator(graph, start), visitor);
+    }
 
-            // Get all adjacent vertices of the dequeued vertex
-            // If an adjacent vertex is not visited, mark it visited and enqueue it
-            for (int neighbor : graph.getAdjList()[current]) {
-                if (!visited[neighbor]) {
-                    visited[neighbor] = true;
-                    queue.offer(neighbor);
-                }
-            }
-        }
-        System.out.println();
+    /**
+     * Full BFS returning visit order, depth (edges from start) and BFS tree parent
+     * Time Complexity: O(V + E)
+     * Space Complexity: O(V)
+     */
+    public Traversal bfsTree(Graph graph, int start) {
+        BfsIterator it = new BfsIterator(graph, start);
+        while (it.hasNext()) it.nextInt();
+        return new Traversal(Arrays.copyOf(it.queue, it.tail), it.depth, it.parent);
+    }
+
+    /**
+     * Lazy BFS order: each call to nextInt expands one more vertex
+     * Nothing beyond the BFS queue is materialized, so a consumer can stop early
+     * and pays only for the part of the graph it looked at.
+     */
+    public PrimitiveIterator.OfInt bfsIterator(Graph graph, int start) {
+        return new BfsIterator(graph, start);
     }
 
     /**
      * Depth-First Search (DFS)
      * Time Complexity: O(V + E)
-     * Space Complexity: O(V) for recursion stack and visited array
+     * Space Complexity: O(V) for the explicit stack and visited array
      */
     public void dfs(Graph graph, int start) {
-        boolean[] visited = new boolean[graph.getVertexCount()];
+        StringBuilder line = new StringBuilder();
+        dfs(graph, start, vertex -> {
+            line.append(vertex).append(' ');
+            return true;
+        });
+
         System.out.println("DFS traversal starting from vertex " + start + ":");
-        dfsUtil(graph, start, visited);
-        System.out.println();
+        System.out.println(line);
+    }
+
+    /**
+     * DFS calling a visitor for every vertex in preorder
+     * The traversal stops as soon as the visitor returns false.
+     * Returns the number of vertices visited (including the one that stopped it).
+     * Time Complexity: O(V + E) at most
+     * Space Complexity: O(V)
+     */
+    public int dfs(Graph graph, int start, IntPredicate visitor) {
+        return visitAll(new DfsIterator(graph, start), visitor);
+    }
+
+    /**
+     * Iterative DFS returning the vertices in visit order
+     * An explicit int stack plus a cursor into each vertex's adjacency list replaces the
+     * recursion, so the order matches the recursive version and deep graphs cannot
+     * overflow the thread stack.
+     * Time Complexity: O(V + E)
+     * Space Complexity: O(V)
+     */
+    public int[] dfsOrder(Graph graph, int start) {
+        return dfsTree(graph, start).getOrder();
+    }
+
+    /**
+     * Full DFS returning preorder, depth in the DFS tree and DFS tree parent
+     * Time Complexity: O(V + E)
+     * Space Complexity: O(V)
+     */
+    public Traversal dfsTree(Graph graph, int start) {
+        DfsIterator it = new DfsIterator(graph, start);
+        int[] order = new int[graph.getVertexCount()];
+        int count = 0;
+        while (it.hasNext()) {
+            order[count++] = it.nextInt();
+        }
+        return new Traversal(Arrays.copyOf(order, count), it.depth, it.parent);
+    }
+
+    // Lazy DFS preorder; see bfsIterator
+    public PrimitiveIterator.OfInt dfsIterator(Graph graph, int start) {
+        return new DfsIterator(graph, start);
+    }
+
+    private static int visitAll(PrimitiveIterator.OfInt it, IntPredicate visitor) {
+        int count = 0;
+        while (it.hasNext()) {
+            count++;
+            if (!visitor.test(it.nextInt())) break;
+        }
+        return count;
+    }
+
+    /**
+     * Result of a full traversal
+     * depth[v] and parent[v] are -1 for vertices the traversal did not reach;
+     * the start vertex has depth 0 and parent -1.
+     */
+    public static class Traversal {
+        private final int[] order;
+        private final int[] depth;
+        private final int[] parent;
+
+        Traversal(int[] order, int[] depth, int[] parent) {
+            this.order = order;
+            this.depth = depth;
+            this.parent = parent;
+        }
+
+        public int[] getOrder() {
+            return order;
+        }
+
+        public int[] getDepth() {
+            return depth;
+        }
+
+        public int[] getParent() {
+            return parent;
+        }
+    }
+
+    /**
+     * BFS state behind bfs, bfsTree and bfsIterator
+     * The int queue doubles as the visit order: queue[0 .. head) has been returned.
+     */
+    private static class BfsIterator implements PrimitiveIterator.OfInt {
+        private final List<Integer>[] adj;
+        private final int[] queue;
+        private final int[] depth;
+        private final int[] parent;
+        private int head;
+        private int tail;
+
+        BfsIterator(Graph graph, int start) {
+            int V = graph.getVertexCount();
+            adj = graph.getAdjList();
+            queue = new int[V];
+            depth = new int[V];
+            parent = new int[V];
+            Arrays.fill(depth, -1);
+            Arrays.fill(parent, -1);
+
+            // Mark the starting vertex as visited and enqueue it
+            depth[start] = 0;
+            queue[tail++] = start;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return head < tail;
+        }
+
+        @Override
+        public int nextInt() {
+            if (head == tail) throw new NoSuchElementException();
+            int current = queue[head++];
+
+            // Enqueue the unvisited neighbors of the vertex being returned
+            for (int neighbor : adj[current]) {
+                if (depth[neighbor] < 0) {
+                    depth[neighbor] = depth[current] + 1;
+                    parent[neighbor] = current;
+                    queue[tail++] = neighbor;
+                }
+            }
+            return current;
+        }
     }
 
-    private void dfsUtil(Graph graph, int vertex, boolean[] visited) {
-        // Mark the current node as visited and print it
-        visited[vertex] = true;
-        System.out.print(vertex + " ");
+    /**
+     * DFS state behind dfs, dfsTree, dfsOrder and dfsIterator
+     * An explicit int stack with a cursor into each vertex's adjacency list; the search
+     * only advances far enough to find the next vertex when one is requested.
+     */
+    private static class DfsIterator implements PrimitiveIterator.OfInt {
+        private final List<Integer>[] adj;
+        private final int[] cursor; // Index of the next neighbor to explore
+        private final int[] stack;
+        private final int[] depth;
+        private final int[] parent;
+        private int top;
+        private int pending; // Next vertex to return, -1 if it still has to be found
+
+        DfsIterator(Graph graph, int start) {
+            int V = graph.getVertexCount();
+            adj = graph.getAdjList();
+            cursor = new int[V];
+            stack = new int[V];
+            depth = new int[V];
+            parent = new int[V];
+            Arrays.fill(depth, -1);
+            Arrays.fill(parent, -1);
+
+            depth[start] = 0;
+            stack[top++] = start;
+            pending = start;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (pending < 0) pending = advance();
+            return pending >= 0;
+        }
+
+        @Override
+        public int nextInt() {
+            if (!hasNext()) throw new NoSuchElementException();
+            int vertex = pending;
+            pending = -1;
+            return vertex;
+        }
+
+        // Continue the DFS until an unvisited vertex is discovered; -1 when the search is done
+        private int advance() {
+            while (top > 0) {
+                int vertex = stack[top - 1];
+                if (cursor[vertex] == adj[vertex].size()) {
+                    top--; // All neighbors explored, backtrack
+                    continue;
+                }
 
-        // Recur for all adjacent vertices
-        for (int neighbor : graph.getAdjList()[vertex]) {
-            if (!visited[neighbor]) {
-                dfsUtil(graph, neighbor, visited);
+                int neighbor = adj[vertex].get(cursor[vertex]++);
+                if (depth[neighbor] < 0) {
+                    depth[neighbor] = depth[vertex] + 1;
+                    parent[neighbor] = vertex;
+                    stack[top++] = neighbor;
+                    return neighbor;
+                }
             }
+            return -1;
         }
     }
 
@@ -174,83 +375,213 @@ public class GraphAlgorithms {
     }
 
     /**
-     * Detect Cycle in Directed Graph using DFS
-     * Time Complexity: O(V + E)
-     * Space Complexity: O(V) for recursion stack and visited arrays
+     * Bellman-Ford with a queue (SPFA) for graphs with negative edge weights
+     * Only vertices whose distance just dropped are re-relaxed, which is usually far less
+     * than V rounds over every edge.
+     * Time Complexity: O(V * E) worst case, close to O(E) on typical graphs
+     * Space Complexity: O(V)
+     *
+     * @throws IllegalStateException if a negative cycle is reachable from start
+     * @throws IllegalArgumentException if a distance does not fit in an int
      */
-    public boolean hasCycle(Graph graph) {
+    public int[] bellmanFord(WeightedGraph graph, int start) {
+        return spfa(graph, start);
+    }
+
+    /**
+     * SPFA from start, or from a virtual source with a 0-weight edge to every vertex when
+     * start is negative (the potentials used by Johnson's algorithm)
+     * Distances are summed in long, so large weights cannot wrap around; the final distances
+     * are checked to fit in an int.
+     */
+    int[] spfa(WeightedGraph graph, int start) {
         int V = graph.getVertexCount();
-        boolean[] visited = new boolean[V];
-        boolean[] recursionStack = new boolean[V];
+        List<int[]>[] adj = graph.getAdjList();
+        long[] dist = new long[V];
+        int[] edgesOnPath = new int[V]; // Edges on the current shortest path to each vertex
+        boolean[] inQueue = new boolean[V];
+        int[] queue = new int[V]; // Circular; a vertex is queued at most once at a time
+        int head = 0;
+        int size = 0;
+
+        if (start >= 0) {
+            Arrays.fill(dist, Long.MAX_VALUE);
+            dist[start] = 0;
+            queue[size++] = start;
+            inQueue[start] = true;
+        } else {
+            for (int v = 0; v < V; v++) {
+                queue[size++] = v;
+                inQueue[v] = true;
+            }
+        }
 
-        // Check for cycle in all components
-        for (int i = 0; i < V; i++) {
-            if (hasCycleUtil(graph, i, visited, recursionStack)) {
-                return true;
+        while (size > 0) {
+            int u = queue[head];
+            head = head + 1 == V ? 0 : head + 1;
+            size--;
+            inQueue[u] = false;
+
+            for (int[] edge : adj[u]) {
+                int v = edge[0];
+                long candidate = dist[u] + edge[1];
+                if (candidate < dist[v]) {
+                    dist[v] = candidate;
+                    // A shortest path never needs V edges; needing them means a negative cycle
+                    edgesOnPath[v] = edgesOnPath[u] + 1;
+                    if (edgesOnPath[v] >= V) {
+                        throw new IllegalStateException("Graph contains a negative cycle");
+                    }
+                    if (!inQueue[v]) {
+                        inQueue[v] = true;
+                        queue[(head + size++) % V] = v;
+                    }
+                }
             }
         }
 
-        return false;
+        int[] result = new int[V];
+        for (int v = 0; v < V; v++) {
+            if (dist[v] == Long.MAX_VALUE) {
+                result[v] = Integer.MAX_VALUE;
+            } else if (dist[v] < Integer.MIN_VALUE || dist[v] >= Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Distance " + dist[v] + " to vertex " + v + " does not fit in an int");
+            } else {
+                result[v] = (int) dist[v];
+            }
+        }
+        return result;
     }
 
-    private boolean hasCycleUtil(Graph graph, int vertex, boolean[] visited, boolean[] recursionStack) {
-        // Mark current node as visited and add to recursion stack
-        if (recursionStack[vertex]) return true;
-        if (visited[vertex]) return false;
+    /**
+     * Detect Cycle in Directed Graph using iterative DFS
+     * A vertex is white (unvisited), gray (on the DFS stack) or black (finished);
+     * reaching a gray vertex again means a back edge, i.e. a cycle.
+     * Time Complexity: O(V + E)
+     * Space Complexity: O(V) for the explicit stack and state arrays
+     */
+    public boolean hasCycle(Graph graph) {
+        List<Integer>[] adj = graph.getAdjList();
+        int V = graph.getVertexCount();
+        byte[] state = new byte[V]; // 0 = white, 1 = gray, 2 = black
+        int[] cursor = new int[V];
+        int[] stack = new int[V];
 
-        visited[vertex] = true;
-        recursionStack[vertex] = true;
+        // Check for cycle in all components
+        for (int i = 0; i < V; i++) {
+            if (state[i] != 0) continue;
+
+            int top = 0;
+            state[i] = 1;
+            stack[top++] = i;
+
+            while (top > 0) {
+                int vertex = stack[top - 1];
+                if (cursor[vertex] == adj[vertex].size()) {
+                    // Remove vertex from the DFS path when done
+                    state[vertex] = 2;
+                    top--;
+                    continue;
+                }
 
-        // Check all neighbors
-        for (int neighbor : graph.getAdjList()[vertex]) {
-            if (hasCycleUtil(graph, neighbor, visited, recursionStack)) {
-                return true;
+                int neighbor = adj[vertex].get(cursor[vertex]++);
+                if (state[neighbor] == 1) return true;
+                if (state[neighbor] == 0) {
+                    state[neighbor] = 1;
+                    stack[top++] = neighbor;
+                }
             }
         }
 
-        // Remove vertex from recursion stack when done
-        recursionStack[vertex] = false;
         return false;
     }
 
     /**
-     * Topological Sort
+     * Topological Sort using iterative DFS
+     * Vertices are written from the back of the result as they finish, which gives the
+     * same order as pushing finished vertices on a stack and popping them.
      * Time Complexity: O(V + E)
-     * Space Complexity: O(V) for stack and visited array
+     * Space Complexity: O(V) for the explicit stack and visited array
      */
     public int[] topologicalSort(Graph graph) {
+        List<Integer>[] adj = graph.getAdjList();
         int V = graph.getVertexCount();
         boolean[] visited = new boolean[V];
-        Stack<Integer> stack = new Stack<>();
+        int[] cursor = new int[V];
+        int[] stack = new int[V];
+        int[] result = new int[V];
+        int position = V;
 
-        // Call the recursive helper function for all vertices
         for (int i = 0; i < V; i++) {
-            if (!visited[i]) {
-                topologicalSortUtil(graph, i, visited, stack);
-            }
-        }
+            if (visited[i]) continue;
+
+            int top = 0;
+            visited[i] = true;
+            stack[top++] = i;
+
+            while (top > 0) {
+                int vertex = stack[top - 1];
+                if (cursor[vertex] == adj[vertex].size()) {
+                    // All descendants are placed, so the vertex goes before them
+                    result[--position] = vertex;
+                    top--;
+                    continue;
+                }
 
-        // Pop all vertices from stack for topological order
-        int[] result = new int[V];
-        for (int i = 0; i < V; i++) {
-            result[i] = stack.pop();
+                int neighbor = adj[vertex].get(cursor[vertex]++);
+                if (!visited[neighbor]) {
+                    visited[neighbor] = true;
+                    stack[top++] = neighbor;
+                }
+            }
         }
 
         return result;
     }
 
-    private void topologicalSortUtil(Graph graph, int vertex, boolean[] visited, Stack<Integer> stack) {
-        // Mark the current node as visited
-        visited[vertex] = true;
+    /**
+     * Topological Sort by levels (Kahn's algorithm)
+     * Level 0 holds the vertices without incoming edges, level k the vertices whose
+     * predecessors are all in earlier levels. Vertices within one level do not depend on
+     * each other, so each level can be handed to a parallel scheduler as one batch.
+     * Time Complexity: O(V + E)
+     * Space Complexity: O(V)
+     *
+     * @throws IllegalStateException if the graph has a cycle
+     */
+    public int[][] topologicalLevels(Graph graph) {
+        List<Integer>[] adj = graph.getAdjList();
+        int V = graph.getVertexCount();
+        int[] inDegree = new int[V];
+        for (int u = 0; u < V; u++) {
+            for (int v : adj[u]) {
+                inDegree[v]++;
+            }
+        }
+
+        // One array serves as the queue; each level is a contiguous slice of it
+        int[] queue = new int[V];
+        int tail = 0;
+        for (int v = 0; v < V; v++) {
+            if (inDegree[v] == 0) queue[tail++] = v;
+        }
 
-        // Recur for all adjacent vertices
-        for (int neighbor : graph.getAdjList()[vertex]) {
-            if (!visited[neighbor]) {
-                topologicalSortUtil(graph, neighbor, visited, stack);
+        List<int[]> levels = new ArrayList<>();
+        int head = 0;
+        while (head < tail) {
+            int levelEnd = tail;
+            levels.add(Arrays.copyOfRange(queue, head, levelEnd));
+
+            for (; head < levelEnd; head++) {
+                for (int v : adj[queue[head]]) {
+                    if (--inDegree[v] == 0) queue[tail++] = v;
+                }
             }
         }
 
-        // Push current vertex to stack after all its adjacent vertices are in stack
-        stack.push(vertex);
+        if (tail < V) {
+            throw new IllegalStateException("Graph has a cycle");
+        }
+        return levels.toArray(new int[0][]);
     }
 }
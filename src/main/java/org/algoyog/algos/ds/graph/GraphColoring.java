@@ -0,0 +1,271 @@
+package org.algoyog.algos.ds.graph;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+/**
+ * Graph Coloring (vertex coloring of undirected graphs)
+ * Assigns colors 0, 1, 2, ... so that adjacent vertices differ. Edges are treated as undirected
+ * and self loops are ignored. Every vertex takes the smallest color not used by its already
+ * colored neighbors, so at most maxDegree + 1 colors are used.
+ *
+ * 1. greedy: sequential first-fit in vertex order, the baseline
+ * 2. Jones-Plassmann: random priorities orient every edge; a vertex is colored as soon as all
+ *    higher-priority neighbors are. Each round colors an independent set in parallel, and
+ *    colored vertices release their lower-priority neighbors into the next round through
+ *    atomic counters. The result only depends on the seed, never on thread timing.
+ * 3. speculative (Gebremedhin-Manne): color the whole worklist in parallel without
+ *    coordination, then find adjacent vertices that picked the same color; the one with the
+ *    lower priority is recolored in the next round. Fewer, cheaper rounds than Jones-Plassmann.
+ */
+public class GraphColoring {
+
+    /**
+     * Color of every vertex with the number of colors and parallel rounds used
+     */
+    public static class Coloring {
+        private final int[] colors;
+        private final int colorCount;
+        private final int rounds;
+
+        Coloring(int[] colors, int rounds) {
+            this.colors = colors;
+            int max = -1;
+            for (int c : colors) max = Math.max(max, c);
+            this.colorCount = max + 1;
+            this.rounds = rounds;
+        }
+
+        public int[] getColors() {
+            return colors;
+        }
+
+        public int getColorCount() {
+            return colorCount;
+        }
+
+        public int getRounds() {
+            return rounds;
+        }
+    }
+
+    public Coloring greedy(GraphAlgorithms.Graph graph) {
+        return greedy(CsrGraph.of(graph));
+    }
+
+    /**
+     * Sequential first-fit coloring in vertex order
+     * Time Complexity: O(V + E)
+     * Space Complexity: O(V + E) for the symmetric adjacency
+     */
+    public Coloring greedy(CsrGraph graph) {
+        CsrGraph undirected = symmetric(graph);
+        int V = undirected.getVertexCount();
+        int[] colors = new int[V];
+        Arrays.fill(colors, -1);
+        FirstFit firstFit = new FirstFit(maxDegree(undirected));
+        for (int v = 0; v < V; v++) {
+            colors[v] = firstFit.smallestFree(undirected, colors, v);
+        }
+        return new Coloring(colors, V == 0 ? 0 : 1);
+    }
+
+    public Coloring jonesPlassmann(GraphAlgorithms.Graph graph, long seed) {
+        return jonesPlassmann(CsrGraph.of(graph), seed);
+    }
+
+    /**
+     * Jones-Plassmann parallel coloring
+     * Time Complexity: O(V + E) work, O(log V / log log V) expected rounds on bounded-degree graphs
+     * Space Complexity: O(V + E)
+     */
+    public Coloring jonesPlassmann(CsrGraph graph, long seed) {
+        CsrGraph undirected = symmetric(graph);
+        int V = undirected.getVertexCount();
+        int[] offsets = undirected.getOffsets();
+        int[] targets = undirected.getTargets();
+        int[] priority = priorities(V, seed);
+        int maxDegree = maxDegree(undirected);
+
+        // waiting[v]: higher-priority neighbors of v that are not colored yet
+        AtomicIntegerArray waiting = new AtomicIntegerArray(V);
+        IntStream.range(0, V).parallel().forEach(v -> {
+            int count = 0;
+            for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+                if (before(priority, targets[e], v)) count++;
+            }
+            waiting.set(v, count);
+        });
+
+        int[] colors = new int[V];
+        Arrays.fill(colors, -1);
+        int[] frontier = IntStream.range(0, V).filter(v -> waiting.get(v) == 0).toArray();
+        int[] next = new int[V];
+        AtomicInteger nextSize = new AtomicInteger();
+        ThreadLocal<FirstFit> scratch = ThreadLocal.withInitial(() -> new FirstFit(maxDegree));
+        int rounds = 0;
+
+        while (frontier.length > 0) {
+            final int[] current = frontier;
+            nextSize.set(0);
+            // The frontier is an independent set: no two of its vertices are adjacent
+            IntStream.range(0, current.length).parallel().forEach(i -> {
+                int v = current[i];
+                colors[v] = scratch.get().smallestFree(undirected, colors, v);
+                for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+                    int w = targets[e];
+                    if (before(priority, v, w) && waiting.decrementAndGet(w) == 0) {
+                        next[nextSize.getAndIncrement()] = w;
+                    }
+                }
+            });
+            frontier = Arrays.copyOf(next, nextSize.get());
+            rounds++;
+        }
+        return new Coloring(colors, rounds);
+    }
+
+    public Coloring speculative(GraphAlgorithms.Graph graph, long seed) {
+        return speculative(CsrGraph.of(graph), seed);
+    }
+
+    /**
+     * Speculative parallel coloring with conflict resolution
+     * Colors are read while other threads write them, so two neighbors may pick the same color;
+     * the detection pass after the barrier finds every such pair.
+     * Time Complexity: O(V + E) work per round, usually a handful of rounds
+     * Space Complexity: O(V + E)
+     */
+    public Coloring speculative(CsrGraph graph, long seed) {
+        CsrGraph undirected = symmetric(graph);
+        int V = undirected.getVertexCount();
+        int[] offsets = undirected.getOffsets();
+        int[] targets = undirected.getTargets();
+        int[] priority = priorities(V, seed);
+        int maxDegree = maxDegree(undirected);
+
+        AtomicIntegerArray colors = new AtomicIntegerArray(V);
+        for (int v = 0; v < V; v++) colors.set(v, -1);
+        ThreadLocal<FirstFit> scratch = ThreadLocal.withInitial(() -> new FirstFit(maxDegree));
+        int[] worklist = IntStream.range(0, V).toArray();
+        int rounds = 0;
+
+        while (worklist.length > 0) {
+            final int[] current = worklist;
+            IntStream.range(0, current.length).parallel().forEach(i -> {
+                int v = current[i];
+                colors.set(v, scratch.get().smallestFree(undirected, colors, v));
+            });
+
+            // A conflict is resolved in favor of the higher priority vertex
+            worklist = Arrays.stream(current).parallel().filter(v -> {
+                int c = colors.get(v);
+                for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+                    int w = targets[e];
+                    if (colors.get(w) == c && before(priority, w, v)) return true;
+                }
+                return false;
+            }).toArray();
+            rounds++;
+        }
+
+        int[] result = new int[V];
+        for (int v = 0; v < V; v++) result[v] = colors.get(v);
+        return new Coloring(result, rounds);
+    }
+
+    /**
+     * Smallest color not used by any neighbor, marking used colors with a round stamp so the
+     * mark array never has to be cleared
+     */
+    private static class FirstFit {
+        private final int[] mark;
+        private int stamp;
+
+        FirstFit(int maxDegree) {
+            mark = new int[maxDegree + 2];
+        }
+
+        int smallestFree(CsrGraph graph, int[] colors, int v) {
+            stamp++;
+            int[] offsets = graph.getOffsets();
+            int[] targets = graph.getTargets();
+            for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+                int c = colors[targets[e]];
+                if (c >= 0 && c < mark.length) mark[c] = stamp;
+            }
+            int color = 0;
+            while (mark[color] == stamp) color++;
+            return color;
+        }
+
+        int smallestFree(CsrGraph graph, AtomicIntegerArray colors, int v) {
+            stamp++;
+            int[] offsets = graph.getOffsets();
+            int[] targets = graph.getTargets();
+            for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+                int c = colors.get(targets[e]);
+                if (c >= 0 && c < mark.length) mark[c] = stamp;
+            }
+            int color = 0;
+            while (mark[color] == stamp) color++;
+            return color;
+        }
+    }
+
+    // Does u come before v in priority order (random priority, ties by id)?
+    private static boolean before(int[] priority, int u, int v) {
+        return priority[u] > priority[v] || (priority[u] == priority[v] && u > v);
+    }
+
+    // Pseudo-random priority per vertex (SplitMix64 finalizer of seed and id)
+    private static int[] priorities(int V, long seed) {
+        int[] priority = new int[V];
+        for (int v = 0; v < V; v++) {
+            long z = seed + (v + 1) * 0x9E3779B97F4A7C15L;
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            priority[v] = (int) (z ^ (z >>> 31));
+        }
+        return priority;
+    }
+
+    // Every edge in both directions, self loops dropped
+    private static CsrGraph symmetric(CsrGraph graph) {
+        int V = graph.getVertexCount();
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int[] start = new int[V + 1];
+        for (int u = 0; u < V; u++) {
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                if (targets[e] == u) continue;
+                start[u + 1]++;
+                start[targets[e] + 1]++;
+            }
+        }
+        for (int v = 0; v < V; v++) {
+            start[v + 1] += start[v];
+        }
+        int[] fill = Arrays.copyOf(start, V);
+        int[] both = new int[start[V]];
+        for (int u = 0; u < V; u++) {
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int v = targets[e];
+                if (v == u) continue;
+                both[fill[u]++] = v;
+                both[fill[v]++] = u;
+            }
+        }
+        return new CsrGraph(start, both, null);
+    }
+
+    private static int maxDegree(CsrGraph graph) {
+        int max = 0;
+        for (int v = 0; v < graph.getVertexCount(); v++) {
+            max = Math.max(max, graph.degree(v));
+        }
+        return max;
+    }
+}
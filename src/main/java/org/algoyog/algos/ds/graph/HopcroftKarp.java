@@ -0,0 +1,236 @@
+package org.algoyog.algos.ds.graph;
+
+import java.util.Arrays;
+
+/**
+ * Hopcroft-Karp Maximum Bipartite Matching
+ * Every phase runs a BFS from all free left vertices that layers the left side by alternating
+ * path length, then an iterative DFS from each free left vertex that augments along paths
+ * going exactly one layer deeper per step. Dead ends are removed from the layering so no
+ * edge is scanned twice in a phase. O(√V) phases suffice.
+ *
+ * The solver keeps its work arrays (layers, queue, DFS stack, edge cursors) and reuses them
+ * for the next solve as long as the graph is not larger; only the returned match arrays are
+ * allocated per call. A solver instance is not thread-safe.
+ */
+public class HopcroftKarp {
+    private static final int INF = Integer.MAX_VALUE;
+
+    private int[] dist = new int[0];
+    private int[] queue = new int[0];
+    private int[] stack = new int[0];
+    private int[] cursor = new int[0];
+    private int limit; // Layer of the shortest augmenting paths in the current phase
+
+    /**
+     * A matching as two partner arrays
+     */
+    public static class Matching {
+        private final int[] matchLeft;
+        private final int[] matchRight;
+        private final int size;
+        private final int phases;
+
+        Matching(int[] matchLeft, int[] matchRight, int size, int phases) {
+            this.matchLeft = matchLeft;
+            this.matchRight = matchRight;
+            this.size = size;
+            this.phases = phases;
+        }
+
+        // matchLeft[u]: right partner of left vertex u, or -1
+        public int[] getMatchLeft() {
+            return matchLeft;
+        }
+
+        // matchRight[v]: left partner of right vertex v, or -1
+        public int[] getMatchRight() {
+            return matchRight;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        // BFS/DFS phases the solve needed
+        public int getPhases() {
+            return phases;
+        }
+    }
+
+    /**
+     * Maximum matching, warm-started from a greedy matching
+     * Time Complexity: O(E √V)
+     * Space Complexity: O(L + R)
+     */
+    public Matching solve(BipartiteGraph graph) {
+        int[] matchLeft = new int[graph.getLeftCount()];
+        int[] matchRight = new int[graph.getRightCount()];
+        Arrays.fill(matchLeft, -1);
+        Arrays.fill(matchRight, -1);
+        int size = greedy(graph, matchLeft, matchRight);
+        return augment(graph, matchLeft, matchRight, size);
+    }
+
+    /**
+     * Maximum matching starting from a given matching, e.g. the previous cycle's result
+     * initialMatchLeft[u] is the right partner of u or -1; it is not modified.
+     * Time Complexity: O(E √V), less when the start is close to maximum
+     *
+     * @throws IllegalArgumentException if the initial pairs are not edges of a matching
+     */
+    public Matching solve(BipartiteGraph graph, int[] initialMatchLeft) {
+        int L = graph.getLeftCount();
+        if (initialMatchLeft.length != L) {
+            throw new IllegalArgumentException("Expected " + L + " initial partners");
+        }
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int[] matchLeft = new int[L];
+        int[] matchRight = new int[graph.getRightCount()];
+        Arrays.fill(matchLeft, -1);
+        Arrays.fill(matchRight, -1);
+        int size = 0;
+
+        for (int u = 0; u < L; u++) {
+            int v = initialMatchLeft[u];
+            if (v < 0) continue;
+            if (v >= matchRight.length || matchRight[v] >= 0 || !hasEdge(offsets, targets, u, v)) {
+                throw new IllegalArgumentException("Initial pair (" + u + ", " + v + ") is not a valid matching edge");
+            }
+            matchLeft[u] = v;
+            matchRight[v] = u;
+            size++;
+        }
+        return augment(graph, matchLeft, matchRight, size);
+    }
+
+    private static boolean hasEdge(int[] offsets, int[] targets, int u, int v) {
+        for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+            if (targets[e] == v) return true;
+        }
+        return false;
+    }
+
+    // Match every left vertex to its first free right neighbor
+    private static int greedy(BipartiteGraph graph, int[] matchLeft, int[] matchRight) {
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int size = 0;
+        for (int u = 0; u < matchLeft.length; u++) {
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int v = targets[e];
+                if (matchRight[v] < 0) {
+                    matchLeft[u] = v;
+                    matchRight[v] = u;
+                    size++;
+                    break;
+                }
+            }
+        }
+        return size;
+    }
+
+    private Matching augment(BipartiteGraph graph, int[] matchLeft, int[] matchRight, int size) {
+        int L = graph.getLeftCount();
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        ensureCapacity(L);
+        int phases = 0;
+
+        while (size < Math.min(L, matchRight.length) && buildLayers(L, offsets, targets, matchLeft, matchRight)) {
+            phases++;
+            System.arraycopy(offsets, 0, cursor, 0, L);
+            for (int root = 0; root < L; root++) {
+                if (matchLeft[root] < 0 && augmentFrom(root, offsets, targets, matchLeft, matchRight)) {
+                    size++;
+                }
+            }
+        }
+        return new Matching(matchLeft, matchRight, size, phases);
+    }
+
+    private void ensureCapacity(int L) {
+        if (dist.length < L) {
+            dist = new int[L];
+            queue = new int[L];
+            stack = new int[L];
+            cursor = new int[L];
+        }
+    }
+
+    /**
+     * BFS over alternating paths from every free left vertex; dist[u] is the layer of left
+     * vertex u. Stops expanding after the layer where a free right vertex shows up and
+     * records that layer in limit. Returns whether any augmenting path exists.
+     */
+    private boolean buildLayers(int L, int[] offsets, int[] targets, int[] matchLeft, int[] matchRight) {
+        int head = 0;
+        int tail = 0;
+        for (int u = 0; u < L; u++) {
+            if (matchLeft[u] < 0) {
+                dist[u] = 0;
+                queue[tail++] = u;
+            } else {
+                dist[u] = INF;
+            }
+        }
+
+        limit = INF;
+        while (head < tail) {
+            int u = queue[head++];
+            if (dist[u] >= limit) break;
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int w = matchRight[targets[e]];
+                if (w < 0) {
+                    limit = dist[u] + 1;
+                } else if (dist[w] == INF) {
+                    dist[w] = dist[u] + 1;
+                    queue[tail++] = w;
+                }
+            }
+        }
+        return limit != INF;
+    }
+
+    /**
+     * Iterative DFS for an augmenting path from a free left vertex through the layers
+     * cursor[u] is the edge u is currently trying; it only moves forward within a phase.
+     * Only paths ending at layer limit are taken, so every path of a phase is a shortest one.
+     */
+    private boolean augmentFrom(int root, int[] offsets, int[] targets, int[] matchLeft, int[] matchRight) {
+        int top = 0;
+        stack[top++] = root;
+
+        while (top > 0) {
+            int u = stack[top - 1];
+            if (cursor[u] == offsets[u + 1]) {
+                // Dead end: drop u from the layering for the rest of the phase
+                dist[u] = INF;
+                top--;
+                if (top > 0) cursor[stack[top - 1]]++;
+                continue;
+            }
+
+            int v = targets[cursor[u]];
+            int w = matchRight[v];
+            if (w < 0 && dist[u] + 1 == limit) {
+                // Flip the path: every left vertex on the stack takes the right vertex it points to
+                for (int k = top - 1; k >= 0; k--) {
+                    int x = stack[k];
+                    int y = targets[cursor[x]];
+                    matchLeft[x] = y;
+                    matchRight[y] = x;
+                    dist[x] = INF; // Paths of one phase are vertex-disjoint
+                }
+                return true;
+            }
+            if (w >= 0 && dist[w] < limit && dist[w] == dist[u] + 1) {
+                stack[top++] = w;
+            } else {
+                cursor[u]++;
+            }
+        }
+        return false;
+    }
+}
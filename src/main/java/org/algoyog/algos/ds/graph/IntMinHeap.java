@@ -0,0 +1,87 @@
+package org.algoyog.algos.ds.graph;
+
+import java.util.Arrays;
+
+/**
+ * Binary min heap of (key, vertex) pairs stored in two parallel int arrays
+ * Used by the shortest path searches in this package instead of PriorityQueue<int[]>,
+ * so a search allocates nothing per relaxation and the heap can be reused across searches.
+ * Decrease-key is done lazily: push the vertex again and skip stale entries when popped.
+ *
+ * Time Complexity: O(log n) for push and pop
+ * Space Complexity: O(n) for the two arrays
+ */
+final class IntMinHeap {
+    private int[] keys;
+    private int[] values;
+    private int size;
+
+    IntMinHeap(int initialCapacity) {
+        keys = new int[Math.max(4, initialCapacity)];
+        values = new int[keys.length];
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    // Key of the minimum entry; only valid when the heap is not empty
+    int peekKey() {
+        return keys[0];
+    }
+
+    // Vertex of the minimum entry; only valid when the heap is not empty
+    int peekValue() {
+        return values[0];
+    }
+
+    void push(int key, int value) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size << 1);
+            values = Arrays.copyOf(values, size << 1);
+        }
+
+        // Sift up: move parents down until the slot for the new entry is found
+        int i = size++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (keys[parent] <= key) break;
+            keys[i] = keys[parent];
+            values[i] = values[parent];
+            i = parent;
+        }
+        keys[i] = key;
+        values[i] = value;
+    }
+
+    // Removes the minimum entry; read it first with peekKey/peekValue
+    void pop() {
+        int last = --size;
+        if (last == 0) return;
+
+        int key = keys[last];
+        int value = values[last];
+
+        // Sift down: move the smaller child up until the last entry fits
+        int i = 0;
+        int half = last >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < last && keys[child + 1] < keys[child]) child++;
+            if (key <= keys[child]) break;
+            keys[i] = keys[child];
+            values[i] = values[child];
+            i = child;
+        }
+        keys[i] = key;
+        values[i] = value;
+    }
+}
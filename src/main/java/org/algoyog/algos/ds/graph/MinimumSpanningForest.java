@@ -0,0 +1,180 @@
+package org.algoyog.algos.ds.graph;
+
+import org.algoyog.algos.algos.sort.SortingAlgorithms;
+import org.algoyog.algos.ds.union_find.ConcurrentDisjointSet;
+import org.algoyog.algos.ds.union_find.DisjointSet;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
+
+/**
+ * Minimum Spanning Forest of undirected weighted graphs
+ * A minimum spanning tree for every connected component. Both algorithms return the chosen edges
+ * as indices into an EdgeList, so no edge objects are created.
+ *
+ * 1. Kruskal: edges in weight order (parallel radix sort), DisjointSet rejects cycle edges
+ * 2. Boruvka: every component picks its cheapest outgoing edge in parallel, all picks are merged,
+ *    and the number of components at least halves per round
+ */
+public class MinimumSpanningForest {
+
+    /**
+     * Undirected edges as three parallel int arrays
+     */
+    public static class EdgeList {
+        private final int V;
+        private final int[] from;
+        private final int[] to;
+        private final int[] weight;
+
+        public EdgeList(int V, int[] from, int[] to, int[] weight) {
+            this.V = V;
+            this.from = from;
+            this.to = to;
+            this.weight = weight;
+        }
+
+        /**
+         * Collect the undirected edges of a graph built with addUndirectedEdge
+         * Every edge is stored in both directions there, so only the copy with u < v is kept.
+         * Time Complexity: O(V + E)
+         */
+        public static EdgeList of(GraphAlgorithms.WeightedGraph graph) {
+            List<int[]>[] adj = graph.getAdjList();
+            int V = graph.getVertexCount();
+            int count = 0;
+            for (int u = 0; u < V; u++) {
+                for (int[] edge : adj[u]) {
+                    if (u < edge[0]) count++;
+                }
+            }
+
+            int[] from = new int[count];
+            int[] to = new int[count];
+            int[] weight = new int[count];
+            int i = 0;
+            for (int u = 0; u < V; u++) {
+                for (int[] edge : adj[u]) {
+                    if (u < edge[0]) {
+                        from[i] = u;
+                        to[i] = edge[0];
+                        weight[i++] = edge[1];
+                    }
+                }
+            }
+            return new EdgeList(V, from, to, weight);
+        }
+
+        public int getVertexCount() {
+            return V;
+        }
+
+        public int size() {
+            return from.length;
+        }
+
+        public int getFrom(int edge) {
+            return from[edge];
+        }
+
+        public int getTo(int edge) {
+            return to[edge];
+        }
+
+        public int getWeight(int edge) {
+            return weight[edge];
+        }
+
+        // Sum of the weights of the given edges
+        public long totalWeight(int[] edges) {
+            long total = 0;
+            for (int e : edges) total += weight[e];
+            return total;
+        }
+    }
+
+    /**
+     * Kruskal's Algorithm
+     * Time Complexity: O(E) for the radix sort + O(E α(V)) for the union-find pass
+     * Space Complexity: O(V + E)
+     */
+    public int[] kruskal(EdgeList edges) {
+        int V = edges.getVertexCount();
+        int[] order = new SortingAlgorithms().parallelRadixSortIndices(edges.weight);
+        DisjointSet ds = new DisjointSet(V);
+        int[] forest = new int[Math.max(0, V - 1)];
+        int count = 0;
+
+        for (int e : order) {
+            int u = edges.from[e];
+            int v = edges.to[e];
+            // Skip edges that would close a cycle
+            if (!ds.isConnected(u, v)) {
+                ds.union(u, v);
+                forest[count++] = e;
+                if (count == V - 1) break; // Spanning tree complete
+            }
+        }
+
+        return Arrays.copyOf(forest, count);
+    }
+
+    /**
+     * Parallel Boruvka's Algorithm
+     * Each round scans the remaining edges in parallel; for both endpoint components the edge
+     * competes for the component's cheapest edge via a compare-and-set on a packed
+     * (weight, edge index) long. Ties are broken by edge index, which keeps the picked edges
+     * acyclic. Picked edges are merged with a concurrent union-find and edges inside a
+     * component are dropped before the next round.
+     * Time Complexity: O(E log V) work, O(log V) rounds
+     * Space Complexity: O(V + E)
+     */
+    public int[] parallelBoruvka(EdgeList edges) {
+        int V = edges.getVertexCount();
+        ConcurrentDisjointSet ds = new ConcurrentDisjointSet(V);
+        AtomicLongArray cheapest = new AtomicLongArray(V);
+        boolean[] picked = new boolean[edges.size()];
+        int[] active = IntStream.range(0, edges.size()).toArray();
+
+        while (active.length > 0) {
+            IntStream.range(0, V).parallel().forEach(v -> cheapest.set(v, Long.MAX_VALUE));
+
+            final int[] current = active;
+            IntStream.range(0, current.length).parallel().forEach(i -> {
+                int e = current[i];
+                int cu = ds.find(edges.from[e]);
+                int cv = ds.find(edges.to[e]);
+                if (cu == cv) return;
+                long key = ((long) edges.weight[e] << 32) | e;
+                lowerTo(cheapest, cu, key);
+                lowerTo(cheapest, cv, key);
+            });
+
+            // Merge along every component's cheapest edge; an edge picked by both sides merges once
+            IntStream.range(0, V).parallel().forEach(c -> {
+                long key = cheapest.get(c);
+                if (key == Long.MAX_VALUE) return;
+                int e = (int) key;
+                if (ds.union(edges.from[e], edges.to[e])) {
+                    picked[e] = true;
+                }
+            });
+            IntStream.range(0, V).parallel().forEach(ds::compress);
+
+            active = Arrays.stream(current).parallel()
+                    .filter(e -> ds.find(edges.from[e]) != ds.find(edges.to[e]))
+                    .toArray();
+        }
+
+        return IntStream.range(0, picked.length).filter(e -> picked[e]).toArray();
+    }
+
+    private static void lowerTo(AtomicLongArray array, int index, long value) {
+        long current = array.get(index);
+        while (value < current && !array.compareAndSet(index, current, value)) {
+            current = array.get(index);
+        }
+    }
+}
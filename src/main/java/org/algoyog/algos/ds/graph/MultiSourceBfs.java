@@ -0,0 +1,146 @@
+package org.algoyog.algos.ds.graph;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Multi-Source BFS (MS-BFS, Then et al.)
+ * Runs many unweighted BFS traversals at once. Every vertex keeps one bit per source in
+ * "seen", "visit" (frontier) and "next" bit lanes, so one scan of a frontier vertex's adjacency
+ * list advances every BFS that currently has it on its frontier:
+ *
+ *   for v with visit[v] != 0, for each neighbor n:
+ *       newBits = visit[v] & ~seen[n];  next[n] |= newBits;  seen[n] |= newBits
+ *
+ * Sources are processed in batches of `lanes` (a multiple of 64, one long per 64 sources);
+ * independent batches run in parallel on the ForkJoin common pool.
+ */
+public class MultiSourceBfs {
+    private final int words; // longs per vertex, 64 sources each
+
+    /**
+     * Receives the finished depth row of one source
+     * depths[v] is the number of edges from the source to v, or -1 if unreachable.
+     * Called concurrently for different batches; the array is reused after accept returns.
+     */
+    @FunctionalInterface
+    public interface SourceCallback {
+        void accept(int source, int[] depths);
+    }
+
+    public MultiSourceBfs() {
+        this(64);
+    }
+
+    // Sources per batch, rounded up to a multiple of 64
+    public MultiSourceBfs(int lanes) {
+        this.words = Math.max(1, (lanes + 63) / 64);
+    }
+
+    /**
+     * Depth of every vertex from every source: result[i][v] for sources[i], -1 if unreachable
+     * Time Complexity: O((V * levels + E * levels) * sources / lanes) word operations
+     * Space Complexity: O(V * sources) for the result
+     */
+    public int[][] distances(GraphAlgorithms.Graph graph, int[] sources) {
+        return distances(CsrGraph.of(graph), sources);
+    }
+
+    public int[][] distances(CsrGraph graph, int[] sources) {
+        int[][] result = new int[sources.length][];
+        // Sources may repeat, so rows are matched by position rather than by vertex
+        forEachBatch(graph, sources, (index, depths) -> result[index] = depths.clone());
+        return result;
+    }
+
+    /**
+     * Stream one depth row per source to the callback without keeping all rows
+     * Space Complexity: O(V * lanes) per concurrently running batch
+     */
+    public void forEachSource(GraphAlgorithms.Graph graph, int[] sources, SourceCallback callback) {
+        forEachSource(CsrGraph.of(graph), sources, callback);
+    }
+
+    public void forEachSource(CsrGraph graph, int[] sources, SourceCallback callback) {
+        forEachBatch(graph, sources, (index, depths) -> callback.accept(sources[index], depths));
+    }
+
+    private void forEachBatch(CsrGraph graph, int[] sources, SourceCallback byIndex) {
+        int lanes = 64 * words;
+        int batches = (sources.length + lanes - 1) / lanes;
+        IntStream.range(0, batches).parallel().forEach(b -> {
+            int from = b * lanes;
+            int to = Math.min(sources.length, from + lanes);
+            int[][] depths = runBatch(graph, sources, from, to);
+            for (int i = from; i < to; i++) {
+                byIndex.accept(i, depths[i - from]);
+            }
+        });
+    }
+
+    // One MS-BFS over sources[from..to); lane i belongs to sources[from + i]
+    private int[][] runBatch(CsrGraph graph, int[] sources, int from, int to) {
+        int V = graph.getVertexCount();
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int count = to - from;
+        int w = words;
+
+        long[] seen = new long[V * w];
+        long[] visit = new long[V * w];
+        long[] next = new long[V * w];
+        int[][] depths = new int[count][V];
+        for (int[] row : depths) Arrays.fill(row, -1);
+
+        for (int i = 0; i < count; i++) {
+            int s = sources[from + i];
+            long bit = 1L << (i & 63);
+            seen[s * w + (i >>> 6)] |= bit;
+            visit[s * w + (i >>> 6)] |= bit;
+            depths[i][s] = 0;
+        }
+
+        boolean active = count > 0;
+        for (int level = 1; active; level++) {
+            active = false;
+
+            for (int v = 0; v < V; v++) {
+                int base = v * w;
+                boolean onFrontier = false;
+                for (int k = 0; k < w; k++) {
+                    if (visit[base + k] != 0) {
+                        onFrontier = true;
+                        break;
+                    }
+                }
+                if (!onFrontier) continue;
+
+                // One pass over v's neighbors serves every BFS that has v on its frontier
+                for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+                    int nb = targets[e] * w;
+                    for (int k = 0; k < w; k++) {
+                        long fresh = visit[base + k] & ~seen[nb + k];
+                        if (fresh == 0) continue;
+                        seen[nb + k] |= fresh;
+                        next[nb + k] |= fresh;
+                        active = true;
+
+                        int n = targets[e];
+                        while (fresh != 0) {
+                            int lane = (k << 6) + Long.numberOfTrailingZeros(fresh);
+                            depths[lane][n] = level;
+                            fresh &= fresh - 1;
+                        }
+                    }
+                }
+            }
+
+            long[] tmp = visit;
+            visit = next;
+            next = tmp;
+            Arrays.fill(next, 0);
+        }
+
+        return depths;
+    }
+}
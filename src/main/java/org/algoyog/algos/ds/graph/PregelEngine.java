@@ -0,0 +1,402 @@
+package org.algoyog.algos.ds.graph;
+
+import java.util.Arrays;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Pregel-style Bulk Synchronous Parallel (BSP) vertex-program engine
+ * Vertices are split into contiguous partitions, one per worker. Every worker runs on its own
+ * thread and only touches its own vertices; the workers exchange nothing but message buffers,
+ * which is how a cluster of separate machines would run the same program. Each superstep:
+ *
+ * 1. compute: every active vertex, and every vertex that received messages, runs the vertex
+ *    program. It reads its messages, updates its value, sends messages and may vote to halt.
+ * 2. barrier
+ * 3. deliver: each worker drains the buffers the others filled for it into its inbox, folding
+ *    them with the combiner when one is given
+ * 4. barrier; the run ends when no vertex is active and no message is in flight
+ *
+ * Values and messages are doubles held in primitive arrays; an outgoing buffer per
+ * (sender, receiving partition) pair means no locks on the send path. Halted vertices in a
+ * partition without messages cost nothing beyond one flag check.
+ */
+public class PregelEngine {
+    private final int workers;
+
+    /**
+     * User code run for one vertex in one superstep
+     */
+    @FunctionalInterface
+    public interface VertexProgram {
+        void compute(Context context);
+    }
+
+    /**
+     * Folds two messages to the same vertex into one, e.g. MIN for shortest paths or SUM for
+     * PageRank. Must be associative and commutative.
+     */
+    @FunctionalInterface
+    public interface Combiner {
+        Combiner MIN = Math::min;
+        Combiner MAX = Math::max;
+        Combiner SUM = Double::sum;
+
+        double combine(double a, double b);
+    }
+
+    /**
+     * Outcome of a run
+     */
+    public static class Result {
+        private final double[] values;
+        private final int supersteps;
+        private final long messages;
+
+        Result(double[] values, int supersteps, long messages) {
+            this.values = values;
+            this.supersteps = supersteps;
+            this.messages = messages;
+        }
+
+        public double[] getValues() {
+            return values;
+        }
+
+        public int getSupersteps() {
+            return supersteps;
+        }
+
+        // Messages sent over the whole run, before combining
+        public long getMessageCount() {
+            return messages;
+        }
+    }
+
+    public PregelEngine() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public PregelEngine(int workers) {
+        if (workers < 1) {
+            throw new IllegalArgumentException("At least one worker is required");
+        }
+        this.workers = workers;
+    }
+
+    public Result run(GraphAlgorithms.Graph graph, double[] initialValues, VertexProgram program,
+                      Combiner combiner, int maxSupersteps) {
+        return run(CsrGraph.of(graph), initialValues, program, combiner, maxSupersteps);
+    }
+
+    /**
+     * Run a vertex program until every vertex has halted with no messages pending, or
+     * maxSupersteps supersteps have run. All vertices start active.
+     * combiner may be null, in which case every message is delivered individually.
+     * Time Complexity: O(supersteps * (V / P + messages / P)) per worker
+     * Space Complexity: O(V + E + messages per superstep)
+     */
+    public Result run(CsrGraph graph, double[] initialValues, VertexProgram program,
+                      Combiner combiner, int maxSupersteps) {
+        int V = graph.getVertexCount();
+        if (initialValues.length != V) {
+            throw new IllegalArgumentException("Expected " + V + " initial values");
+        }
+        return new Run(graph, initialValues.clone(), program, combiner, maxSupersteps).execute();
+    }
+
+    /**
+     * Messages sent by one worker to one partition during a superstep
+     */
+    private static class MessageBuffer {
+        int[] targets = new int[16];
+        double[] values = new double[16];
+        int size;
+
+        void add(int target, double value) {
+            if (size == targets.length) {
+                targets = Arrays.copyOf(targets, size << 1);
+                values = Arrays.copyOf(values, size << 1);
+            }
+            targets[size] = target;
+            values[size++] = value;
+        }
+    }
+
+    /**
+     * State of one run, shared by the worker threads
+     */
+    private class Run {
+        final int[] offsets;
+        final int[] targets;
+        final int[] weights;
+        final double[] values;
+        final VertexProgram program;
+        final Combiner combiner;
+        final int maxSupersteps;
+
+        final int V;
+        final int chunk;           // Vertices per partition; partition of v is v / chunk
+        final boolean[] active;
+        final MessageBuffer[][] outbox;   // outbox[sender][receiver]
+        final long[] pending;             // Active vertices + received messages per worker
+        final long[] sent;
+        final CyclicBarrier computed;
+        final CyclicBarrier delivered;
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        volatile boolean done;
+        int superstep;
+
+        Run(CsrGraph graph, double[] values, VertexProgram program, Combiner combiner, int maxSupersteps) {
+            this.offsets = graph.getOffsets();
+            this.targets = graph.getTargets();
+            this.weights = graph.getWeights();
+            this.values = values;
+            this.program = program;
+            this.combiner = combiner;
+            this.maxSupersteps = maxSupersteps;
+            this.V = graph.getVertexCount();
+            this.chunk = Math.max(1, (V + workers - 1) / workers);
+            this.active = new boolean[V];
+            Arrays.fill(active, true);
+
+            outbox = new MessageBuffer[workers][workers];
+            for (MessageBuffer[] row : outbox) {
+                for (int p = 0; p < workers; p++) row[p] = new MessageBuffer();
+            }
+            pending = new long[workers];
+            sent = new long[workers];
+            computed = new CyclicBarrier(workers);
+            // The action runs once per superstep, after every worker has delivered its messages
+            delivered = new CyclicBarrier(workers, () -> {
+                superstep++;
+                long total = 0;
+                for (long p : pending) total += p;
+                done = total == 0 || superstep >= maxSupersteps || failure.get() != null;
+            });
+        }
+
+        Result execute() {
+            done = maxSupersteps <= 0;
+            if (!done) {
+                Thread[] threads = new Thread[workers];
+                for (int p = 0; p < workers; p++) {
+                    Worker worker = new Worker(p);
+                    threads[p] = new Thread(worker::run, "pregel-worker-" + p);
+                    threads[p].start();
+                }
+                for (Thread thread : threads) {
+                    try {
+                        thread.join();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException("Interrupted while waiting for workers", e);
+                    }
+                }
+            }
+
+            Throwable error = failure.get();
+            if (error instanceof RuntimeException) throw (RuntimeException) error;
+            if (error instanceof Error) throw (Error) error;
+            if (error != null) throw new IllegalStateException("Worker failed", error);
+
+            long messages = 0;
+            for (long s : sent) messages += s;
+            return new Result(values, superstep, messages);
+        }
+
+        private class Worker {
+            final int id;
+            final int from;
+            final int to;
+            final Context context;
+
+            // Inbox of the partition, indexed by v - from
+            final boolean[] hasMessage;
+            final double[] combined;    // With a combiner: the folded message
+            int[] inStart;              // Without: messages of v are inValues[inStart[i] .. inStart[i + 1])
+            double[] inValues;
+
+            Worker(int id) {
+                this.id = id;
+                this.from = Math.min(V, id * chunk);
+                this.to = Math.min(V, from + chunk);
+                int n = to - from;
+                hasMessage = new boolean[n];
+                combined = combiner != null ? new double[n] : null;
+                inStart = combiner == null ? new int[n + 1] : null;
+                inValues = new double[0];
+                context = new Context(Run.this, this);
+            }
+
+            void run() {
+                try {
+                    while (true) {
+                        try {
+                            compute();
+                        } catch (Throwable t) {
+                            // Keep taking part in the barriers so the others stop after this superstep
+                            failure.compareAndSet(null, t);
+                        }
+                        computed.await();
+                        long received = deliver();
+                        long stillActive = 0;
+                        for (int v = from; v < to; v++) {
+                            if (active[v]) stillActive++;
+                        }
+                        pending[id] = stillActive + received;
+                        delivered.await();
+                        if (done) return;
+                    }
+                } catch (BrokenBarrierException e) {
+                    // Another worker was interrupted; its exception is reported
+                } catch (InterruptedException e) {
+                    failure.compareAndSet(null, e);
+                    computed.reset();
+                    delivered.reset();
+                }
+            }
+
+            private void compute() {
+                for (int v = from; v < to; v++) {
+                    // Skip vertices that halted and were not woken up by a message
+                    if (!active[v] && !hasMessage[v - from]) continue;
+                    active[v] = true;
+                    context.vertex = v;
+                    program.compute(context);
+                }
+            }
+
+            // Drain every sender's buffer for this partition; returns the number of messages
+            private long deliver() {
+                int n = to - from;
+                Arrays.fill(hasMessage, false);
+                long received = 0;
+
+                if (combiner != null) {
+                    for (int w = 0; w < workers; w++) {
+                        MessageBuffer buffer = outbox[w][id];
+                        for (int i = 0; i < buffer.size; i++) {
+                            int local = buffer.targets[i] - from;
+                            double value = buffer.values[i];
+                            combined[local] = hasMessage[local] ? combiner.combine(combined[local], value) : value;
+                            hasMessage[local] = true;
+                        }
+                        received += buffer.size;
+                        buffer.size = 0;
+                    }
+                    return received;
+                }
+
+                // Counting sort of the messages by target vertex
+                Arrays.fill(inStart, 0);
+                for (int w = 0; w < workers; w++) {
+                    MessageBuffer buffer = outbox[w][id];
+                    for (int i = 0; i < buffer.size; i++) {
+                        inStart[buffer.targets[i] - from + 1]++;
+                    }
+                    received += buffer.size;
+                }
+                for (int i = 0; i < n; i++) {
+                    inStart[i + 1] += inStart[i];
+                }
+                if (inValues.length < received) {
+                    inValues = new double[(int) received];
+                }
+                int[] fill = Arrays.copyOf(inStart, n);
+                for (int w = 0; w < workers; w++) {
+                    MessageBuffer buffer = outbox[w][id];
+                    for (int i = 0; i < buffer.size; i++) {
+                        int local = buffer.targets[i] - from;
+                        inValues[fill[local]++] = buffer.values[i];
+                        hasMessage[local] = true;
+                    }
+                    buffer.size = 0;
+                }
+                return received;
+            }
+        }
+    }
+
+    /**
+     * View of the current vertex handed to the vertex program
+     * One instance per worker, reused for every vertex; do not keep it past compute.
+     */
+    public class Context {
+        private final Run.Worker worker;
+        private final Run run;
+        private int vertex;
+
+        Context(Run run, Run.Worker worker) {
+            this.run = run;
+            this.worker = worker;
+        }
+
+        public int getVertex() {
+            return vertex;
+        }
+
+        // 0 in the first superstep
+        public int getSuperstep() {
+            return run.superstep;
+        }
+
+        public int getVertexCount() {
+            return run.V;
+        }
+
+        public double getValue() {
+            return run.values[vertex];
+        }
+
+        public void setValue(double value) {
+            run.values[vertex] = value;
+        }
+
+        // 0 or 1 when a combiner is used
+        public int getMessageCount() {
+            int local = vertex - worker.from;
+            if (!worker.hasMessage[local]) return 0;
+            if (run.combiner != null) return 1;
+            return worker.inStart[local + 1] - worker.inStart[local];
+        }
+
+        public double getMessage(int i) {
+            int local = vertex - worker.from;
+            if (i < 0 || i >= getMessageCount()) {
+                throw new IndexOutOfBoundsException("Message " + i + " of vertex " + vertex);
+            }
+            return run.combiner != null ? worker.combined[local] : worker.inValues[worker.inStart[local] + i];
+        }
+
+        public int getOutDegree() {
+            return run.offsets[vertex + 1] - run.offsets[vertex];
+        }
+
+        public int getNeighbor(int i) {
+            return run.targets[run.offsets[vertex] + i];
+        }
+
+        // Weight of the i-th out-edge; 1 for unweighted graphs
+        public int getEdgeWeight(int i) {
+            return run.weights == null ? 1 : run.weights[run.offsets[vertex] + i];
+        }
+
+        public void sendMessage(int target, double value) {
+            run.outbox[worker.id][target / run.chunk].add(target, value);
+            run.sent[worker.id]++;
+        }
+
+        public void sendToNeighbors(double value) {
+            for (int e = run.offsets[vertex]; e < run.offsets[vertex + 1]; e++) {
+                sendMessage(run.targets[e], value);
+            }
+        }
+
+        // The vertex is skipped from the next superstep on until a message arrives
+        public void voteToHalt() {
+            run.active[vertex] = false;
+        }
+    }
+}
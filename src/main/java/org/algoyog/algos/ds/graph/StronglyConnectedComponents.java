@@ -0,0 +1,435 @@
+package org.algoyog.algos.ds.graph;
+
+import java.util.Arrays;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * Strongly Connected Components (SCC) of directed graphs
+ * Two vertices are in the same SCC when each can reach the other. Every algorithm here returns
+ * a component id per vertex; ids are dense (0 .. count - 1) so they can index arrays directly.
+ *
+ * 1. tarjan: Pearce's space-efficient variant of Tarjan's algorithm with an explicit stack
+ * 2. parallelForwardBackward: trimming plus forward-backward (FW-BW) divide and conquer on ForkJoin
+ * 3. condensation: the DAG obtained by collapsing every SCC into a single vertex
+ */
+public class StronglyConnectedComponents {
+    // Subproblems smaller than this are solved with sequential Tarjan
+    private static final int SEQUENTIAL_CUTOFF = 4096;
+
+    /**
+     * Result of an SCC computation
+     */
+    public static class Components {
+        private final int[] componentIds;
+        private final int count;
+
+        Components(int[] componentIds, int count) {
+            this.componentIds = componentIds;
+            this.count = count;
+        }
+
+        // Component id of every vertex
+        public int[] getComponentIds() {
+            return componentIds;
+        }
+
+        public int getComponentCount() {
+            return count;
+        }
+    }
+
+    public Components tarjan(GraphAlgorithms.Graph graph) {
+        return tarjan(CsrGraph.of(graph));
+    }
+
+    /**
+     * Iterative Tarjan / Pearce SCC
+     * rindex[v] holds the DFS index while v is on the stack and is replaced by the final
+     * component id when its SCC is complete, so no separate low-link or on-stack arrays are needed.
+     * Components are numbered in reverse topological order of the condensation
+     * (an SCC gets its id only after every SCC reachable from it).
+     * Time Complexity: O(V + E)
+     * Space Complexity: O(V) - one index array and two int stacks, no recursion
+     */
+    public Components tarjan(CsrGraph graph) {
+        int V = graph.getVertexCount();
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+
+        // Indices count up from 1 for open vertices; component c is stored as V - 1 - c
+        // so both kinds of values fit in one array and a finished vertex compares larger
+        // than any open one (Pearce's trick).
+        int[] rindex = new int[V];
+        boolean[] root = new boolean[V];
+        int[] cursor = new int[V];
+        int[] callStack = new int[V];
+        int[] sccStack = new int[V];
+        int index = 1;
+        int component = V - 1;
+        int sccTop = 0;
+
+        for (int s = 0; s < V; s++) {
+            if (rindex[s] != 0) continue;
+
+            int top = 0;
+            callStack[top++] = s;
+            rindex[s] = index++;
+            root[s] = true;
+            cursor[s] = offsets[s];
+
+            while (top > 0) {
+                int v = callStack[top - 1];
+
+                if (cursor[v] < offsets[v + 1]) {
+                    int w = targets[cursor[v]++];
+                    if (rindex[w] == 0) {
+                        // Tree edge: descend into w
+                        rindex[w] = index++;
+                        root[w] = true;
+                        cursor[w] = offsets[w];
+                        callStack[top++] = w;
+                    } else if (rindex[w] < rindex[v]) {
+                        // w is open and older than v (finished vertices hold large values)
+                        rindex[v] = rindex[w];
+                        root[v] = false;
+                    }
+                    continue;
+                }
+
+                // All edges of v done: return to the parent, propagating the low link
+                top--;
+                if (root[v]) {
+                    index--;
+                    while (sccTop > 0 && rindex[v] <= rindex[sccStack[sccTop - 1]]) {
+                        int w = sccStack[--sccTop];
+                        rindex[w] = component;
+                        index--;
+                    }
+                    rindex[v] = component--;
+                } else {
+                    sccStack[sccTop++] = v;
+                }
+
+                if (top > 0) {
+                    int parent = callStack[top - 1];
+                    if (rindex[v] < rindex[parent]) {
+                        rindex[parent] = rindex[v];
+                        root[parent] = false;
+                    }
+                }
+            }
+        }
+
+        // Translate stored values back to ids 0 .. count - 1
+        int count = V - 1 - component;
+        for (int v = 0; v < V; v++) {
+            rindex[v] = V - 1 - rindex[v];
+        }
+        return new Components(rindex, count);
+    }
+
+    public Components parallelForwardBackward(GraphAlgorithms.Graph graph) {
+        return parallelForwardBackward(CsrGraph.of(graph));
+    }
+
+    /**
+     * Parallel FW-BW SCC with trimming
+     * 1. Trim: repeatedly remove vertices with no in- or out-edges inside the graph;
+     *    each is a singleton SCC (on real graphs this removes a large share of vertices).
+     * 2. Pick a pivot; the vertices reachable both forwards and backwards from it form its SCC.
+     * 3. The rest splits into forward-only, backward-only and unreached sets; no SCC crosses
+     *    these sets, so the three are solved as independent ForkJoin tasks.
+     * Small subproblems fall back to sequential Tarjan.
+     * Time Complexity: O((V + E) log V) expected work
+     * Space Complexity: O(V + E) including the transposed graph
+     */
+    public Components parallelForwardBackward(CsrGraph graph) {
+        int V = graph.getVertexCount();
+        ForwardBackward fb = new ForwardBackward(graph, graph.transpose());
+
+        // Every vertex starts in partition 0; removed vertices get partition -1
+        fb.trim();
+        int[] remaining = IntStream.range(0, V).filter(v -> fb.partition[v] == 0).toArray();
+        if (remaining.length > 0) {
+            fb.new Task(remaining, 0).invoke();
+        }
+
+        return new Components(fb.componentIds, fb.componentCount.get());
+    }
+
+    /**
+     * Condensation DAG: one vertex per SCC and one edge per pair of SCCs joined by an edge
+     * Duplicate edges and edges inside an SCC are dropped.
+     * Time Complexity: O(V + E)
+     */
+    public GraphAlgorithms.Graph condensation(GraphAlgorithms.Graph graph, Components components) {
+        CsrGraph csr = CsrGraph.of(graph);
+        int[] ids = components.getComponentIds();
+        int count = components.getComponentCount();
+        int[] offsets = csr.getOffsets();
+        int[] targets = csr.getTargets();
+
+        // Group vertices by component so every component's out-edges are collected together
+        int[] start = new int[count + 1];
+        for (int id : ids) start[id + 1]++;
+        for (int c = 0; c < count; c++) start[c + 1] += start[c];
+        int[] members = new int[ids.length];
+        int[] fill = Arrays.copyOf(start, count);
+        for (int v = 0; v < ids.length; v++) members[fill[ids[v]]++] = v;
+
+        GraphAlgorithms.Graph dag = new GraphAlgorithms.Graph(count);
+        int[] lastSeen = new int[count]; // lastSeen[d] == c + 1 when edge c -> d was already added
+        for (int c = 0; c < count; c++) {
+            for (int i = start[c]; i < start[c + 1]; i++) {
+                int v = members[i];
+                for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+                    int d = ids[targets[e]];
+                    if (d != c && lastSeen[d] != c + 1) {
+                        lastSeen[d] = c + 1;
+                        dag.addEdge(c, d);
+                    }
+                }
+            }
+        }
+        return dag;
+    }
+
+    /**
+     * Shared state of the FW-BW recursion
+     * partition[v] tags the subproblem a vertex currently belongs to (-1 once its SCC is known).
+     * A task only writes vertices carrying its own tag and hands fresh tags to its children,
+     * so concurrent tasks never write the same entry.
+     */
+    private static class ForwardBackward {
+        final CsrGraph graph;
+        final CsrGraph reverse;
+        final int[] partition;
+        final int[] componentIds;
+        final int[] localIndex; // Position of a vertex inside its sequential subproblem
+        final AtomicInteger componentCount = new AtomicInteger();
+        final AtomicInteger nextPartition = new AtomicInteger(1);
+
+        ForwardBackward(CsrGraph graph, CsrGraph reverse) {
+            int V = graph.getVertexCount();
+            this.graph = graph;
+            this.reverse = reverse;
+            this.partition = new int[V];
+            this.componentIds = new int[V];
+            this.localIndex = new int[V];
+        }
+
+        /**
+         * Remove vertices with no remaining in- or out-edges until none is left
+         * Every removed vertex is a singleton SCC. The degree scan is parallel; the cascade
+         * that follows is a sequential queue because it touches few vertices.
+         */
+        void trim() {
+            int V = graph.getVertexCount();
+            int[] inDegree = new int[V];
+            int[] outDegree = new int[V];
+            IntStream.range(0, V).parallel().forEach(v -> {
+                outDegree[v] = graph.degree(v);
+                inDegree[v] = reverse.degree(v);
+            });
+
+            int[] queue = IntStream.range(0, V).parallel()
+                    .filter(v -> inDegree[v] == 0 || outDegree[v] == 0).toArray();
+            int tail = queue.length;
+            queue = Arrays.copyOf(queue, V);
+            for (int i = 0; i < tail; i++) partition[queue[i]] = -1;
+
+            for (int head = 0; head < tail; head++) {
+                int v = queue[head];
+                componentIds[v] = componentCount.getAndIncrement();
+                tail = release(v, graph, inDegree, queue, tail);
+                tail = release(v, reverse, outDegree, queue, tail);
+            }
+        }
+
+        private int release(int v, CsrGraph g, int[] degree, int[] queue, int tail) {
+            int[] offsets = g.getOffsets();
+            int[] targets = g.getTargets();
+            for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+                int w = targets[e];
+                if (partition[w] != -1 && --degree[w] == 0) {
+                    partition[w] = -1;
+                    queue[tail++] = w;
+                }
+            }
+            return tail;
+        }
+
+        @SuppressWarnings("serial") // Never serialized
+        class Task extends RecursiveAction {
+            private final int[] vertices;
+            private final int tag;
+
+            Task(int[] vertices, int tag) {
+                this.vertices = vertices;
+                this.tag = tag;
+            }
+
+            @Override
+            protected void compute() {
+                if (vertices.length <= SEQUENTIAL_CUTOFF) {
+                    solveSequentially();
+                    return;
+                }
+
+                int pivot = vertices[vertices.length / 2];
+                int forwardTag = nextPartition.getAndIncrement();
+                int backwardTag = nextPartition.getAndIncrement();
+                int restTag = nextPartition.getAndIncrement();
+
+                forwardReach(pivot, forwardTag);
+                backwardReach(pivot, forwardTag, backwardTag, componentCount.getAndIncrement());
+
+                // Whatever still carries this task's tag was reached in neither direction
+                int fw = 0, bw = 0, rest = 0;
+                for (int v : vertices) {
+                    int p = partition[v];
+                    if (p == forwardTag) fw++;
+                    else if (p == backwardTag) bw++;
+                    else if (p == tag) rest++;
+                }
+                int[] forwardSet = new int[fw];
+                int[] backwardSet = new int[bw];
+                int[] restSet = new int[rest];
+                fw = bw = rest = 0;
+                for (int v : vertices) {
+                    int p = partition[v];
+                    if (p == forwardTag) {
+                        forwardSet[fw++] = v;
+                    } else if (p == backwardTag) {
+                        backwardSet[bw++] = v;
+                    } else if (p == tag) {
+                        partition[v] = restTag;
+                        restSet[rest++] = v;
+                    }
+                }
+
+                invokeAll(new Task(forwardSet, forwardTag),
+                        new Task(backwardSet, backwardTag),
+                        new Task(restSet, restTag));
+            }
+
+            // Relabel everything reachable from the pivot inside this task to forwardTag
+            private void forwardReach(int pivot, int forwardTag) {
+                int[] offsets = graph.getOffsets();
+                int[] targets = graph.getTargets();
+                int[] stack = new int[vertices.length];
+                int top = 0;
+                partition[pivot] = forwardTag;
+                stack[top++] = pivot;
+                while (top > 0) {
+                    int v = stack[--top];
+                    for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+                        int w = targets[e];
+                        if (partition[w] == tag) {
+                            partition[w] = forwardTag;
+                            stack[top++] = w;
+                        }
+                    }
+                }
+            }
+
+            /**
+             * Walk the reversed edges from the pivot
+             * Vertices also reached forwards form the pivot's SCC; the others become backward-only.
+             */
+            private void backwardReach(int pivot, int forwardTag, int backwardTag, int id) {
+                int[] offsets = reverse.getOffsets();
+                int[] targets = reverse.getTargets();
+                int[] stack = new int[vertices.length];
+                int top = 0;
+                partition[pivot] = -1;
+                componentIds[pivot] = id;
+                stack[top++] = pivot;
+
+                while (top > 0) {
+                    int v = stack[--top];
+                    for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+                        int w = targets[e];
+                        int p = partition[w];
+                        if (p == forwardTag) {
+                            partition[w] = -1;
+                            componentIds[w] = id;
+                            stack[top++] = w;
+                        } else if (p == tag) {
+                            partition[w] = backwardTag;
+                            stack[top++] = w;
+                        }
+                    }
+                }
+            }
+
+            // Iterative Tarjan restricted to the vertices carrying this task's tag
+            private void solveSequentially() {
+                int[] offsets = graph.getOffsets();
+                int[] targets = graph.getTargets();
+                int n = vertices.length;
+
+                // Scratch arrays are indexed by position in the task, so they are sized by the subproblem
+                for (int i = 0; i < n; i++) localIndex[vertices[i]] = i;
+                int[] order = new int[n];
+                int[] lowlink = new int[n];
+                int[] cursor = new int[n];
+                boolean[] onStack = new boolean[n];
+                int[] callStack = new int[n];
+                int[] sccStack = new int[n];
+                int counter = 0;
+                int sccTop = 0;
+
+                for (int s = 0; s < n; s++) {
+                    if (order[s] != 0) continue;
+
+                    int top = 0;
+                    order[s] = lowlink[s] = ++counter;
+                    sccStack[sccTop++] = s;
+                    onStack[s] = true;
+                    cursor[s] = offsets[vertices[s]];
+                    callStack[top++] = s;
+
+                    while (top > 0) {
+                        int v = callStack[top - 1];
+                        if (cursor[v] < offsets[vertices[v] + 1]) {
+                            int target = targets[cursor[v]++];
+                            if (partition[target] != tag) continue; // Outside this subproblem
+
+                            int w = localIndex[target];
+                            if (order[w] == 0) {
+                                order[w] = lowlink[w] = ++counter;
+                                sccStack[sccTop++] = w;
+                                onStack[w] = true;
+                                cursor[w] = offsets[target];
+                                callStack[top++] = w;
+                            } else if (onStack[w]) {
+                                lowlink[v] = Math.min(lowlink[v], order[w]);
+                            }
+                            continue;
+                        }
+
+                        top--;
+                        if (lowlink[v] == order[v]) {
+                            int id = componentCount.getAndIncrement();
+                            int w;
+                            do {
+                                w = sccStack[--sccTop];
+                                onStack[w] = false;
+                                componentIds[vertices[w]] = id;
+                            } while (w != v);
+                        }
+                        if (top > 0) {
+                            int parent = callStack[top - 1];
+                            lowlink[parent] = Math.min(lowlink[parent], lowlink[v]);
+                        }
+                    }
+                }
+
+                for (int v : vertices) partition[v] = -1;
+            }
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package org.algoyog.algos.ds.graph;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
+
+/**
+ * Triangle Counting and Local Clustering Coefficients
+ * Edges are treated as undirected; self loops and parallel edges are ignored.
+ *
+ * Every edge is oriented from the endpoint with the lower (degree, id) rank to the higher one,
+ * and each vertex keeps only its sorted higher-ranked neighbors N+(u). A triangle is then found
+ * exactly once, as u -> v -> w with w in N+(u) ∩ N+(v). The orientation bounds every N+(u) by
+ * O(√E), so hubs do not dominate the work and vertices can be split across threads as they are.
+ *
+ * Intersections use a branch-free merge when both lists have similar length and galloping
+ * (exponential then binary search of the longer list) when one is much shorter.
+ */
+public class TriangleCounting {
+    // Length ratio above which galloping beats merging
+    private static final int GALLOP_RATIO = 32;
+
+    /**
+     * Global and per-vertex triangle counts with clustering coefficients
+     */
+    public static class Result {
+        private final long triangles;
+        private final long[] vertexTriangles;
+        private final int[] degrees;
+
+        Result(long triangles, long[] vertexTriangles, int[] degrees) {
+            this.triangles = triangles;
+            this.vertexTriangles = vertexTriangles;
+            this.degrees = degrees;
+        }
+
+        public long getTriangleCount() {
+            return triangles;
+        }
+
+        // Number of triangles containing each vertex
+        public long[] getVertexTriangles() {
+            return vertexTriangles;
+        }
+
+        /**
+         * Local clustering coefficient: the fraction of pairs of neighbors that are adjacent,
+         * 2 T(v) / (d(v) (d(v) - 1)); 0 for vertices with fewer than two neighbors
+         */
+        public double[] getClusteringCoefficients() {
+            double[] coefficients = new double[degrees.length];
+            for (int v = 0; v < degrees.length; v++) {
+                long d = degrees[v];
+                coefficients[v] = d < 2 ? 0 : 2.0 * vertexTriangles[v] / (d * (d - 1));
+            }
+            return coefficients;
+        }
+
+        // Mean of the local coefficients over all vertices
+        public double getAverageClustering() {
+            if (degrees.length == 0) return 0;
+            double sum = 0;
+            for (double c : getClusteringCoefficients()) sum += c;
+            return sum / degrees.length;
+        }
+    }
+
+    public long count(GraphAlgorithms.Graph graph) {
+        return count(CsrGraph.of(graph));
+    }
+
+    /**
+     * Total number of triangles
+     * Time Complexity: O(E √E) work, vertices processed in parallel
+     * Space Complexity: O(V + E)
+     */
+    public long count(CsrGraph graph) {
+        Oriented oriented = orient(graph);
+        int[] offsets = oriented.offsets;
+        int[] targets = oriented.targets;
+
+        return IntStream.range(0, graph.getVertexCount()).parallel().mapToLong(u -> {
+            long found = 0;
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int v = targets[e];
+                found += intersectCount(targets, offsets[u], offsets[u + 1], targets, offsets[v], offsets[v + 1]);
+            }
+            return found;
+        }).sum();
+    }
+
+    public Result analyze(GraphAlgorithms.Graph graph) {
+        return analyze(CsrGraph.of(graph));
+    }
+
+    /**
+     * Triangle counts per vertex and clustering coefficients
+     * Every triangle found credits its three corners with an atomic increment.
+     * Time Complexity: O(E √E) work
+     * Space Complexity: O(V + E)
+     */
+    public Result analyze(CsrGraph graph) {
+        Oriented oriented = orient(graph);
+        int[] offsets = oriented.offsets;
+        int[] targets = oriented.targets;
+        int V = graph.getVertexCount();
+        AtomicLongArray corners = new AtomicLongArray(V);
+
+        long total = IntStream.range(0, V).parallel().mapToLong(u -> {
+            long found = 0;
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int v = targets[e];
+                int common = intersectVisit(targets, offsets[u], offsets[u + 1], targets, offsets[v], offsets[v + 1], corners);
+                if (common > 0) {
+                    corners.addAndGet(v, common);
+                    found += common;
+                }
+            }
+            if (found > 0) corners.addAndGet(u, found);
+            return found;
+        }).sum();
+
+        long[] perVertex = new long[V];
+        for (int v = 0; v < V; v++) {
+            perVertex[v] = corners.get(v);
+        }
+        return new Result(total, perVertex, oriented.degrees);
+    }
+
+    /**
+     * Degree-oriented adjacency: rows hold the higher-ranked neighbors, sorted by id
+     */
+    private static class Oriented {
+        final int[] offsets;
+        final int[] targets;
+        final int[] degrees; // Undirected degree without loops and duplicates
+
+        Oriented(int[] offsets, int[] targets, int[] degrees) {
+            this.offsets = offsets;
+            this.targets = targets;
+            this.degrees = degrees;
+        }
+    }
+
+    private static Oriented orient(CsrGraph graph) {
+        int V = graph.getVertexCount();
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+
+        // Symmetrize: every edge u - v stored in both rows, then rows sorted and deduplicated
+        int[] start = new int[V + 1];
+        for (int u = 0; u < V; u++) {
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int v = targets[e];
+                if (u == v) continue;
+                start[u + 1]++;
+                start[v + 1]++;
+            }
+        }
+        for (int v = 0; v < V; v++) {
+            start[v + 1] += start[v];
+        }
+        int[] fill = Arrays.copyOf(start, V);
+        int[] both = new int[start[V]];
+        for (int u = 0; u < V; u++) {
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int v = targets[e];
+                if (u == v) continue;
+                both[fill[u]++] = v;
+                both[fill[v]++] = u;
+            }
+        }
+
+        int[] degrees = new int[V];
+        IntStream.range(0, V).parallel().forEach(v -> {
+            Arrays.sort(both, start[v], start[v + 1]);
+            int distinct = 0;
+            for (int i = start[v]; i < start[v + 1]; i++) {
+                if (i == start[v] || both[i] != both[i - 1]) {
+                    both[start[v] + distinct++] = both[i];
+                }
+            }
+            degrees[v] = distinct;
+        });
+
+        // Keep only neighbors of higher (degree, id) rank; rows stay sorted by id
+        int[] outOffsets = new int[V + 1];
+        for (int u = 0; u < V; u++) {
+            int count = 0;
+            for (int i = start[u]; i < start[u] + degrees[u]; i++) {
+                if (ranksBelow(degrees, u, both[i])) count++;
+            }
+            outOffsets[u + 1] = outOffsets[u] + count;
+        }
+        int[] outTargets = new int[outOffsets[V]];
+        IntStream.range(0, V).parallel().forEach(u -> {
+            int k = outOffsets[u];
+            for (int i = start[u]; i < start[u] + degrees[u]; i++) {
+                if (ranksBelow(degrees, u, both[i])) outTargets[k++] = both[i];
+            }
+        });
+        return new Oriented(outOffsets, outTargets, degrees);
+    }
+
+    private static boolean ranksBelow(int[] degrees, int u, int v) {
+        return degrees[u] < degrees[v] || (degrees[u] == degrees[v] && u < v);
+    }
+
+    /**
+     * Size of the intersection of the sorted ranges a[aFrom, aTo) and b[bFrom, bTo)
+     * Time Complexity: O(n + m) merging, O(n log(m / n)) galloping for n << m
+     */
+    static int intersectCount(int[] a, int aFrom, int aTo, int[] b, int bFrom, int bTo) {
+        int n = aTo - aFrom;
+        int m = bTo - bFrom;
+        if (n == 0 || m == 0) return 0;
+        if (n > m) return intersectCount(b, bFrom, bTo, a, aFrom, aTo);
+        if ((long) n * GALLOP_RATIO < m) return gallopCount(a, aFrom, aTo, b, bFrom, bTo, null);
+
+        // Branch-free merge: both cursors advance by comparison results, so there is no
+        // unpredictable branch per element for the CPU to mispredict
+        int count = 0;
+        int i = aFrom;
+        int j = bFrom;
+        while (i < aTo && j < bTo) {
+            int x = a[i];
+            int y = b[j];
+            count += x == y ? 1 : 0;
+            i += x <= y ? 1 : 0;
+            j += y <= x ? 1 : 0;
+        }
+        return count;
+    }
+
+    // As intersectCount, also crediting every common element in corners
+    private static int intersectVisit(int[] a, int aFrom, int aTo, int[] b, int bFrom, int bTo,
+                                      AtomicLongArray corners) {
+        int n = aTo - aFrom;
+        int m = bTo - bFrom;
+        if (n == 0 || m == 0) return 0;
+        if (n > m) return intersectVisit(b, bFrom, bTo, a, aFrom, aTo, corners);
+        if ((long) n * GALLOP_RATIO < m) return gallopCount(a, aFrom, aTo, b, bFrom, bTo, corners);
+
+        int count = 0;
+        int i = aFrom;
+        int j = bFrom;
+        while (i < aTo && j < bTo) {
+            int x = a[i];
+            int y = b[j];
+            if (x == y) {
+                corners.incrementAndGet(x);
+                count++;
+            }
+            i += x <= y ? 1 : 0;
+            j += y <= x ? 1 : 0;
+        }
+        return count;
+    }
+
+    // For every element of the short range, gallop forward in the long one
+    private static int gallopCount(int[] a, int aFrom, int aTo, int[] b, int bFrom, int bTo,
+                                   AtomicLongArray corners) {
+        int count = 0;
+        int j = bFrom;
+        for (int i = aFrom; i < aTo && j < bTo; i++) {
+            int x = a[i];
+            // Exponential probe for the first b[k] >= x, then binary search the last step
+            int step = 1;
+            int lo = j;
+            int hi = j;
+            while (hi < bTo && b[hi] < x) {
+                lo = hi + 1;
+                hi = j + step;
+                step <<= 1;
+            }
+            hi = Math.min(hi, bTo);
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (b[mid] < x) lo = mid + 1;
+                else hi = mid;
+            }
+            j = lo;
+            if (j < bTo && b[j] == x) {
+                if (corners != null) corners.incrementAndGet(x);
+                count++;
+                j++;
+            }
+        }
+        return count;
+    }
+}
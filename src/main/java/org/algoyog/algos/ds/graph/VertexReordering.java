@@ -0,0 +1,220 @@
+package org.algoyog.algos.ds.graph;
+
+import java.util.Arrays;
+
+/**
+ * Vertex Reordering for cache locality
+ * Relabels vertices so that vertices visited close together in time also sit close together in
+ * memory. A traversal then reads neighboring entries of dist/visited arrays and nearby adjacency
+ * rows instead of jumping across the whole heap.
+ *
+ * Every pass returns a Permutation; permute applies it to a graph:
+ * vertex v of the original graph becomes vertex newId[v] of the permuted one.
+ */
+public class VertexReordering {
+
+    /**
+     * Forward and inverse vertex mapping
+     */
+    public static class Permutation {
+        private final int[] newId;
+        private final int[] oldId;
+
+        Permutation(int[] oldId) {
+            this.oldId = oldId;
+            this.newId = new int[oldId.length];
+            for (int i = 0; i < oldId.length; i++) {
+                newId[oldId[i]] = i;
+            }
+        }
+
+        // newId[v] is the label of original vertex v in the permuted graph
+        public int[] getNewIds() {
+            return newId;
+        }
+
+        // oldId[i] is the original vertex that got label i
+        public int[] getOldIds() {
+            return oldId;
+        }
+    }
+
+    /**
+     * Reverse Cuthill-McKee
+     * BFS from a low-degree vertex of every component, visiting neighbors in increasing degree
+     * order, then reversed. Keeps the labels of adjacent vertices close (small bandwidth).
+     * Time Complexity: O(V + E log d) where d is the maximum degree
+     * Space Complexity: O(V)
+     */
+    public Permutation reverseCuthillMcKee(GraphAlgorithms.Graph graph) {
+        return reverseCuthillMcKee(CsrGraph.of(graph));
+    }
+
+    public Permutation reverseCuthillMcKee(CsrGraph graph) {
+        int V = graph.getVertexCount();
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int[] byDegree = degreeOrder(graph, false);
+        boolean[] visited = new boolean[V];
+        int[] order = new int[V];
+        long[] scratch = new long[Math.max(1, maxDegree(graph))];
+        int tail = 0;
+
+        // Start every component from its unvisited vertex of smallest degree
+        for (int start : byDegree) {
+            if (visited[start]) continue;
+            visited[start] = true;
+            order[tail++] = start;
+
+            for (int head = tail - 1; head < tail; head++) {
+                int u = order[head];
+                // Sort the unvisited neighbors by (degree, id) packed into longs
+                int count = 0;
+                for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                    int v = targets[e];
+                    if (!visited[v]) {
+                        visited[v] = true;
+                        scratch[count++] = ((long) graph.degree(v) << 32) | v;
+                    }
+                }
+                Arrays.sort(scratch, 0, count);
+                for (int i = 0; i < count; i++) {
+                    order[tail++] = (int) scratch[i];
+                }
+            }
+        }
+
+        // Reverse the Cuthill-McKee order
+        for (int i = 0, j = V - 1; i < j; i++, j--) {
+            int tmp = order[i];
+            order[i] = order[j];
+            order[j] = tmp;
+        }
+        return new Permutation(order);
+    }
+
+    /**
+     * Degree sort: highest degree first
+     * The hub vertices, which most edges point to, end up packed at the front of every array.
+     * Time Complexity: O(V + d) counting sort by degree
+     */
+    public Permutation degreeSort(GraphAlgorithms.Graph graph) {
+        return degreeSort(CsrGraph.of(graph));
+    }
+
+    public Permutation degreeSort(CsrGraph graph) {
+        return new Permutation(degreeOrder(graph, true));
+    }
+
+    /**
+     * BFS order: vertices labeled in the order a BFS from vertex 0 (then from every still
+     * unvisited vertex) reaches them, so each BFS level is a contiguous label range
+     * Time Complexity: O(V + E)
+     */
+    public Permutation bfsOrder(GraphAlgorithms.Graph graph) {
+        return bfsOrder(CsrGraph.of(graph));
+    }
+
+    public Permutation bfsOrder(CsrGraph graph) {
+        int V = graph.getVertexCount();
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        boolean[] visited = new boolean[V];
+        int[] order = new int[V];
+        int tail = 0;
+
+        for (int start = 0; start < V; start++) {
+            if (visited[start]) continue;
+            visited[start] = true;
+            order[tail++] = start;
+            for (int head = tail - 1; head < tail; head++) {
+                int u = order[head];
+                for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                    int v = targets[e];
+                    if (!visited[v]) {
+                        visited[v] = true;
+                        order[tail++] = v;
+                    }
+                }
+            }
+        }
+        return new Permutation(order);
+    }
+
+    /**
+     * Relabel a graph: edge u -> v becomes newId[u] -> newId[v]
+     * Adjacency rows are laid out in the new order and every row is sorted by new label,
+     * so neighbor scans also move forward through memory.
+     * Time Complexity: O(V + E log d)
+     */
+    public CsrGraph permute(CsrGraph graph, Permutation permutation) {
+        int V = graph.getVertexCount();
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int[] weights = graph.getWeights();
+        int[] newId = permutation.getNewIds();
+        int[] oldId = permutation.getOldIds();
+
+        int[] pOffsets = new int[V + 1];
+        for (int i = 0; i < V; i++) {
+            pOffsets[i + 1] = pOffsets[i] + graph.degree(oldId[i]);
+        }
+
+        int[] pTargets = new int[targets.length];
+        int[] pWeights = weights == null ? null : new int[targets.length];
+        long[] row = new long[Math.max(1, maxDegree(graph))];
+        for (int i = 0; i < V; i++) {
+            int u = oldId[i];
+            int count = 0;
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                // Pack (new target, original edge position) so weights follow their targets
+                row[count++] = ((long) newId[targets[e]] << 32) | (e - offsets[u]);
+            }
+            Arrays.sort(row, 0, count);
+            for (int k = 0; k < count; k++) {
+                pTargets[pOffsets[i] + k] = (int) (row[k] >>> 32);
+                if (pWeights != null) {
+                    pWeights[pOffsets[i] + k] = weights[offsets[u] + (int) row[k]];
+                }
+            }
+        }
+        return new CsrGraph(pOffsets, pTargets, pWeights);
+    }
+
+    public GraphAlgorithms.Graph permute(GraphAlgorithms.Graph graph, Permutation permutation) {
+        return permute(CsrGraph.of(graph), permutation).toGraph();
+    }
+
+    public GraphAlgorithms.WeightedGraph permute(GraphAlgorithms.WeightedGraph graph, Permutation permutation) {
+        return permute(CsrGraph.of(graph), permutation).toWeightedGraph();
+    }
+
+    // Vertices sorted by degree with a counting sort; ties keep increasing vertex id
+    private static int[] degreeOrder(CsrGraph graph, boolean descending) {
+        int V = graph.getVertexCount();
+        int max = maxDegree(graph);
+        int[] start = new int[max + 2];
+        for (int v = 0; v < V; v++) {
+            int key = descending ? max - graph.degree(v) : graph.degree(v);
+            start[key + 1]++;
+        }
+        for (int k = 0; k <= max; k++) {
+            start[k + 1] += start[k];
+        }
+
+        int[] order = new int[V];
+        for (int v = 0; v < V; v++) {
+            int key = descending ? max - graph.degree(v) : graph.degree(v);
+            order[start[key]++] = v;
+        }
+        return order;
+    }
+
+    private static int maxDegree(CsrGraph graph) {
+        int max = 0;
+        for (int v = 0; v < graph.getVertexCount(); v++) {
+            max = Math.max(max, graph.degree(v));
+        }
+        return max;
+    }
+}
@@ -1,6 +1,7 @@
 package org.algoyog.algos.ds.tree;
 
 import java.util.*;
+import java.util.function.IntConsumer;
 
 /**
  * Binary Tree Operations
@@ -22,23 +23,11 @@ public class BinaryTree {
     /**
      * Inorder Traversal (Left, Root, Right)
      * Time Complexity: O(n) where n is the number of nodes
-     * Space Complexity: O(h) where h is the height of the tree (due to recursion stack)
+     * Space Complexity: O(h) where h is the height of the tree (explicit stack, so degenerate
+     * trees do not overflow the call stack)
      */
     public List<Integer> inorderTraversal(TreeNode root) {
-        List<Integer> result = new ArrayList<>();
-        inorderHelper(root, result);
-        return result;
-    }
-
-    private void inorderHelper(TreeNode node, List<Integer> result) {
-        if (node == null) return;
-
-        // Visit left subtree
-        inorderHelper(node.left, result);
-        // Visit root
-        result.add(node.val);
-        // Visit right subtree
-        inorderHelper(node.right, result);
+        return toList(inorderIterator(root));
     }
 
     /**
@@ -47,20 +36,7 @@ public class BinaryTree {
      * Space Complexity: O(h)
      */
     public List<Integer> preorderTraversal(TreeNode root) {
-        List<Integer> result = new ArrayList<>();
-        preorderHelper(root, result);
-        return result;
-    }
-
-    private void preorderHelper(TreeNode node, List<Integer> result) {
-        if (node == null) return;
-
-        // Visit root
-        result.add(node.val);
-        // Visit left subtree
-        preorderHelper(node.left, result);
-        // Visit right subtree
-        preorderHelper(node.right, result);
+        return toList(preorderIterator(root));
     }
 
     /**
@@ -69,20 +45,15 @@ public class BinaryTree {
      * Space Complexity: O(h)
      */
     public List<Integer> postorderTraversal(TreeNode root) {
-        List<Integer> result = new ArrayList<>();
-        postorderHelper(root, result);
-        return result;
+        return toList(postorderIterator(root));
     }
 
-    private void postorderHelper(TreeNode node, List<Integer> result) {
-        if (node == null) return;
-
-        // Visit left subtree
-        postorderHelper(node.left, result);
-        // Visit right subtree
-        postorderHelper(node.right, result);
-        // Visit root
-        result.add(node.val);
+    private static List<Integer> toList(PrimitiveIterator.OfInt values) {
+        List<Integer> result = new ArrayList<>();
+        while (values.hasNext()) {
+            result.add(values.nextInt());
+        }
+        return result;
     }
 
     /**
@@ -94,7 +65,7 @@ public class BinaryTree {
         List<List<Integer>> result = new ArrayList<>();
         if (root == null) return result;
 
-        Queue<TreeNode> queue = new LinkedList<>();
+        Queue<TreeNode> queue = new ArrayDeque<>();
         queue.offer(root);
 
         while (!queue.isEmpty()) {
@@ -119,6 +90,405 @@ public class BinaryTree {
         return result;
     }
 
+    /**
+     * Inorder values as an int array, without boxing
+     * Time Complexity: O(n)
+     * Space Complexity: O(h) besides the result
+     */
+    public int[] inorderArray(TreeNode root) {
+        return toArray(inorderIterator(root));
+    }
+
+    public int[] preorderArray(TreeNode root) {
+        return toArray(preorderIterator(root));
+    }
+
+    public int[] postorderArray(TreeNode root) {
+        return toArray(postorderIterator(root));
+    }
+
+    // All levels concatenated, top to bottom and left to right
+    public int[] levelOrderArray(TreeNode root) {
+        return toArray(levelOrderIterator(root));
+    }
+
+    /**
+     * Morris Inorder Traversal
+     * Threads every node to its inorder predecessor's empty right pointer instead of using a
+     * stack, and removes the thread on the second visit. The tree is restored when the call
+     * returns, but it must not be read by other threads meanwhile.
+     * Time Complexity: O(n), every edge is walked at most three times
+     * Space Complexity: O(1) besides the result
+     */
+    public int[] morrisInorder(TreeNode root) {
+        IntBuffer out = new IntBuffer();
+        TreeNode current = root;
+        while (current != null) {
+            if (current.left == null) {
+                out.add(current.val);
+                current = current.right;
+                continue;
+            }
+            TreeNode predecessor = rightmostBelow(current);
+            if (predecessor.right == null) {
+                predecessor.right = current; // Thread back to current
+                current = current.left;
+            } else {
+                predecessor.right = null; // Left subtree done: remove the thread
+                out.add(current.val);
+                current = current.right;
+            }
+        }
+        return out.toArray();
+    }
+
+    /**
+     * Morris Preorder Traversal: as morrisInorder, emitting a node when its thread is made
+     * Time Complexity: O(n)
+     * Space Complexity: O(1) besides the result
+     */
+    public int[] morrisPreorder(TreeNode root) {
+        IntBuffer out = new IntBuffer();
+        TreeNode current = root;
+        while (current != null) {
+            if (current.left == null) {
+                out.add(current.val);
+                current = current.right;
+                continue;
+            }
+            TreeNode predecessor = rightmostBelow(current);
+            if (predecessor.right == null) {
+                out.add(current.val);
+                predecessor.right = current;
+                current = current.left;
+            } else {
+                predecessor.right = null;
+                current = current.right;
+            }
+        }
+        return out.toArray();
+    }
+
+    // Inorder predecessor of node, or the node threaded back to it
+    private static TreeNode rightmostBelow(TreeNode node) {
+        TreeNode predecessor = node.left;
+        while (predecessor.right != null && predecessor.right != node) {
+            predecessor = predecessor.right;
+        }
+        return predecessor;
+    }
+
+    /**
+     * Lazy traversal iterators: values are produced one at a time from an explicit stack
+     * (queue for level order), so a tree can be streamed into a consumer without building a
+     * collection. The tree must not change while an iterator is in use.
+     * Time Complexity: O(1) amortized per value
+     * Space Complexity: O(h), O(width) for level order
+     */
+    public PrimitiveIterator.OfInt inorderIterator(TreeNode root) {
+        return new InorderIterator(root);
+    }
+
+    public PrimitiveIterator.OfInt preorderIterator(TreeNode root) {
+        return new PreorderIterator(root);
+    }
+
+    public PrimitiveIterator.OfInt postorderIterator(TreeNode root) {
+        return new PostorderIterator(root);
+    }
+
+    public PrimitiveIterator.OfInt levelOrderIterator(TreeNode root) {
+        return new LevelOrderIterator(root);
+    }
+
+    /**
+     * Splittable inorder and preorder views for StreamSupport.intStream
+     * trySplit cuts the remaining traversal in front of its last large subtree: the new
+     * spliterator takes everything before it, so encounter order is preserved in parallel streams.
+     * Subtree sizes are not stored, so the size estimate starts unknown and halves on every split
+     * as in Spliterators.AbstractIntSpliterator; a parallel stream then splits about
+     * log2(4 * parallelism) times instead of down to single nodes.
+     */
+    public Spliterator.OfInt inorderSpliterator(TreeNode root) {
+        return new TreeSpliterator(root, true);
+    }
+
+    public Spliterator.OfInt preorderSpliterator(TreeNode root) {
+        return new TreeSpliterator(root, false);
+    }
+
+    public Spliterator.OfInt postorderSpliterator(TreeNode root) {
+        return Spliterators.spliteratorUnknownSize(postorderIterator(root), Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    public Spliterator.OfInt levelOrderSpliterator(TreeNode root) {
+        return Spliterators.spliteratorUnknownSize(levelOrderIterator(root), Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    private static int[] toArray(PrimitiveIterator.OfInt values) {
+        IntBuffer out = new IntBuffer();
+        while (values.hasNext()) {
+            out.add(values.nextInt());
+        }
+        return out.toArray();
+    }
+
+    // Growable int array for traversal output
+    private static final class IntBuffer {
+        private int[] values = new int[16];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) values = Arrays.copyOf(values, size << 1);
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+    // Growable array stack of nodes
+    private static class NodeStack {
+        TreeNode[] nodes = new TreeNode[16];
+        int top;
+
+        void push(TreeNode node) {
+            if (top == nodes.length) nodes = Arrays.copyOf(nodes, top << 1);
+            nodes[top++] = node;
+        }
+
+        TreeNode pop() {
+            TreeNode node = nodes[--top];
+            nodes[top] = null;
+            return node;
+        }
+
+        // Push node and its chain of left children
+        void pushLeftSpine(TreeNode node) {
+            for (; node != null; node = node.left) push(node);
+        }
+    }
+
+    private static final class InorderIterator extends NodeStack implements PrimitiveIterator.OfInt {
+        InorderIterator(TreeNode root) {
+            pushLeftSpine(root);
+        }
+
+        public boolean hasNext() {
+            return top > 0;
+        }
+
+        public int nextInt() {
+            if (top == 0) throw new NoSuchElementException();
+            TreeNode node = pop();
+            pushLeftSpine(node.right);
+            return node.val;
+        }
+    }
+
+    private static final class PreorderIterator extends NodeStack implements PrimitiveIterator.OfInt {
+        PreorderIterator(TreeNode root) {
+            if (root != null) push(root);
+        }
+
+        public boolean hasNext() {
+            return top > 0;
+        }
+
+        public int nextInt() {
+            if (top == 0) throw new NoSuchElementException();
+            TreeNode node = pop();
+            if (node.right != null) push(node.right);
+            if (node.left != null) push(node.left);
+            return node.val;
+        }
+    }
+
+    /**
+     * Single-stack postorder: a node on the stack is emitted once its right subtree is done,
+     * which is when the last emitted node is its right child (or it has none)
+     */
+    private static final class PostorderIterator extends NodeStack implements PrimitiveIterator.OfInt {
+        private TreeNode last;
+
+        PostorderIterator(TreeNode root) {
+            pushLeftSpine(root);
+        }
+
+        public boolean hasNext() {
+            return top > 0;
+        }
+
+        public int nextInt() {
+            if (top == 0) throw new NoSuchElementException();
+            while (true) {
+                TreeNode node = nodes[top - 1];
+                if (node.right != null && node.right != last) {
+                    pushLeftSpine(node.right);
+                } else {
+                    last = pop();
+                    return node.val;
+                }
+            }
+        }
+    }
+
+    private static final class LevelOrderIterator implements PrimitiveIterator.OfInt {
+        private final ArrayDeque<TreeNode> queue = new ArrayDeque<>();
+
+        LevelOrderIterator(TreeNode root) {
+            if (root != null) queue.add(root);
+        }
+
+        public boolean hasNext() {
+            return !queue.isEmpty();
+        }
+
+        public int nextInt() {
+            TreeNode node = queue.poll();
+            if (node == null) throw new NoSuchElementException();
+            if (node.left != null) queue.add(node.left);
+            if (node.right != null) queue.add(node.right);
+            return node.val;
+        }
+    }
+
+    /**
+     * Inorder or preorder spliterator over a stack of pending work, top first. An entry is
+     * either a whole subtree or the value of a single node (a node whose left subtree is being
+     * handled separately).
+     */
+    private static final class TreeSpliterator implements Spliterator.OfInt {
+        // No split once the estimate is below this many values
+        private static final long MIN_BATCH = 1 << 10;
+        private static final int MAX_EXPANSIONS = 64;
+
+        private final boolean inorder;
+        private TreeNode[] nodes;
+        private boolean[] valueOnly;
+        private int top;
+        private long estimate;
+
+        TreeSpliterator(TreeNode root, boolean inorder) {
+            this.inorder = inorder;
+            nodes = new TreeNode[16];
+            valueOnly = new boolean[16];
+            estimate = Long.MAX_VALUE;
+            if (root != null) push(root, false);
+        }
+
+        private TreeSpliterator(boolean inorder, TreeNode[] nodes, boolean[] valueOnly, int top, long estimate) {
+            this.inorder = inorder;
+            this.nodes = nodes;
+            this.valueOnly = valueOnly;
+            this.top = top;
+            this.estimate = estimate;
+        }
+
+        private void push(TreeNode node, boolean value) {
+            if (top == nodes.length) {
+                nodes = Arrays.copyOf(nodes, top << 1);
+                valueOnly = Arrays.copyOf(valueOnly, top << 1);
+            }
+            nodes[top] = node;
+            valueOnly[top++] = value;
+        }
+
+        // Replace the subtree entry node by its parts: (left, value, right) or (value, left, right)
+        private void expand(TreeNode node) {
+            if (node.right != null) push(node.right, false);
+            if (inorder) {
+                push(node, true);
+                if (node.left != null) push(node.left, false);
+            } else {
+                if (node.left != null) push(node.left, false);
+                push(node, true);
+            }
+        }
+
+        // Expand the subtree entry at index i in place; the entries above it move up
+        private void expandAt(int i) {
+            TreeNode node = nodes[i];
+            int parts = 1 + (node.left != null ? 1 : 0) + (node.right != null ? 1 : 0);
+            int newTop = top + parts - 1;
+            if (newTop > nodes.length) {
+                nodes = Arrays.copyOf(nodes, Math.max(newTop, nodes.length << 1));
+                valueOnly = Arrays.copyOf(valueOnly, nodes.length);
+            }
+            System.arraycopy(nodes, i + 1, nodes, i + parts, top - i - 1);
+            System.arraycopy(valueOnly, i + 1, valueOnly, i + parts, top - i - 1);
+            int saved = top;
+            top = i;
+            expand(node);
+            top = saved + parts - 1;
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            while (top > 0) {
+                TreeNode node = nodes[--top];
+                boolean value = valueOnly[top];
+                nodes[top] = null;
+                if (value) {
+                    action.accept(node.val);
+                    return true;
+                }
+                if (!inorder || node.left == null) {
+                    if (node.right != null) push(node.right, false);
+                    if (!inorder && node.left != null) push(node.left, false);
+                    action.accept(node.val);
+                    return true;
+                }
+                expand(node);
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            while (tryAdvance(action)) {
+                // Drains the stack
+            }
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit() {
+            if (estimate < MIN_BATCH) return null;
+            // The split point is above the bottom-most subtree entry, which in a balanced tree
+            // holds about half of what is left. Expand it until some subtree is above it; a
+            // chain that stays without one for MAX_EXPANSIONS levels is not split.
+            int split = 0;
+            for (int expansions = 0; ; expansions++) {
+                while (split < top && valueOnly[split]) split++;
+                if (split == top) return null; // Only single values left
+                int above = split + 1;
+                while (above < top && valueOnly[above]) above++;
+                if (above < top) break;
+                if (expansions == MAX_EXPANSIONS) return null;
+                expandAt(split);
+            }
+            // The prefix gets the entries above the split point; this keeps the rest
+            int count = top - split - 1;
+            TreeNode[] prefixNodes = Arrays.copyOfRange(nodes, split + 1, split + 1 + Math.max(16, count));
+            boolean[] prefixValues = Arrays.copyOfRange(valueOnly, split + 1, split + 1 + Math.max(16, count));
+            Arrays.fill(nodes, split + 1, top, null);
+            top = split + 1;
+            estimate >>>= 1;
+            return new TreeSpliterator(inorder, prefixNodes, prefixValues, count, estimate);
+        }
+
+        @Override
+        public long estimateSize() {
+            return top == 0 ? 0 : estimate;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.NONNULL;
+        }
+    }
+
     /**
      * Maximum Depth of Binary Tree
      * Time Complexity: O(n)
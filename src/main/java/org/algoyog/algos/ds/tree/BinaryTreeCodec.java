@@ -0,0 +1,243 @@
+package org.algoyog.algos.ds.tree;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+
+/**
+ * Compact binary serialization of BinaryTree.TreeNode trees
+ *
+ * Nodes are written in preorder, in frames of up to FRAME_NODES nodes:
+ *   char nodeCount, the structure bitmap (2 bits per node: has left child, has right child),
+ *   then one zig-zag varint per value (1 byte for -64 .. 63, at most 5 bytes)
+ * The stream starts with int MAGIC and ends with a frame of count 0. The preorder together with
+ * the child bits determines the shape, so no marker is written for missing children.
+ *
+ * Encoding and decoding walk the tree with explicit stacks and move data through one fixed
+ * buffer, so a tree of any depth or size is streamed with O(h) memory besides the nodes.
+ *
+ * Time Complexity: O(n) both ways
+ * Space Complexity: 2 bits + 1 to 5 bytes per node on the wire
+ */
+public class BinaryTreeCodec {
+    public static final int MAGIC = 0x42545231; // "BTR1"
+    static final int FRAME_NODES = 4096;
+    private static final int BUFFER_BYTES = 1 << 16;
+
+    private BinaryTreeCodec() {
+    }
+
+    /**
+     * Encode into a heap buffer positioned at 0 and limited to the encoded length
+     */
+    public static ByteBuffer encode(BinaryTree.TreeNode root) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            writeTo(root, Channels.newChannel(bytes));
+        } catch (IOException e) {
+            throw new IllegalStateException(e); // In-memory streams do not fail
+        }
+        return ByteBuffer.wrap(bytes.toByteArray());
+    }
+
+    /**
+     * Decode the tree starting at the buffer's position; the position ends after it
+     *
+     * @throws IllegalArgumentException if the buffer does not hold a complete encoded tree
+     */
+    public static BinaryTree.TreeNode decode(ByteBuffer buffer) {
+        try {
+            return new Reader(buffer.slice().order(ByteOrder.LITTLE_ENDIAN), null).readTree(buffer);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Malformed encoded tree: " + e.getMessage(), e);
+        }
+    }
+
+    public static void writeTo(BinaryTree.TreeNode root, WritableByteChannel channel) throws IOException {
+        new Writer(channel).writeTree(root);
+    }
+
+    /**
+     * Read one tree from the channel; reads at most one buffer past the end of the tree
+     *
+     * @throws IOException if the stream is not an encoded tree or ends early
+     */
+    public static BinaryTree.TreeNode readFrom(ReadableByteChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.flip();
+        return new Reader(buffer, channel).readTree(null);
+    }
+
+    private static final class Writer {
+        private final WritableByteChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        // The frame being built: bitmap and varints are only known once the frame is full
+        private final byte[] bits = new byte[FRAME_NODES / 4];
+        private final byte[] values = new byte[FRAME_NODES * 5];
+        private int frameNodes;
+        private int valueBytes;
+
+        Writer(WritableByteChannel channel) {
+            this.channel = channel;
+        }
+
+        void writeTree(BinaryTree.TreeNode root) throws IOException {
+            buffer.putInt(MAGIC);
+            BinaryTree.TreeNode[] stack = new BinaryTree.TreeNode[64];
+            int top = 0;
+            if (root != null) stack[top++] = root;
+            while (top > 0) {
+                BinaryTree.TreeNode node = stack[--top];
+                add(node);
+                if (top + 2 > stack.length) stack = Arrays.copyOf(stack, stack.length << 1);
+                if (node.right != null) stack[top++] = node.right;
+                if (node.left != null) stack[top++] = node.left;
+            }
+            if (frameNodes > 0) flushFrame();
+            flushFrame(); // Empty frame marks the end
+            flushBuffer();
+        }
+
+        private void add(BinaryTree.TreeNode node) throws IOException {
+            int shape = (node.left != null ? 1 : 0) | (node.right != null ? 2 : 0);
+            bits[frameNodes >>> 2] |= (byte) (shape << ((frameNodes & 3) << 1));
+            frameNodes++;
+
+            int zigzag = (node.val << 1) ^ (node.val >> 31);
+            while ((zigzag & ~0x7F) != 0) {
+                values[valueBytes++] = (byte) ((zigzag & 0x7F) | 0x80);
+                zigzag >>>= 7;
+            }
+            values[valueBytes++] = (byte) zigzag;
+            if (frameNodes == FRAME_NODES) flushFrame();
+        }
+
+        private void flushFrame() throws IOException {
+            int bitBytes = (frameNodes + 3) >>> 2;
+            if (buffer.remaining() < 2 + bitBytes) flushBuffer();
+            buffer.putChar((char) frameNodes);
+            buffer.put(bits, 0, bitBytes);
+            for (int offset = 0; offset < valueBytes; ) {
+                if (!buffer.hasRemaining()) flushBuffer();
+                int length = Math.min(buffer.remaining(), valueBytes - offset);
+                buffer.put(values, offset, length);
+                offset += length;
+            }
+            Arrays.fill(bits, 0, bitBytes, (byte) 0);
+            frameNodes = 0;
+            valueBytes = 0;
+        }
+
+        private void flushBuffer() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+
+    private static final class Reader {
+        private final ByteBuffer buffer; // Always in read mode
+        private final ReadableByteChannel channel; // null when decoding a buffer
+        private final byte[] bits = new byte[FRAME_NODES / 4];
+
+        Reader(ByteBuffer buffer, ReadableByteChannel channel) {
+            this.buffer = buffer;
+            this.channel = channel;
+        }
+
+        // source, when given, is advanced past the tree
+        BinaryTree.TreeNode readTree(ByteBuffer source) throws IOException {
+            require(4);
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Not an encoded binary tree");
+            }
+
+            BinaryTree.TreeNode root = null;
+            // Nodes whose right child comes after their left subtree
+            BinaryTree.TreeNode[] waiting = new BinaryTree.TreeNode[64];
+            int top = 0;
+            // Where the next node goes: parent.left, parent.right, or the root if parent is null
+            BinaryTree.TreeNode parent = null;
+            boolean asLeft = false;
+
+            while (true) {
+                require(2);
+                int count = buffer.getChar();
+                if (count == 0) break;
+                if (count > FRAME_NODES) throw new IOException("Frame of " + count + " nodes");
+                int bitBytes = (count + 3) >>> 2;
+                require(bitBytes);
+                buffer.get(bits, 0, bitBytes);
+
+                for (int i = 0; i < count; i++) {
+                    BinaryTree.TreeNode node = new BinaryTree.TreeNode(readValue());
+                    if (parent != null) {
+                        if (asLeft) parent.left = node;
+                        else parent.right = node;
+                    } else if (root == null) {
+                        root = node;
+                    } else {
+                        throw new IOException("Nodes after the end of the tree");
+                    }
+
+                    int shape = bits[i >>> 2] >>> ((i & 3) << 1);
+                    if ((shape & 2) != 0) {
+                        if (top == waiting.length) waiting = Arrays.copyOf(waiting, top << 1);
+                        waiting[top++] = node;
+                    }
+                    if ((shape & 1) != 0) {
+                        parent = node;
+                        asLeft = true;
+                    } else if (top > 0) {
+                        parent = waiting[--top];
+                        waiting[top] = null;
+                        asLeft = false;
+                    } else {
+                        parent = null;
+                    }
+                }
+            }
+            if (parent != null) {
+                throw new EOFException("Encoded tree ends with missing children");
+            }
+            if (source != null) {
+                source.position(source.position() + buffer.position());
+            }
+            return root;
+        }
+
+        private int readValue() throws IOException {
+            int zigzag = 0;
+            for (int shift = 0; ; shift += 7) {
+                if (!buffer.hasRemaining()) require(1);
+                byte b = buffer.get();
+                zigzag |= (b & 0x7F) << shift;
+                if (b >= 0) break;
+                if (shift == 28) throw new IOException("Varint longer than 5 bytes");
+            }
+            return (zigzag >>> 1) ^ -(zigzag & 1);
+        }
+
+        // Make at least n bytes readable, refilling from the channel
+        private void require(int n) throws IOException {
+            if (buffer.remaining() >= n) return;
+            if (channel == null) throw new EOFException("Truncated encoded tree");
+            buffer.compact();
+            while (buffer.position() < n) {
+                if (channel.read(buffer) < 0) {
+                    buffer.flip();
+                    throw new EOFException("Truncated encoded tree");
+                }
+            }
+            buffer.flip();
+        }
+    }
+}
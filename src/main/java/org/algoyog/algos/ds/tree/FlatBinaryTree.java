@@ -0,0 +1,326 @@
+package org.algoyog.algos.ds.tree;
+
+import java.util.Arrays;
+
+/**
+ * Array-backed binary tree (struct of arrays)
+ * Node i has value val[i] and children left[i], right[i] (-1 if missing); the root is node 0.
+ * That is 12 bytes per node in three dense arrays instead of a 24 byte TreeNode object per node
+ * scattered over the heap, and a walk touches memory in layout order instead of chasing pointers.
+ *
+ * Two layouts:
+ * 1. BFS: level by level, left to right. Level order is the array itself.
+ * 2. VAN_EMDE_BOAS: the top half of the levels is laid out recursively, followed by every
+ *    subtree hanging below it, each laid out recursively. Any root-to-leaf path of length h
+ *    crosses O(log_B h) blocks of B nodes, whatever B is, so deep walks stay cache friendly.
+ *
+ * In both layouts a parent comes before its children, so depth, height and balance are single
+ * passes over the arrays (forward for depth, backward for height) without any stack.
+ *
+ * Space Complexity: 12 bytes per node
+ */
+public class FlatBinaryTree {
+    public enum Layout {
+        BFS,
+        VAN_EMDE_BOAS
+    }
+
+    private final int[] val;
+    private final int[] left;
+    private final int[] right;
+
+    private FlatBinaryTree(int[] val, int[] left, int[] right) {
+        this.val = val;
+        this.left = left;
+        this.right = right;
+    }
+
+    public static FlatBinaryTree of(BinaryTree.TreeNode root) {
+        return of(root, Layout.BFS);
+    }
+
+    /**
+     * Copy a linked tree into the given layout
+     * Time Complexity: O(n) for BFS, O(n log h) for van Emde Boas
+     * Space Complexity: O(n)
+     */
+    public static FlatBinaryTree of(BinaryTree.TreeNode root, Layout layout) {
+        FlatBinaryTree bfs = fromLinked(root);
+        return layout == Layout.BFS ? bfs : bfs.permute(new VebOrder(bfs).order());
+    }
+
+    // BFS layout straight from the linked nodes: a child's index is the queue slot it takes
+    private static FlatBinaryTree fromLinked(BinaryTree.TreeNode root) {
+        BinaryTree.TreeNode[] queue = new BinaryTree.TreeNode[16];
+        int[] left = new int[16];
+        int[] right = new int[16];
+        int tail = 0;
+        if (root != null) queue[tail++] = root;
+        for (int head = 0; head < tail; head++) {
+            if (tail + 2 > queue.length) {
+                queue = Arrays.copyOf(queue, queue.length << 1);
+                left = Arrays.copyOf(left, queue.length);
+                right = Arrays.copyOf(right, queue.length);
+            }
+            BinaryTree.TreeNode node = queue[head];
+            left[head] = -1;
+            right[head] = -1;
+            if (node.left != null) {
+                left[head] = tail;
+                queue[tail++] = node.left;
+            }
+            if (node.right != null) {
+                right[head] = tail;
+                queue[tail++] = node.right;
+            }
+        }
+        int[] val = new int[tail];
+        for (int i = 0; i < tail; i++) {
+            val[i] = queue[i].val;
+        }
+        return new FlatBinaryTree(val, Arrays.copyOf(left, tail), Arrays.copyOf(right, tail));
+    }
+
+    // Same tree with node order[k] moved to index k
+    private FlatBinaryTree permute(int[] order) {
+        int n = order.length;
+        int[] position = new int[n];
+        for (int k = 0; k < n; k++) {
+            position[order[k]] = k;
+        }
+        int[] newVal = new int[n];
+        int[] newLeft = new int[n];
+        int[] newRight = new int[n];
+        for (int k = 0; k < n; k++) {
+            int i = order[k];
+            newVal[k] = val[i];
+            newLeft[k] = left[i] < 0 ? -1 : position[left[i]];
+            newRight[k] = right[i] < 0 ? -1 : position[right[i]];
+        }
+        return new FlatBinaryTree(newVal, newLeft, newRight);
+    }
+
+    /**
+     * Van Emde Boas order: place(r, levels) lays out the nodes less than `levels` below r by
+     * placing the top ceil(levels / 2) levels and then every subtree rooted right below them.
+     * The recursion halves levels each time, so it is only O(log h) deep.
+     */
+    private static final class VebOrder {
+        private final FlatBinaryTree tree;
+        private final int[] order;
+        private int size;
+        // Scratch stack for collecting the roots of the bottom subtrees
+        private int[] stack = new int[16];
+        private int[] stackDepth = new int[16];
+
+        VebOrder(FlatBinaryTree tree) {
+            this.tree = tree;
+            this.order = new int[tree.size()];
+        }
+
+        int[] order() {
+            if (order.length > 0) place(0, tree.maxDepth());
+            return order;
+        }
+
+        private void place(int r, int levels) {
+            if (levels == 1) {
+                order[size++] = r;
+                return;
+            }
+            int top = (levels + 1) / 2;
+            place(r, top);
+            for (int bottom : atDepth(r, top)) {
+                place(bottom, levels - top);
+            }
+        }
+
+        // Nodes exactly depth levels below r, left to right
+        private int[] atDepth(int r, int depth) {
+            int[] found = new int[4];
+            int count = 0;
+            int top = 0;
+            stack[top] = r;
+            stackDepth[top++] = 0;
+            while (top > 0) {
+                int node = stack[--top];
+                int d = stackDepth[top];
+                if (d == depth) {
+                    if (count == found.length) found = Arrays.copyOf(found, count << 1);
+                    found[count++] = node;
+                    continue;
+                }
+                if (top + 2 > stack.length) {
+                    stack = Arrays.copyOf(stack, stack.length << 1);
+                    stackDepth = Arrays.copyOf(stackDepth, stack.length);
+                }
+                if (tree.right[node] >= 0) {
+                    stack[top] = tree.right[node];
+                    stackDepth[top++] = d + 1;
+                }
+                if (tree.left[node] >= 0) {
+                    stack[top] = tree.left[node];
+                    stackDepth[top++] = d + 1;
+                }
+            }
+            return Arrays.copyOf(found, count);
+        }
+    }
+
+    /**
+     * Rebuild linked nodes with the same shape and values
+     * Time Complexity: O(n)
+     */
+    public BinaryTree.TreeNode toTreeNode() {
+        int n = val.length;
+        if (n == 0) return null;
+        BinaryTree.TreeNode[] nodes = new BinaryTree.TreeNode[n];
+        for (int i = 0; i < n; i++) {
+            nodes[i] = new BinaryTree.TreeNode(val[i]);
+        }
+        for (int i = 0; i < n; i++) {
+            if (left[i] >= 0) nodes[i].left = nodes[left[i]];
+            if (right[i] >= 0) nodes[i].right = nodes[right[i]];
+        }
+        return nodes[0];
+    }
+
+    public int size() {
+        return val.length;
+    }
+
+    // Node arrays; node 0 is the root, -1 marks a missing child
+    public int[] getValues() {
+        return val;
+    }
+
+    public int[] getLeft() {
+        return left;
+    }
+
+    public int[] getRight() {
+        return right;
+    }
+
+    // Bytes held by the three arrays
+    public long sizeInBytes() {
+        return 3L * (16 + 4L * val.length);
+    }
+
+    /**
+     * Maximum Depth: forward pass, every parent's depth is known before its children's
+     * Time Complexity: O(n)
+     * Space Complexity: O(n) for the depths
+     */
+    public int maxDepth() {
+        int n = val.length;
+        if (n == 0) return 0;
+        int[] depth = new int[n];
+        depth[0] = 1;
+        int max = 1;
+        for (int i = 0; i < n; i++) {
+            int d = depth[i] + 1;
+            if (left[i] >= 0) depth[left[i]] = d;
+            if (right[i] >= 0) depth[right[i]] = d;
+            max = Math.max(max, depth[i]);
+        }
+        return max;
+    }
+
+    /**
+     * Balanced check as BinaryTree.isBalanced: backward pass computing subtree heights
+     * Time Complexity: O(n)
+     * Space Complexity: O(n) for the heights
+     */
+    public boolean isBalanced() {
+        int n = val.length;
+        int[] height = new int[n];
+        for (int i = n - 1; i >= 0; i--) {
+            int l = left[i] >= 0 ? height[left[i]] : 0;
+            int r = right[i] >= 0 ? height[right[i]] : 0;
+            if (Math.abs(l - r) > 1) return false;
+            height[i] = Math.max(l, r) + 1;
+        }
+        return true;
+    }
+
+    public long sum() {
+        long sum = 0;
+        for (int v : val) sum += v;
+        return sum;
+    }
+
+    /**
+     * Traversals with an explicit int stack
+     * Time Complexity: O(n)
+     * Space Complexity: O(h)
+     */
+    public int[] inorderArray() {
+        int[] out = new int[val.length];
+        int count = 0;
+        int[] stack = new int[16];
+        int top = 0;
+        int current = val.length == 0 ? -1 : 0;
+        while (current >= 0 || top > 0) {
+            for (; current >= 0; current = left[current]) {
+                if (top == stack.length) stack = Arrays.copyOf(stack, top << 1);
+                stack[top++] = current;
+            }
+            current = stack[--top];
+            out[count++] = val[current];
+            current = right[current];
+        }
+        return out;
+    }
+
+    public int[] preorderArray() {
+        int[] out = new int[val.length];
+        int count = 0;
+        int[] stack = new int[16];
+        int top = 0;
+        if (val.length > 0) stack[top++] = 0;
+        while (top > 0) {
+            int node = stack[--top];
+            out[count++] = val[node];
+            if (top + 2 > stack.length) stack = Arrays.copyOf(stack, stack.length << 1);
+            if (right[node] >= 0) stack[top++] = right[node];
+            if (left[node] >= 0) stack[top++] = left[node];
+        }
+        return out;
+    }
+
+    public int[] postorderArray() {
+        // Reverse of the (root, right, left) preorder
+        int n = val.length;
+        int[] out = new int[n];
+        int count = n;
+        int[] stack = new int[16];
+        int top = 0;
+        if (n > 0) stack[top++] = 0;
+        while (top > 0) {
+            int node = stack[--top];
+            out[--count] = val[node];
+            if (top + 2 > stack.length) stack = Arrays.copyOf(stack, stack.length << 1);
+            if (left[node] >= 0) stack[top++] = left[node];
+            if (right[node] >= 0) stack[top++] = right[node];
+        }
+        return out;
+    }
+
+    // Level order; for the BFS layout this is the value array itself
+    public int[] levelOrderArray() {
+        int n = val.length;
+        int[] queue = new int[n];
+        int tail = 0;
+        if (n > 0) queue[tail++] = 0;
+        for (int head = 0; head < tail; head++) {
+            int node = queue[head];
+            if (left[node] >= 0) queue[tail++] = left[node];
+            if (right[node] >= 0) queue[tail++] = right[node];
+        }
+        for (int i = 0; i < n; i++) {
+            queue[i] = val[queue[i]];
+        }
+        return queue;
+    }
+}
@@ -0,0 +1,448 @@
+package org.algoyog.algos.ds.tree;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.OptionalInt;
+
+/**
+ * Ordered map from int keys to int values: an AVL tree with subtree sizes, stored in arrays
+ *
+ * Nodes are indices into parallel arrays (key, value, left, right, size, height), so there is
+ * no object and no boxing per entry. Index 0 is a sentinel with size and height 0 that stands
+ * for every missing child. Removed nodes go on a free list threaded through left[] and are
+ * reused by later inserts; the arrays only grow.
+ *
+ * AVL balance keeps the height below 1.44 log2(n + 2), and the subtree sizes give rank and
+ * select by walking one root-to-leaf path.
+ *
+ * Time Complexity: O(log n) for get, put, remove, floor/ceiling, rank and select;
+ *                  O(log n + k) to visit k entries of a key range; O(n) to build from sorted keys
+ * Space Complexity: 21 bytes per node
+ */
+public class IntTreeMap {
+    private static final int NIL = 0;
+
+    private int[] keys;
+    private int[] values;
+    private int[] left;
+    private int[] right;
+    private int[] size;
+    private byte[] height;
+    private int root = NIL;
+    private int next = 1; // First never-used index
+    private int free = NIL; // Head of the free list
+
+    // Set by the recursive insert and remove
+    private boolean changed;
+    private int oldValue;
+
+    /**
+     * Receives the entries of a range in key order
+     */
+    public interface EntryConsumer {
+        void accept(int key, int value);
+    }
+
+    public IntTreeMap() {
+        this(16);
+    }
+
+    public IntTreeMap(int initialCapacity) {
+        allocate(Math.max(2, initialCapacity + 1));
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        left = new int[capacity];
+        right = new int[capacity];
+        size = new int[capacity];
+        height = new byte[capacity];
+    }
+
+    /**
+     * Build from strictly increasing keys and their values
+     * Nodes are numbered in key order, so range scans read the arrays sequentially.
+     * Time Complexity: O(n)
+     *
+     * @throws IllegalArgumentException if the keys are not strictly increasing
+     */
+    public static IntTreeMap fromSorted(int[] sortedKeys, int[] sortedValues) {
+        int n = sortedKeys.length;
+        if (sortedValues.length != n) {
+            throw new IllegalArgumentException("Expected " + n + " values, got " + sortedValues.length);
+        }
+        for (int i = 1; i < n; i++) {
+            if (sortedKeys[i - 1] >= sortedKeys[i]) {
+                throw new IllegalArgumentException("Keys not strictly increasing at index " + i);
+            }
+        }
+        IntTreeMap map = new IntTreeMap(n);
+        System.arraycopy(sortedKeys, 0, map.keys, 1, n);
+        System.arraycopy(sortedValues, 0, map.values, 1, n);
+        map.next = n + 1;
+        map.root = map.buildBalanced(1, n);
+        return map;
+    }
+
+    // Subtree of the nodes lo .. hi rooted at the middle one; recursion depth is log2(n)
+    private int buildBalanced(int lo, int hi) {
+        if (lo > hi) return NIL;
+        int mid = (lo + hi) >>> 1;
+        left[mid] = buildBalanced(lo, mid - 1);
+        right[mid] = buildBalanced(mid + 1, hi);
+        update(mid);
+        return mid;
+    }
+
+    public int size() {
+        return size[root];
+    }
+
+    public boolean isEmpty() {
+        return root == NIL;
+    }
+
+    // Height of the tree, 0 when empty
+    public int height() {
+        return height[root];
+    }
+
+    public void clear() {
+        root = NIL;
+        next = 1;
+        free = NIL;
+    }
+
+    public boolean containsKey(int key) {
+        return find(key) != NIL;
+    }
+
+    public int getOrDefault(int key, int defaultValue) {
+        int node = find(key);
+        return node == NIL ? defaultValue : values[node];
+    }
+
+    private int find(int key) {
+        int node = root;
+        while (node != NIL && keys[node] != key) {
+            node = key < keys[node] ? left[node] : right[node];
+        }
+        return node;
+    }
+
+    /**
+     * Map key to value
+     * Returns true if the key was not present before.
+     */
+    public boolean put(int key, int value) {
+        changed = false;
+        root = insert(root, key, value);
+        return changed;
+    }
+
+    /**
+     * Remove key; returns true if it was present
+     */
+    public boolean remove(int key) {
+        changed = false;
+        root = delete(root, key);
+        return changed;
+    }
+
+    /**
+     * Remove key and return its value, or defaultValue if it was not present
+     */
+    public int removeOrDefault(int key, int defaultValue) {
+        return remove(key) ? oldValue : defaultValue;
+    }
+
+    // The child is computed before it is stored: newNode may replace the arrays
+    private int insert(int node, int key, int value) {
+        if (node == NIL) {
+            changed = true;
+            return newNode(key, value);
+        }
+        if (key < keys[node]) {
+            int child = insert(left[node], key, value);
+            left[node] = child;
+        } else if (key > keys[node]) {
+            int child = insert(right[node], key, value);
+            right[node] = child;
+        } else {
+            values[node] = value;
+            return node;
+        }
+        return changed ? rebalance(node) : node;
+    }
+
+    private int delete(int node, int key) {
+        if (node == NIL) return NIL;
+        if (key < keys[node]) {
+            left[node] = delete(left[node], key);
+        } else if (key > keys[node]) {
+            right[node] = delete(right[node], key);
+        } else {
+            changed = true;
+            oldValue = values[node];
+            if (left[node] == NIL || right[node] == NIL) {
+                int child = left[node] != NIL ? left[node] : right[node];
+                release(node);
+                return child;
+            }
+            // Two children: take over the successor's entry and delete the successor instead
+            int successor = right[node];
+            while (left[successor] != NIL) successor = left[successor];
+            keys[node] = keys[successor];
+            values[node] = values[successor];
+            int removedValue = oldValue;
+            right[node] = delete(right[node], keys[successor]);
+            oldValue = removedValue;
+        }
+        return changed ? rebalance(node) : node;
+    }
+
+    private int newNode(int key, int value) {
+        int node;
+        if (free != NIL) {
+            node = free;
+            free = left[node];
+        } else {
+            if (next == keys.length) grow();
+            node = next++;
+        }
+        keys[node] = key;
+        values[node] = value;
+        left[node] = NIL;
+        right[node] = NIL;
+        size[node] = 1;
+        height[node] = 1;
+        return node;
+    }
+
+    private void release(int node) {
+        left[node] = free;
+        free = node;
+    }
+
+    private void grow() {
+        int capacity = keys.length << 1;
+        keys = Arrays.copyOf(keys, capacity);
+        values = Arrays.copyOf(values, capacity);
+        left = Arrays.copyOf(left, capacity);
+        right = Arrays.copyOf(right, capacity);
+        size = Arrays.copyOf(size, capacity);
+        height = Arrays.copyOf(height, capacity);
+    }
+
+    private void update(int node) {
+        size[node] = size[left[node]] + size[right[node]] + 1;
+        height[node] = (byte) (Math.max(height[left[node]], height[right[node]]) + 1);
+    }
+
+    // Restore the AVL property at node after one of its subtrees changed height by one
+    private int rebalance(int node) {
+        update(node);
+        int balance = height[left[node]] - height[right[node]];
+        if (balance > 1) {
+            if (height[left[left[node]]] < height[right[left[node]]]) {
+                left[node] = rotateLeft(left[node]);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height[right[right[node]]] < height[left[right[node]]]) {
+                right[node] = rotateRight(right[node]);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private int rotateRight(int node) {
+        int pivot = left[node];
+        left[node] = right[pivot];
+        right[pivot] = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private int rotateLeft(int node) {
+        int pivot = right[node];
+        right[node] = left[pivot];
+        left[pivot] = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    /**
+     * Smallest key
+     *
+     * @throws NoSuchElementException if the map is empty
+     */
+    public int firstKey() {
+        if (root == NIL) throw new NoSuchElementException();
+        int node = root;
+        while (left[node] != NIL) node = left[node];
+        return keys[node];
+    }
+
+    public int lastKey() {
+        if (root == NIL) throw new NoSuchElementException();
+        int node = root;
+        while (right[node] != NIL) node = right[node];
+        return keys[node];
+    }
+
+    // Greatest key <= key
+    public OptionalInt floorKey(int key) {
+        int best = NIL;
+        for (int node = root; node != NIL; ) {
+            if (keys[node] <= key) {
+                best = node;
+                node = right[node];
+            } else {
+                node = left[node];
+            }
+        }
+        return best == NIL ? OptionalInt.empty() : OptionalInt.of(keys[best]);
+    }
+
+    // Smallest key >= key
+    public OptionalInt ceilingKey(int key) {
+        int best = NIL;
+        for (int node = root; node != NIL; ) {
+            if (keys[node] >= key) {
+                best = node;
+                node = left[node];
+            } else {
+                node = right[node];
+            }
+        }
+        return best == NIL ? OptionalInt.empty() : OptionalInt.of(keys[best]);
+    }
+
+    // Greatest key < key
+    public OptionalInt lowerKey(int key) {
+        return key == Integer.MIN_VALUE ? OptionalInt.empty() : floorKey(key - 1);
+    }
+
+    // Smallest key > key
+    public OptionalInt higherKey(int key) {
+        return key == Integer.MAX_VALUE ? OptionalInt.empty() : ceilingKey(key + 1);
+    }
+
+    /**
+     * Number of keys less than key
+     * Time Complexity: O(log n)
+     */
+    public int rank(int key) {
+        int rank = 0;
+        for (int node = root; node != NIL; ) {
+            if (key <= keys[node]) {
+                node = left[node];
+            } else {
+                rank += size[left[node]] + 1;
+                node = right[node];
+            }
+        }
+        return rank;
+    }
+
+    /**
+     * Key with the given rank: select(0) is the smallest key
+     * Time Complexity: O(log n)
+     *
+     * @throws IndexOutOfBoundsException if rank is not in [0, size())
+     */
+    public int select(int rank) {
+        return keys[selectNode(rank)];
+    }
+
+    // Value of the key with the given rank
+    public int selectValue(int rank) {
+        return values[selectNode(rank)];
+    }
+
+    private int selectNode(int rank) {
+        if (rank < 0 || rank >= size[root]) {
+            throw new IndexOutOfBoundsException("Rank " + rank + " out of range for size " + size[root]);
+        }
+        int node = root;
+        while (true) {
+            int leftSize = size[left[node]];
+            if (rank < leftSize) {
+                node = left[node];
+            } else if (rank == leftSize) {
+                return node;
+            } else {
+                rank -= leftSize + 1;
+                node = right[node];
+            }
+        }
+    }
+
+    /**
+     * Number of keys in [from, to)
+     * Time Complexity: O(log n)
+     */
+    public int countInRange(int from, int to) {
+        return from >= to ? 0 : rank(to) - rank(from);
+    }
+
+    /**
+     * Visit the entries with keys in [from, to) in key order
+     * An explicit stack holds the path, so no recursion and no allocation beyond one int array.
+     * Time Complexity: O(log n + k) for k entries
+     */
+    public void forEachInRange(int from, int to, EntryConsumer consumer) {
+        scan(from, to, consumer);
+    }
+
+    // Visit every entry in key order
+    public void forEach(EntryConsumer consumer) {
+        scan(Integer.MIN_VALUE, Integer.MAX_VALUE + 1L, consumer);
+    }
+
+    // Bounds are long so that the range can include Integer.MAX_VALUE
+    private void scan(long from, long to, EntryConsumer consumer) {
+        if (from >= to) return;
+        int[] stack = new int[height[root] + 1];
+        int top = 0;
+        // Path to the first key >= from: every node where the search turned left is pending
+        for (int node = root; node != NIL; ) {
+            if (keys[node] >= from) {
+                stack[top++] = node;
+                node = left[node];
+            } else {
+                node = right[node];
+            }
+        }
+        while (top > 0) {
+            int node = stack[--top];
+            if (keys[node] >= to) return;
+            consumer.accept(keys[node], values[node]);
+            for (int child = right[node]; child != NIL; child = left[child]) {
+                stack[top++] = child;
+            }
+        }
+    }
+
+    // Keys in [from, to) in increasing order
+    public int[] keysInRange(int from, int to) {
+        int[] result = new int[countInRange(from, to)];
+        int[] count = {0};
+        scan(from, to, (key, value) -> result[count[0]++] = key);
+        return result;
+    }
+
+    // All keys in increasing order
+    public int[] keys() {
+        int[] result = new int[size()];
+        int[] count = {0};
+        forEach((key, value) -> result[count[0]++] = key);
+        return result;
+    }
+}
@@ -0,0 +1,282 @@
+package org.algoyog.algos.ds.tree;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Lowest Common Ancestor index over a static BinaryTree, built once for many queries
+ *
+ * Nodes get integer ids in preorder (the root is 0) and queries take and return ids; getId and
+ * getNode convert to and from TreeNode. Two implementations:
+ *
+ * 1. eulerTour: the Euler tour lists a node every time the DFS is at it (2n - 1 entries). The LCA
+ *    of u and v is the shallowest node on the tour between their first visits, found with a
+ *    sparse table of range minima in O(1): two overlapping power-of-two windows.
+ * 2. binaryLifting: up[k][v] is the 2^k-th ancestor of v. A query lifts the deeper node to the
+ *    other's depth, then lifts both by decreasing powers of two while they still differ.
+ *
+ * Build and query are iterative, so degenerate trees are fine. The index does not notice
+ * later changes to the tree.
+ */
+public abstract class LcaIndex {
+    // Batches at least this long are answered in parallel
+    private static final int PARALLEL_BATCH = 1 << 14;
+
+    final BinaryTree.TreeNode[] nodes;
+    final int[] parent; // -1 for the root
+    final int[] depth;
+    final int[] leftId;
+    final int[] rightId;
+    private Map<BinaryTree.TreeNode, Integer> ids;
+
+    LcaIndex(BinaryTree.TreeNode root) {
+        // Count, then number in preorder with an explicit stack
+        int n = 0;
+        BinaryTree.TreeNode[] stack = new BinaryTree.TreeNode[64];
+        int top = 0;
+        if (root != null) stack[top++] = root;
+        while (top > 0) {
+            BinaryTree.TreeNode node = stack[--top];
+            n++;
+            if (top + 2 > stack.length) stack = Arrays.copyOf(stack, stack.length << 1);
+            if (node.right != null) stack[top++] = node.right;
+            if (node.left != null) stack[top++] = node.left;
+        }
+
+        nodes = new BinaryTree.TreeNode[n];
+        parent = new int[n];
+        depth = new int[n];
+        leftId = new int[n];
+        rightId = new int[n];
+        int[] parentStack = new int[stack.length];
+        int next = 0;
+        if (root != null) {
+            stack[top] = root;
+            parentStack[top++] = -1;
+        }
+        while (top > 0) {
+            BinaryTree.TreeNode node = stack[--top];
+            int p = parentStack[top];
+            int id = next++;
+            nodes[id] = node;
+            parent[id] = p;
+            depth[id] = p < 0 ? 0 : depth[p] + 1;
+            leftId[id] = -1;
+            rightId[id] = -1;
+            if (p >= 0) {
+                if (nodes[p].left == node) leftId[p] = id;
+                else rightId[p] = id;
+            }
+            if (node.right != null) {
+                stack[top] = node.right;
+                parentStack[top++] = id;
+            }
+            if (node.left != null) {
+                stack[top] = node.left;
+                parentStack[top++] = id;
+            }
+        }
+    }
+
+    /**
+     * Euler tour with a sparse table: O(1) queries
+     * Time Complexity: O(n log n) to build, O(1) per query
+     * Space Complexity: O(n log n), about 2n log2(2n) ints for the table
+     */
+    public static LcaIndex eulerTour(BinaryTree.TreeNode root) {
+        return new EulerTour(root);
+    }
+
+    /**
+     * Binary lifting: O(log h) queries; the table has log2(h) rows of n instead of log2(2n)
+     * rows of 2n, which is far smaller for bushy trees
+     * Time Complexity: O(n log h) to build, O(log h) per query
+     * Space Complexity: n log2(h) ints for the ancestor table
+     */
+    public static LcaIndex binaryLifting(BinaryTree.TreeNode root) {
+        return new BinaryLifting(root);
+    }
+
+    /**
+     * Id of the lowest common ancestor of the nodes u and v
+     *
+     * @throws IllegalArgumentException if an id is not a node of the tree
+     */
+    public int lca(int u, int v) {
+        if (u < 0 || u >= nodes.length || v < 0 || v >= nodes.length) {
+            throw new IllegalArgumentException("Node ids (" + u + ", " + v + ") out of range");
+        }
+        return query(u, v);
+    }
+
+    /**
+     * Answer a batch of queries given as pairs: pairs[2i], pairs[2i + 1]
+     * Large batches are answered in parallel.
+     * Time Complexity: O(q) for the Euler tour, O(q log h) for binary lifting
+     */
+    public int[] lca(int[] pairs) {
+        if ((pairs.length & 1) != 0) {
+            throw new IllegalArgumentException("Pairs array has odd length " + pairs.length);
+        }
+        for (int id : pairs) {
+            if (id < 0 || id >= nodes.length) {
+                throw new IllegalArgumentException("Node id " + id + " out of range");
+            }
+        }
+        int q = pairs.length >> 1;
+        int[] answers = new int[q];
+        IntStream range = IntStream.range(0, q);
+        if (q >= PARALLEL_BATCH) range = range.parallel();
+        range.forEach(i -> answers[i] = query(pairs[2 * i], pairs[2 * i + 1]));
+        return answers;
+    }
+
+    // Unchecked query; ids are valid
+    abstract int query(int u, int v);
+
+    public int getNodeCount() {
+        return nodes.length;
+    }
+
+    public BinaryTree.TreeNode getNode(int id) {
+        return nodes[id];
+    }
+
+    /**
+     * Preorder id of a node of the indexed tree
+     * The node to id map is built on the first call.
+     *
+     * @throws IllegalArgumentException if the node is not in the tree
+     */
+    public synchronized int getId(BinaryTree.TreeNode node) {
+        if (ids == null) {
+            ids = new IdentityHashMap<>(nodes.length * 2);
+            for (int id = 0; id < nodes.length; id++) {
+                ids.put(nodes[id], id);
+            }
+        }
+        Integer id = ids.get(node);
+        if (id == null) throw new IllegalArgumentException("Node is not in the indexed tree");
+        return id;
+    }
+
+    public int getParent(int id) {
+        return parent[id];
+    }
+
+    public int getDepth(int id) {
+        return depth[id];
+    }
+
+    private static final class EulerTour extends LcaIndex {
+        private final int[] first; // Position of each node's first visit in the tour
+        private final int[][] table; // table[k][i]: shallowest node in tour[i .. i + 2^k)
+
+        EulerTour(BinaryTree.TreeNode root) {
+            super(root);
+            int n = nodes.length;
+            first = new int[n];
+            int[] tour = new int[Math.max(0, 2 * n - 1)];
+            int length = 0;
+
+            // Iterative DFS; phase 0: entering, 1: back from the left child, 2: back from the right
+            byte[] phase = new byte[n];
+            int[] stack = new int[n];
+            int top = 0;
+            if (n > 0) stack[top++] = 0;
+            while (top > 0) {
+                int x = stack[top - 1];
+                if (phase[x] == 0) {
+                    first[x] = length;
+                    tour[length++] = x;
+                    phase[x] = 1;
+                    if (leftId[x] >= 0) stack[top++] = leftId[x];
+                } else if (phase[x] == 1) {
+                    if (leftId[x] >= 0) tour[length++] = x;
+                    phase[x] = 2;
+                    if (rightId[x] >= 0) stack[top++] = rightId[x];
+                } else {
+                    if (rightId[x] >= 0) tour[length++] = x;
+                    top--;
+                }
+            }
+
+            int levels = length == 0 ? 1 : 32 - Integer.numberOfLeadingZeros(length);
+            table = new int[levels][];
+            table[0] = tour;
+            for (int k = 1; k < levels; k++) {
+                int[] previous = table[k - 1];
+                int half = 1 << (k - 1);
+                int[] level = new int[length - (1 << k) + 1];
+                for (int i = 0; i < level.length; i++) {
+                    level[i] = shallower(previous[i], previous[i + half]);
+                }
+                table[k] = level;
+            }
+        }
+
+        private int shallower(int a, int b) {
+            return depth[a] <= depth[b] ? a : b;
+        }
+
+        @Override
+        int query(int u, int v) {
+            int l = first[u];
+            int r = first[v];
+            if (l > r) {
+                int t = l;
+                l = r;
+                r = t;
+            }
+            int k = 31 - Integer.numberOfLeadingZeros(r - l + 1);
+            int[] level = table[k];
+            return shallower(level[l], level[r - (1 << k) + 1]);
+        }
+    }
+
+    private static final class BinaryLifting extends LcaIndex {
+        private final int[][] up; // up[k][v]: 2^k-th ancestor of v, the root if there is none
+
+        BinaryLifting(BinaryTree.TreeNode root) {
+            super(root);
+            int n = nodes.length;
+            int height = 0;
+            for (int d : depth) height = Math.max(height, d);
+            int levels = Math.max(1, 32 - Integer.numberOfLeadingZeros(height));
+            up = new int[levels][n];
+            for (int v = 0; v < n; v++) {
+                up[0][v] = Math.max(parent[v], 0);
+            }
+            for (int k = 1; k < levels; k++) {
+                int[] previous = up[k - 1];
+                int[] level = up[k];
+                for (int v = 0; v < n; v++) {
+                    level[v] = previous[previous[v]];
+                }
+            }
+        }
+
+        @Override
+        int query(int u, int v) {
+            if (depth[u] < depth[v]) {
+                int t = u;
+                u = v;
+                v = t;
+            }
+            // Lift u to v's depth
+            for (int diff = depth[u] - depth[v], k = 0; diff != 0; diff >>>= 1, k++) {
+                if ((diff & 1) != 0) u = up[k][u];
+            }
+            if (u == v) return u;
+            for (int k = up.length - 1; k >= 0; k--) {
+                if (up[k][u] != up[k][v]) {
+                    u = up[k][u];
+                    v = up[k][v];
+                }
+            }
+            return parent[u];
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package org.algoyog.algos.ds.tree;
+
+import java.util.Arrays;
+import java.util.concurrent.CountedCompleter;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Parallel bottom-up folds over BinaryTree.TreeNode trees on a ForkJoinPool
+ *
+ * A fold computes f(node, result of left subtree, result of right subtree) for every node, with
+ * a fixed value for missing children; size, sum, depth and balance are all folds.
+ *
+ * Subtree sizes are not stored in the nodes, so a task discovers its share of the tree: it walks
+ * its subtree breadth-first until it holds `cutoff` nodes, and every subtree hanging below those
+ * nodes becomes a task of its own. Tasks are CountedCompleters: a task forks its subtasks and
+ * returns without waiting, and the last subtask to finish folds the parent's nodes in reverse BFS
+ * order (children before parents), then the grandparent's if that was its last pending subtask,
+ * and so on in a loop. No thread blocks on a join, so the depth of the task tree is not limited by
+ * the thread stack, and a caterpillar or chain of any length folds like a bushy tree. Every node is
+ * visited once by exactly one task, a subtree smaller than the cutoff is folded sequentially, and a
+ * task with a single subtree below its nodes keeps walking it instead of forking.
+ *
+ * Time Complexity: O(n) work, about O(n / p + h) time on p threads for bushy trees
+ * Space Complexity: O(cutoff) per task until it completes, O(n) in total
+ */
+public class ParallelTreeFold {
+    private static final int NONE = -1; // Child reference of a missing child
+
+    private final ForkJoinPool pool;
+    private final int cutoff;
+
+    /**
+     * Result of a node from its value and the results of its two subtrees
+     */
+    public interface LongCombiner {
+        long combine(int value, long left, long right);
+    }
+
+    public interface Combiner<R> {
+        R combine(BinaryTree.TreeNode node, R left, R right);
+    }
+
+    public ParallelTreeFold() {
+        this(ForkJoinPool.commonPool(), 1 << 12);
+    }
+
+    /**
+     * @param cutoff nodes a task folds itself before handing subtrees to new tasks
+     */
+    public ParallelTreeFold(ForkJoinPool pool, int cutoff) {
+        if (cutoff < 1) {
+            throw new IllegalArgumentException("Cutoff must be positive: " + cutoff);
+        }
+        this.pool = pool;
+        this.cutoff = cutoff;
+    }
+
+    /**
+     * Fold with primitive results; empty is the result of a missing subtree
+     * Time Complexity: O(n) work
+     */
+    public long foldLong(BinaryTree.TreeNode root, long empty, LongCombiner combiner) {
+        if (root == null) return empty;
+        LongTask task = new LongTask(null, root, empty, combiner);
+        pool.invoke(task);
+        return task.result;
+    }
+
+    /**
+     * Fold with object results; combiner must be safe to call from several threads
+     * Time Complexity: O(n) work
+     */
+    public <R> R fold(BinaryTree.TreeNode root, R empty, Combiner<R> combiner) {
+        if (root == null) return empty;
+        ObjectTask<R> task = new ObjectTask<>(null, root, empty, combiner);
+        pool.invoke(task);
+        return task.result;
+    }
+
+    public long size(BinaryTree.TreeNode root) {
+        return foldLong(root, 0, (value, left, right) -> left + right + 1);
+    }
+
+    public long sum(BinaryTree.TreeNode root) {
+        return foldLong(root, 0, (value, left, right) -> left + right + value);
+    }
+
+    // Same result as BinaryTree.maxDepth
+    public int maxDepth(BinaryTree.TreeNode root) {
+        return (int) foldLong(root, 0, (value, left, right) -> Math.max(left, right) + 1);
+    }
+
+    // Same result as BinaryTree.isBalanced; -1 marks an unbalanced subtree as in checkHeight
+    public boolean isBalanced(BinaryTree.TreeNode root) {
+        return foldLong(root, 0, (value, left, right) ->
+                left < 0 || right < 0 || Math.abs(left - right) > 1 ? -1 : Math.max(left, right) + 1) >= 0;
+    }
+
+    /**
+     * Collects up to cutoff nodes of its subtree breadth-first, forks one task per subtree
+     * below them, and folds its own nodes once they have all completed. Subclasses only differ
+     * in the result type. Tasks are never serialized.
+     */
+    @SuppressWarnings("serial")
+    private abstract class Task extends CountedCompleter<Void> {
+        final BinaryTree.TreeNode root;
+
+        // The task's own nodes in BFS order, with references to their children's results:
+        // an index into nodes, NONE, or -2 - k for the k-th forked subtree
+        BinaryTree.TreeNode[] nodes = new BinaryTree.TreeNode[16];
+        int[] leftRef = new int[16];
+        int[] rightRef = new int[16];
+        int count;
+
+        // Subtrees below the task's nodes and the child slot each one fills (2 * parent + side)
+        BinaryTree.TreeNode[] below = new BinaryTree.TreeNode[4];
+        int[] belowSlot = new int[4];
+        int belowCount;
+        Task[] subtasks;
+
+        Task(Task parent, BinaryTree.TreeNode root) {
+            super(parent);
+            this.root = root;
+        }
+
+        abstract Task subtask(BinaryTree.TreeNode node);
+
+        // Fold nodes[count - 1 .. 0]; the subtasks are done
+        abstract void combine();
+
+        @Override
+        public void compute() {
+            collect();
+            if (belowCount > 0) {
+                subtasks = new Task[belowCount];
+                for (int k = 0; k < belowCount; k++) {
+                    subtasks[k] = subtask(below[k]);
+                }
+                below = null;
+                setPendingCount(subtasks.length);
+                for (Task subtask : subtasks) {
+                    subtask.fork();
+                }
+            }
+            // Runs onCompletion here if nothing was forked, otherwise once the last subtask is done
+            tryComplete();
+        }
+
+        @Override
+        public void onCompletion(CountedCompleter<?> caller) {
+            combine();
+            nodes = null;
+            leftRef = null;
+            rightRef = null;
+            subtasks = null;
+        }
+
+        private void collect() {
+            append(root);
+            int head = 0;
+            while (true) {
+                for (; head < count; head++) {
+                    BinaryTree.TreeNode node = nodes[head];
+                    // place may grow the arrays, so it runs before the store
+                    int left = place(node.left, 2 * head);
+                    leftRef[head] = left;
+                    int right = place(node.right, 2 * head + 1);
+                    rightRef[head] = right;
+                }
+                if (belowCount != 1) return;
+                // One subtree below: keep walking it here rather than nest a task per cutoff nodes
+                belowCount = 0;
+                int slot = belowSlot[0];
+                int index = append(below[0]);
+                if ((slot & 1) == 0) leftRef[slot >> 1] = index;
+                else rightRef[slot >> 1] = index;
+            }
+        }
+
+        private int place(BinaryTree.TreeNode child, int slot) {
+            if (child == null) return NONE;
+            if (count < cutoff) return append(child);
+            if (belowCount == below.length) {
+                below = Arrays.copyOf(below, belowCount << 1);
+                belowSlot = Arrays.copyOf(belowSlot, belowCount << 1);
+            }
+            below[belowCount] = child;
+            belowSlot[belowCount] = slot;
+            return -2 - belowCount++;
+        }
+
+        private int append(BinaryTree.TreeNode node) {
+            if (count == nodes.length) {
+                nodes = Arrays.copyOf(nodes, count << 1);
+                leftRef = Arrays.copyOf(leftRef, count << 1);
+                rightRef = Arrays.copyOf(rightRef, count << 1);
+            }
+            nodes[count] = node;
+            return count++;
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private final class LongTask extends Task {
+        private final long empty;
+        private final LongCombiner combiner;
+        long result;
+
+        LongTask(Task parent, BinaryTree.TreeNode root, long empty, LongCombiner combiner) {
+            super(parent, root);
+            this.empty = empty;
+            this.combiner = combiner;
+        }
+
+        @Override
+        Task subtask(BinaryTree.TreeNode node) {
+            return new LongTask(this, node, empty, combiner);
+        }
+
+        @Override
+        void combine() {
+            long[] values = new long[count];
+            for (int i = count - 1; i >= 0; i--) {
+                values[i] = combiner.combine(nodes[i].val, value(values, leftRef[i]), value(values, rightRef[i]));
+            }
+            result = values[0];
+        }
+
+        private long value(long[] values, int ref) {
+            if (ref >= 0) return values[ref];
+            if (ref == NONE) return empty;
+            return ((LongTask) subtasks[-2 - ref]).result;
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private final class ObjectTask<R> extends Task {
+        private final R empty;
+        private final Combiner<R> combiner;
+        R result;
+
+        ObjectTask(Task parent, BinaryTree.TreeNode root, R empty, Combiner<R> combiner) {
+            super(parent, root);
+            this.empty = empty;
+            this.combiner = combiner;
+        }
+
+        @Override
+        Task subtask(BinaryTree.TreeNode node) {
+            return new ObjectTask<>(this, node, empty, combiner);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        void combine() {
+            Object[] values = new Object[count];
+            for (int i = count - 1; i >= 0; i--) {
+                R left = value(values, leftRef[i]);
+                R right = value(values, rightRef[i]);
+                values[i] = combiner.combine(nodes[i], left, right);
+            }
+            result = (R) values[0];
+        }
+
+        @SuppressWarnings("unchecked")
+        private R value(Object[] values, int ref) {
+            if (ref >= 0) return (R) values[ref];
+            if (ref == NONE) return empty;
+            return ((ObjectTask<R>) subtasks[-2 - ref]).result;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package org.algoyog.algos.ds.union_find;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Lock-free Disjoint Set (Union-Find) for concurrent use
+ * Same operations as DisjointSet, but any number of threads may call find and union at once.
+ *
+ * Differences from the sequential version:
+ * 1. Union by index instead of by rank: the root with the larger index is hooked under the
+ *    smaller one with a single compare-and-set, so the root of a set is always its smallest element
+ *    and no separate rank array has to be kept consistent
+ * 2. Path halving instead of full path compression: every examined node is pointed to its
+ *    grandparent with a CAS, which needs no recursion and is safe to race with other threads
+ */
+public class ConcurrentDisjointSet {
+    private final AtomicIntegerArray parent;
+
+    /**
+     * Initialize with n elements where each element is in its own set
+     * Time Complexity: O(n)
+     * Space Complexity: O(n)
+     */
+    public ConcurrentDisjointSet(int n) {
+        parent = new AtomicIntegerArray(n);
+        for (int i = 0; i < n; i++) {
+            parent.set(i, i);
+        }
+    }
+
+    /**
+     * Find the root of the set containing x (with path halving)
+     * Time Complexity: O(log n) worst case, nearly constant in practice
+     */
+    public int find(int x) {
+        while (true) {
+            int p = parent.get(x);
+            if (p == x) return x;
+
+            int grandparent = parent.get(p);
+            if (p != grandparent) {
+                // Losing this race is harmless: another thread already moved x closer to the root
+                parent.compareAndSet(x, p, grandparent);
+            }
+            x = grandparent;
+        }
+    }
+
+    /**
+     * Union the sets containing x and y
+     * Returns true if they were in different sets, i.e. this call merged them
+     * Time Complexity: O(log n) worst case, nearly constant in practice
+     */
+    public boolean union(int x, int y) {
+        while (true) {
+            int rootX = find(x);
+            int rootY = find(y);
+            if (rootX == rootY) return false; // Already in the same set
+
+            // Hook the larger root under the smaller one; retry if it stopped being a root meanwhile
+            int high = Math.max(rootX, rootY);
+            int low = Math.min(rootX, rootY);
+            if (parent.compareAndSet(high, high, low)) return true;
+        }
+    }
+
+    /**
+     * Check if x and y are in the same set
+     * Only meaningful once concurrent unions involving x and y have finished
+     */
+    public boolean isConnected(int x, int y) {
+        return find(x) == find(y);
+    }
+
+    /**
+     * Point x directly at its root
+     * Called for every element after a parallel phase so later finds take one step
+     */
+    public void compress(int x) {
+        parent.set(x, find(x));
+    }
+
+    /**
+     * Get the number of disjoint sets by counting roots
+     * Time Complexity: O(n) - a shared counter would be contended by every union
+     */
+    public int getCount() {
+        int count = 0;
+        for (int i = 0; i < parent.length(); i++) {
+            if (parent.get(i) == i) count++;
+        }
+        return count;
+    }
+
+    public int size() {
+        return parent.length();
+    }
+}
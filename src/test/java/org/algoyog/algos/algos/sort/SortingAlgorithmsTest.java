@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.Arrays;
+import java.util.Random;
 
 public class SortingAlgorithmsTest {
 
@@ -207,6 +208,30 @@ public class SortingAlgorithmsTest {
         assertArrayEquals(expected5, arr5);
     }
 
+    @Test
+    public void testParallelRadixSortIndices() {
+        // Negative keys and duplicates; equal keys keep their index order
+        int[] keys = {5, -3, 0, 5, Integer.MIN_VALUE, 7, -3, Integer.MAX_VALUE};
+        int[] expected = {4, 1, 6, 2, 0, 3, 5, 7};
+        assertArrayEquals(expected, sorter.parallelRadixSortIndices(keys));
+
+        // Empty input
+        assertArrayEquals(new int[]{}, sorter.parallelRadixSortIndices(new int[]{}));
+
+        // Large input split across several chunks
+        Random random = new Random(3);
+        int[] large = new int[200_000];
+        for (int i = 0; i < large.length; i++) {
+            large[i] = random.nextInt(2000) - 1000;
+        }
+        int[] order = sorter.parallelRadixSortIndices(large);
+        for (int i = 1; i < order.length; i++) {
+            int previous = large[order[i - 1]];
+            int current = large[order[i]];
+            assertTrue(previous < current || (previous == current && order[i - 1] < order[i]));
+        }
+    }
+
     @Test
     public void testBucketSort() {
         // Test with random array of floats between 0 and 1
@@ -0,0 +1,133 @@
+package org.algoyog.algos.ds.graph;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+public class AllPairsShortestPathsTest {
+
+    private final AllPairsShortestPaths apsp = new AllPairsShortestPaths();
+    private final GraphAlgorithms graphAlgos = new GraphAlgorithms();
+
+    @Test
+    public void testFloydWarshallMatchesDijkstra() {
+        int n = 150;
+        GraphAlgorithms.WeightedGraph graph = GraphFixtures.weightedGraph(n, 900, 0, 99, 31);
+
+        // A block size that does not divide V exercises the padding
+        AllPairsShortestPaths.DistanceMatrix matrix = apsp.floydWarshall(graph, 16);
+        assertFalse(matrix.hasNegativeCycle());
+        for (int s = 0; s < n; s++) {
+            int[] expected = graphAlgos.dijkstra(graph, s);
+            for (int t = 0; t < n; t++) {
+                long want = expected[t] == Integer.MAX_VALUE ? AllPairsShortestPaths.UNREACHABLE : expected[t];
+                assertEquals(want, matrix.get(s, t), s + " -> " + t);
+            }
+        }
+    }
+
+    @Test
+    public void testNegativeEdges() {
+        // 0 -(4)-> 1 -(-2)-> 2 -(3)-> 3, 0 -(5)-> 2
+        GraphAlgorithms.WeightedGraph graph = new GraphAlgorithms.WeightedGraph(5);
+        graph.addEdge(0, 1, 4);
+        graph.addEdge(1, 2, -2);
+        graph.addEdge(2, 3, 3);
+        graph.addEdge(0, 2, 5);
+
+        AllPairsShortestPaths.DistanceMatrix matrix = apsp.floydWarshall(graph, 2);
+        assertFalse(matrix.hasNegativeCycle());
+        assertArrayEquals(new long[]{0, 4, 2, 5, AllPairsShortestPaths.UNREACHABLE}, matrix.row(0));
+        assertEquals(AllPairsShortestPaths.UNREACHABLE, matrix.get(3, 0));
+        assertEquals(AllPairsShortestPaths.UNREACHABLE, matrix.get(4, 2));
+    }
+
+    @Test
+    public void testNegativeCycle() {
+        GraphAlgorithms.WeightedGraph graph = new GraphAlgorithms.WeightedGraph(3);
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, -3);
+        graph.addEdge(2, 1, 1);
+
+        assertTrue(apsp.floydWarshall(graph).hasNegativeCycle());
+
+        // Heavy negative cycles through many vertices roughly double the distances every round;
+        // they must not wrap around to positive values
+        int n = 100;
+        GraphAlgorithms.WeightedGraph dense = new GraphAlgorithms.WeightedGraph(n + 1);
+        for (int u = 0; u < n; u++) {
+            for (int v = 0; v < n; v++) {
+                if (u != v) dense.addEdge(u, v, -1_000_000_000);
+            }
+        }
+        AllPairsShortestPaths.DistanceMatrix matrix = apsp.floydWarshall(dense, 16);
+        assertTrue(matrix.hasNegativeCycle());
+        for (int v = 0; v < n; v++) {
+            assertTrue(matrix.get(v, v) < 0);
+            assertTrue(matrix.get(0, v) < 0);
+        }
+        assertEquals(AllPairsShortestPaths.UNREACHABLE, matrix.get(0, n));
+        assertEquals(AllPairsShortestPaths.UNREACHABLE, matrix.get(n, 0));
+    }
+
+    @Test
+    public void testJohnsonMatchesFloydWarshall() {
+        // Weights w'(u, v) + p[v] - p[u] have negative edges but no negative cycles
+        Random random = new Random(37);
+        int n = 120;
+        int[] potential = new int[n];
+        for (int v = 0; v < n; v++) potential[v] = random.nextInt(50);
+        GraphAlgorithms.WeightedGraph graph = new GraphAlgorithms.WeightedGraph(n);
+        for (int i = 0; i < 600; i++) {
+            int u = random.nextInt(n);
+            int v = random.nextInt(n);
+            graph.addEdge(u, v, random.nextInt(30) + potential[v] - potential[u]);
+        }
+
+        AllPairsShortestPaths.DistanceMatrix expected = apsp.floydWarshall(graph);
+        int[][] rows = new int[n][];
+        apsp.johnson(graph, (source, distances) -> rows[source] = distances.clone());
+
+        for (int s = 0; s < n; s++) {
+            for (int t = 0; t < n; t++) {
+                long want = expected.get(s, t);
+                int got = rows[s][t];
+                assertEquals(want, got == Integer.MAX_VALUE ? AllPairsShortestPaths.UNREACHABLE : got, s + " -> " + t);
+            }
+        }
+    }
+
+    @Test
+    public void testJohnsonNegativeCycle() {
+        GraphAlgorithms.WeightedGraph graph = new GraphAlgorithms.WeightedGraph(3);
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, -3);
+        graph.addEdge(2, 1, 1);
+        assertThrows(IllegalStateException.class, () -> apsp.johnson(graph, (source, distances) -> { }));
+    }
+
+    @Test
+    public void testJohnsonLargeWeights() {
+        // Reweighting and correction leave the int range in between but the distances fit
+        GraphAlgorithms.WeightedGraph graph = new GraphAlgorithms.WeightedGraph(3);
+        graph.addEdge(0, 1, 2_000_000_000);
+        graph.addEdge(1, 2, -1_900_000_000);
+        int[][] rows = new int[3][];
+        apsp.johnson(graph, (source, distances) -> rows[source] = distances.clone());
+        assertArrayEquals(new int[]{0, 2_000_000_000, 100_000_000}, rows[0]);
+
+        // 0 -> 1 -> 2 is 4e9: rejected instead of wrapping around to a negative distance
+        GraphAlgorithms.WeightedGraph far = new GraphAlgorithms.WeightedGraph(3);
+        far.addEdge(0, 1, 2_000_000_000);
+        far.addEdge(1, 2, 2_000_000_000);
+        assertThrows(IllegalArgumentException.class, () -> apsp.johnson(far, (source, distances) -> { }));
+    }
+
+    @Test
+    public void testInvalidBlockSize() {
+        GraphAlgorithms.WeightedGraph graph = new GraphAlgorithms.WeightedGraph(3);
+        assertThrows(IllegalArgumentException.class, () -> apsp.floydWarshall(graph, 0));
+        assertThrows(IllegalArgumentException.class, () -> apsp.floydWarshall(graph, -4));
+    }
+}
@@ -0,0 +1,87 @@
+package org.algoyog.algos.ds.graph;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Size and BFS speed of CompressedGraph against CsrGraph (not part of the test suite)
+ * The input imitates a crawl-ordered web graph: most links point to pages with nearby ids,
+ * a few go anywhere. It is measured once as generated and once with shuffled ids relabeled
+ * by BFS order.
+ *
+ * Run: java -cp target/classes:target/test-classes org.algoyog.algos.ds.graph.CompressedGraphBenchmark [vertices]
+ */
+public class CompressedGraphBenchmark {
+
+    public static void main(String[] args) {
+        int V = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        CsrGraph local = crawlLike(V, 12, 3);
+        report("crawl order", local);
+
+        VertexReordering reordering = new VertexReordering();
+        CsrGraph grid = VertexReorderingBenchmark.shuffledGrid(1000, 7);
+        report("shuffled grid", grid);
+        report("grid, BFS order", reordering.permute(grid, reordering.bfsOrder(grid)));
+    }
+
+    private static void report(String name, CsrGraph csr) {
+        CompressedGraph compressed = CompressedGraph.of(csr);
+        long csrTime = bestOf(() -> bfs(csr, 0));
+        long compressedTime = bestOf(() -> compressed.bfs(0));
+        double csrBits = 32.0 * (csr.getEdgeCount() + csr.getVertexCount() + 1) / csr.getEdgeCount();
+        System.out.printf("%-16s E = %,11d   CSR %5.1f bits/edge %8.1f ms   compressed %5.1f bits/edge %8.1f ms%n",
+                name, csr.getEdgeCount(), csrBits, csrTime / 1e6, compressed.bitsPerEdge(), compressedTime / 1e6);
+    }
+
+    private static int bfs(CsrGraph graph, int source) {
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int[] depth = new int[graph.getVertexCount()];
+        int[] parent = new int[graph.getVertexCount()];
+        Arrays.fill(depth, -1);
+        Arrays.fill(parent, -1);
+        int[] queue = new int[graph.getVertexCount()];
+        int head = 0;
+        int tail = 0;
+        depth[source] = 0;
+        queue[tail++] = source;
+        while (head < tail) {
+            int u = queue[head++];
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int v = targets[e];
+                if (depth[v] < 0) {
+                    depth[v] = depth[u] + 1;
+                    parent[v] = u;
+                    queue[tail++] = v;
+                }
+            }
+        }
+        return tail;
+    }
+
+    private static long bestOf(Runnable run) {
+        run.run();
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long start = System.nanoTime();
+            run.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+
+    // degree links per vertex, 90% within +-64 ids, the rest uniform
+    static CsrGraph crawlLike(int V, int degree, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int[] offsets = new int[V + 1];
+        int[] targets = new int[V * degree];
+        for (int v = 0; v < V; v++) {
+            for (int k = 0; k < degree; k++) {
+                int t = random.nextInt(10) == 0 ? random.nextInt(V) : Math.floorMod(v + random.nextInt(-64, 65), V);
+                targets[v * degree + k] = t;
+            }
+            offsets[v + 1] = offsets[v] + degree;
+        }
+        return new CsrGraph(offsets, targets, null);
+    }
+}
@@ -0,0 +1,107 @@
+package org.algoyog.algos.ds.graph;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+public class CompressedGraphTest {
+
+    @Test
+    public void testRoundTripSortsAndDeduplicates() {
+        GraphAlgorithms.Graph graph = new GraphAlgorithms.Graph(5);
+        graph.addEdge(2, 4);
+        graph.addEdge(2, 0);
+        graph.addEdge(2, 4); // Parallel edge
+        graph.addEdge(2, 1);
+        graph.addEdge(4, 3);
+        graph.addEdge(3, 3); // Self loop
+
+        CompressedGraph compressed = CompressedGraph.of(graph);
+        assertEquals(5, compressed.getVertexCount());
+        assertEquals(5, compressed.getEdgeCount());
+        assertArrayEquals(new int[]{0, 1, 4}, compressed.neighbors(2));
+        assertArrayEquals(new int[]{3}, compressed.neighbors(3));
+        assertArrayEquals(new int[]{3}, compressed.neighbors(4));
+        assertArrayEquals(new int[0], compressed.neighbors(0));
+        assertEquals(3, compressed.degree(2));
+
+        GraphAlgorithms.Graph restored = compressed.toGraph();
+        assertEquals(Arrays.asList(0, 1, 4), restored.getAdjList()[2]);
+    }
+
+    @Test
+    public void testRandomGraphMatchesSortedCsr() {
+        SplittableRandom random = new SplittableRandom(11);
+        int V = 10_000; // More than two offset blocks
+        GraphAlgorithms.Graph graph = new GraphAlgorithms.Graph(V);
+        for (int i = 0; i < 60_000; i++) {
+            int u = random.nextInt(V);
+            // Mostly local edges with some long jumps in both directions
+            int v = random.nextInt(4) == 0 ? random.nextInt(V) : Math.floorMod(u + random.nextInt(-20, 21), V);
+            graph.addEdge(u, v);
+        }
+
+        CompressedGraph compressed = CompressedGraph.of(graph);
+        for (int v = 0; v < V; v++) {
+            int[] expected = graph.getAdjList()[v].stream().mapToInt(Integer::intValue).sorted().distinct().toArray();
+            assertArrayEquals(expected, compressed.neighbors(v), "vertex " + v);
+        }
+    }
+
+    @Test
+    public void testTraversalsMatchSortedGraph() {
+        GraphAlgorithms.Graph graph = GraphFixtures.undirectedGraph(3_000, 9_000, 5);
+
+        CompressedGraph compressed = CompressedGraph.of(graph);
+        GraphAlgorithms algos = new GraphAlgorithms();
+        GraphAlgorithms.Graph sorted = compressed.toGraph();
+
+        GraphAlgorithms.Traversal expected = algos.bfsTree(sorted, 17);
+        GraphAlgorithms.Traversal actual = compressed.bfs(17);
+        assertArrayEquals(expected.getOrder(), actual.getOrder());
+        assertArrayEquals(expected.getDepth(), actual.getDepth());
+        assertArrayEquals(expected.getParent(), actual.getParent());
+
+        expected = algos.dfsTree(sorted, 17);
+        actual = compressed.dfs(17);
+        assertArrayEquals(expected.getOrder(), actual.getOrder());
+        assertArrayEquals(expected.getDepth(), actual.getDepth());
+        assertArrayEquals(expected.getParent(), actual.getParent());
+    }
+
+    @Test
+    public void testLocalGraphCompressesWell() {
+        // Ring lattice: every vertex linked to the 3 vertices on either side, so gaps are tiny
+        int V = 50_000;
+        GraphAlgorithms.Graph ring = new GraphAlgorithms.Graph(V);
+        for (int v = 0; v < V; v++) {
+            for (int k = 1; k <= 3; k++) {
+                ring.addUndirectedEdge(v, (v + k) % V);
+            }
+        }
+
+        CompressedGraph compressed = CompressedGraph.of(ring);
+        assertEquals(6 * V, compressed.getEdgeCount());
+        assertTrue(compressed.bitsPerEdge() < 6, "bits per edge " + compressed.bitsPerEdge());
+        assertEquals(V, compressed.bfs(0).getOrder().length);
+        assertEquals(V, compressed.dfs(0).getOrder().length);
+    }
+
+    @Test
+    public void testWideIndex() {
+        // A hub row longer than 2^16 bits forces 32-bit index offsets
+        int V = 40_000;
+        GraphAlgorithms.Graph star = new GraphAlgorithms.Graph(V);
+        for (int v = 1; v < V; v += 2) {
+            star.addEdge(0, v);
+            star.addEdge(v, 0);
+        }
+
+        CompressedGraph compressed = CompressedGraph.of(star);
+        assertEquals(V / 2, compressed.degree(0));
+        assertArrayEquals(new int[]{0}, compressed.neighbors(V - 1));
+        assertEquals(V / 2 + 1, compressed.bfs(1).getOrder().length);
+    }
+}
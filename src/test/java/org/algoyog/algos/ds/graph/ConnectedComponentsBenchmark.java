@@ -0,0 +1,72 @@
+package org.algoyog.algos.ds.graph;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Scaling benchmark for ConnectedComponents (not part of the test suite)
+ * Compares sequential BFS with the parallel Afforest version at increasing thread counts
+ * on a random undirected graph.
+ *
+ * Run: java -cp target/classes:target/test-classes org.algoyog.algos.ds.graph.ConnectedComponentsBenchmark [V] [E]
+ */
+public class ConnectedComponentsBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int V = args.length > 0 ? Integer.parseInt(args[0]) : 4_000_000;
+        int E = args.length > 1 ? Integer.parseInt(args[1]) : 16_000_000;
+        CsrGraph graph = randomUndirected(V, E, 1);
+        ConnectedComponents components = new ConnectedComponents();
+
+        System.out.printf("V = %,d, undirected E = %,d%n", V, E);
+        long seqNanos = time(() -> components.sequential(graph));
+        System.out.printf("sequential BFS      : %8.1f ms%n", seqNanos / 1e6);
+
+        int maxThreads = Runtime.getRuntime().availableProcessors();
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            long nanos = time(() -> pool.submit(() -> components.parallel(graph)).join());
+            pool.shutdown();
+            System.out.printf("parallel, %2d threads: %8.1f ms (%.2fx vs sequential)%n",
+                    threads, nanos / 1e6, (double) seqNanos / nanos);
+        }
+    }
+
+    // Best of five runs after two warm-up runs
+    private static long time(Runnable run) {
+        for (int i = 0; i < 2; i++) run.run();
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            long start = System.nanoTime();
+            run.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+
+    // Builds the CSR arrays directly; going through GraphAlgorithms.Graph would dominate the setup
+    static CsrGraph randomUndirected(int V, int E, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int[] from = new int[E];
+        int[] to = new int[E];
+        int[] offsets = new int[V + 1];
+        for (int i = 0; i < E; i++) {
+            from[i] = random.nextInt(V);
+            to[i] = random.nextInt(V);
+            offsets[from[i] + 1]++;
+            offsets[to[i] + 1]++;
+        }
+        for (int v = 0; v < V; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+
+        int[] cursor = Arrays.copyOf(offsets, V);
+        int[] targets = new int[2 * E];
+        for (int i = 0; i < E; i++) {
+            targets[cursor[from[i]]++] = to[i];
+            targets[cursor[to[i]]++] = from[i];
+        }
+        return new CsrGraph(offsets, targets, null);
+    }
+}
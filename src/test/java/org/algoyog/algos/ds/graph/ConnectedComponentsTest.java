@@ -0,0 +1,55 @@
+package org.algoyog.algos.ds.graph;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+public class ConnectedComponentsTest {
+
+    private final ConnectedComponents components = new ConnectedComponents();
+
+    @Test
+    public void testSmallGraph() {
+        // 0 - 1 - 2    3 - 4    5
+        GraphAlgorithms.Graph graph = new GraphAlgorithms.Graph(6);
+        graph.addUndirectedEdge(0, 1);
+        graph.addUndirectedEdge(1, 2);
+        graph.addUndirectedEdge(3, 4);
+
+        ConnectedComponents.Components result = components.parallel(graph);
+        assertEquals(3, result.getComponentCount());
+        assertArrayEquals(new int[]{0, 0, 0, 1, 1, 2}, result.getComponentIds());
+        assertArrayEquals(new int[]{3, 2, 1}, result.getSizes());
+    }
+
+    @Test
+    public void testMatchesSequentialBfs() {
+        // A giant component plus many small ones and isolated vertices
+        int n = 20_000;
+        GraphAlgorithms.Graph graph = new GraphAlgorithms.Graph(n);
+        GraphFixtures.addUndirectedEdges(graph, GraphFixtures.randomEdges(n / 2, 30_000, 11));
+        SplittableRandom random = new SplittableRandom(12);
+        for (int i = 0; i < 3_000; i++) {
+            int u = n / 2 + random.nextInt(n / 2);
+            graph.addUndirectedEdge(u, Math.min(n - 1, u + 1 + random.nextInt(3)));
+        }
+
+        CsrGraph csr = CsrGraph.of(graph);
+        ConnectedComponents.Components expected = components.sequential(csr);
+        ConnectedComponents.Components actual = components.parallel(csr);
+
+        assertEquals(expected.getComponentCount(), actual.getComponentCount());
+        // Both number components by their smallest vertex, so the labelings are identical
+        assertArrayEquals(expected.getComponentIds(), actual.getComponentIds());
+        assertArrayEquals(expected.getSizes(), actual.getSizes());
+        assertEquals(n, Arrays.stream(actual.getSizes()).sum());
+    }
+
+    @Test
+    public void testEmptyGraph() {
+        ConnectedComponents.Components result = components.parallel(new GraphAlgorithms.Graph(0));
+        assertEquals(0, result.getComponentCount());
+    }
+}
@@ -0,0 +1,114 @@
+package org.algoyog.algos.ds.graph;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+
+public class ContractionHierarchyTest {
+
+    private final GraphAlgorithms graphAlgos = new GraphAlgorithms();
+
+    @Test
+    public void testSmallUndirectedGraph() {
+        // Same graph as GraphAlgorithmsTest.testDijkstra
+        GraphAlgorithms.WeightedGraph graph = new GraphAlgorithms.WeightedGraph(5);
+        graph.addUndirectedEdge(0, 1, 4);
+        graph.addUndirectedEdge(0, 2, 2);
+        graph.addUndirectedEdge(1, 3, 8);
+        graph.addUndirectedEdge(1, 4, 1);
+        graph.addUndirectedEdge(2, 4, 1);
+
+        ContractionHierarchy ch = ContractionHierarchy.build(graph);
+        assertEquals(0, ch.distance(0, 0));
+        assertEquals(4, ch.distance(0, 1));
+        assertEquals(12, ch.distance(0, 3));
+        assertEquals(9, ch.distance(3, 4));
+    }
+
+    @Test
+    public void testMatchesDijkstraOnRandomDirectedGraph() {
+        GraphAlgorithms.WeightedGraph graph = GraphFixtures.weightedGraph(300, 1200, 1, 100, 42);
+        ContractionHierarchy ch = ContractionHierarchy.build(graph);
+        ContractionHierarchy.Query query = ch.newQuery();
+
+        for (int s = 0; s < graph.getVertexCount(); s += 7) {
+            int[] expected = graphAlgos.dijkstra(graph, s);
+            for (int t = 0; t < graph.getVertexCount(); t++) {
+                assertEquals(expected[t], query.distance(s, t), "distance " + s + " -> " + t);
+            }
+        }
+    }
+
+    @Test
+    public void testUnreachableTarget() {
+        GraphAlgorithms.WeightedGraph graph = new GraphAlgorithms.WeightedGraph(4);
+        graph.addEdge(0, 1, 3);
+        graph.addEdge(2, 3, 1);
+
+        ContractionHierarchy ch = ContractionHierarchy.build(graph);
+        assertEquals(3, ch.distance(0, 1));
+        assertEquals(Integer.MAX_VALUE, ch.distance(1, 0));
+        assertEquals(Integer.MAX_VALUE, ch.distance(0, 3));
+    }
+
+    @Test
+    public void testSerializationRoundTrip() throws Exception {
+        GraphAlgorithms.WeightedGraph graph = GraphFixtures.weightedGraph(200, 800, 1, 100, 7);
+        ContractionHierarchy ch = ContractionHierarchy.build(graph);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ch.writeTo(Channels.newChannel(bytes));
+        ContractionHierarchy reloaded = ContractionHierarchy.readFrom(
+                Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertEquals(ch.getVertexCount(), reloaded.getVertexCount());
+        assertEquals(ch.getSearchEdgeCount(), reloaded.getSearchEdgeCount());
+        for (int s = 0; s < 200; s += 13) {
+            for (int t = 0; t < 200; t++) {
+                assertEquals(ch.distance(s, t), reloaded.distance(s, t));
+            }
+        }
+    }
+
+    @Test
+    public void testCorruptHeaderRejected() throws Exception {
+        GraphAlgorithms.WeightedGraph graph = GraphFixtures.weightedGraph(20, 60, 1, 100, 3);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ContractionHierarchy.build(graph).writeTo(Channels.newChannel(bytes));
+        byte[] valid = bytes.toByteArray();
+
+        // Vertex, up edge and down edge counts at byte offsets 4, 8 and 12
+        int[][] corruptions = {{4, -1}, {4, Integer.MAX_VALUE}, {8, -1}, {12, Integer.MIN_VALUE},
+                {4, Integer.MAX_VALUE - 1}, {8, Integer.MAX_VALUE}};
+        for (int[] corruption : corruptions) {
+            byte[] corrupt = valid.clone();
+            ByteBuffer.wrap(corrupt).order(ByteOrder.LITTLE_ENDIAN).putInt(corruption[0], corruption[1]);
+            assertThrows(IOException.class, () -> ContractionHierarchy.readFrom(
+                    Channels.newChannel(new ByteArrayInputStream(corrupt))));
+        }
+    }
+
+    @Test
+    public void testLongDistancesDoNotOverflow() {
+        GraphAlgorithms.WeightedGraph graph = new GraphAlgorithms.WeightedGraph(3);
+        graph.addEdge(0, 1, 1_500_000_000);
+        graph.addEdge(1, 2, 1_500_000_000);
+        ContractionHierarchy ch = ContractionHierarchy.build(graph);
+        assertEquals(1_500_000_000, ch.distance(0, 1));
+        assertEquals(Integer.MAX_VALUE - 1, ch.distance(0, 2));
+        assertEquals(Integer.MAX_VALUE, ch.distance(2, 0));
+    }
+
+    @Test
+    public void testNegativeWeightRejected() {
+        GraphAlgorithms.WeightedGraph graph = new GraphAlgorithms.WeightedGraph(2);
+        graph.addEdge(0, 1, -1);
+        assertThrows(IllegalArgumentException.class, () -> ContractionHierarchy.build(graph));
+    }
+}
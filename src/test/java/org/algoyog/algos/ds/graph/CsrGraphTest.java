@@ -0,0 +1,48 @@
+package org.algoyog.algos.ds.graph;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class CsrGraphTest {
+
+    @Test
+    public void testFromGraph() {
+        GraphAlgorithms.Graph graph = new GraphAlgorithms.Graph(4);
+        graph.addEdge(0, 2);
+        graph.addEdge(0, 1);
+        graph.addEdge(2, 3);
+
+        CsrGraph csr = CsrGraph.of(graph);
+        assertEquals(4, csr.getVertexCount());
+        assertEquals(3, csr.getEdgeCount());
+        assertFalse(csr.isWeighted());
+        assertArrayEquals(new int[]{0, 2, 2, 3, 3}, csr.getOffsets());
+        assertArrayEquals(new int[]{2, 1, 3}, csr.getTargets());
+        assertEquals(2, csr.degree(0));
+        assertEquals(0, csr.degree(3));
+
+        // Round trip keeps the neighbor order
+        List<Integer>[] adj = csr.toGraph().getAdjList();
+        assertEquals(Arrays.asList(2, 1), adj[0]);
+        assertEquals(List.of(3), adj[2]);
+    }
+
+    @Test
+    public void testTransposeWeighted() {
+        GraphAlgorithms.WeightedGraph graph = new GraphAlgorithms.WeightedGraph(3);
+        graph.addEdge(0, 1, 5);
+        graph.addEdge(2, 1, 7);
+        graph.addEdge(1, 0, 3);
+
+        CsrGraph transposed = CsrGraph.of(graph).transpose();
+        assertArrayEquals(new int[]{0, 1, 3, 3}, transposed.getOffsets());
+        assertArrayEquals(new int[]{1, 0, 2}, transposed.getTargets());
+        assertArrayEquals(new int[]{3, 5, 7}, transposed.getWeights());
+
+        int[] back = transposed.transpose().toWeightedGraph().getAdjList()[0].get(0);
+        assertArrayEquals(new int[]{1, 5}, back);
+    }
+}
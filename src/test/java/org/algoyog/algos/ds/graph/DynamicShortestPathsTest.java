@@ -0,0 +1,173 @@
+package org.algoyog.algos.ds.graph;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class DynamicShortestPathsTest {
+
+    // Same weight change on the reference graph that setWeight makes
+    private static void setReferenceWeight(GraphAlgorithms.WeightedGraph graph, int u, int v, int w) {
+        for (int[] edge : graph.getAdjList()[u]) {
+            if (edge[0] == v) edge[1] = w;
+        }
+    }
+
+    @Test
+    public void testSeedMatchesDijkstra() {
+        GraphAlgorithms.WeightedGraph graph = GraphFixtures.weightedGraph(300, 1200, 0, 50, 1);
+        DynamicShortestPaths paths = new DynamicShortestPaths(graph, 0);
+        assertArrayEquals(new GraphAlgorithms().dijkstra(graph, 0), paths.getDistances());
+        assertEquals(-1, paths.getParent(0));
+    }
+
+    @Test
+    public void testInsertionTouchesOnlyImprovedRegion() {
+        // Path 0 -> 1 -> 2 -> 3 -> 4 plus a separate branch 0 -> 5 -> 6
+        GraphAlgorithms.WeightedGraph graph = new GraphAlgorithms.WeightedGraph(7);
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, 10);
+        graph.addEdge(2, 3, 1);
+        graph.addEdge(3, 4, 1);
+        graph.addEdge(0, 5, 2);
+        graph.addEdge(5, 6, 2);
+        DynamicShortestPaths paths = new DynamicShortestPaths(graph, 0);
+        assertEquals(13, paths.distance(4));
+
+        paths.insertEdge(0, 2, 3);
+        assertEquals(3, paths.distance(2));
+        assertEquals(5, paths.distance(4));
+        assertEquals(0, paths.getParent(2));
+        assertEquals(3, paths.getLastAffected()); // 2, 3 and 4; the 5 -> 6 branch is untouched
+
+        // An edge that does not improve anything does no work
+        paths.insertEdge(1, 4, 20);
+        assertEquals(0, paths.getLastAffected());
+        assertEquals(5, paths.distance(4));
+    }
+
+    @Test
+    public void testIncreaseRepairsSubtree() {
+        GraphAlgorithms.WeightedGraph graph = new GraphAlgorithms.WeightedGraph(5);
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(2, 3, 1);
+        graph.addEdge(0, 3, 10);
+        graph.addEdge(0, 4, 1);
+        DynamicShortestPaths paths = new DynamicShortestPaths(graph, 0);
+        assertEquals(3, paths.distance(3));
+
+        paths.setWeight(1, 2, 20);
+        assertEquals(21, paths.distance(2));
+        assertEquals(10, paths.distance(3));
+        assertEquals(0, paths.getParent(3));
+        assertEquals(2, paths.getLastAffected()); // The subtree below 2 only
+
+        // Raising an edge that is not on the shortest path tree changes nothing
+        paths.setWeight(2, 3, 5);
+        assertEquals(0, paths.getLastAffected());
+        assertEquals(10, paths.distance(3));
+    }
+
+    @Test
+    public void testIncreaseOfOnlyPath() {
+        GraphAlgorithms.WeightedGraph graph = new GraphAlgorithms.WeightedGraph(3);
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, 1);
+        DynamicShortestPaths paths = new DynamicShortestPaths(graph, 0);
+        paths.setWeight(0, 1, 7);
+        assertEquals(7, paths.distance(1));
+        assertEquals(8, paths.distance(2));
+    }
+
+    @Test
+    public void testParallelEdgesUseLightest() {
+        GraphAlgorithms.WeightedGraph graph = new GraphAlgorithms.WeightedGraph(2);
+        graph.addEdge(0, 1, 3);
+        graph.addEdge(0, 1, 5);
+        DynamicShortestPaths paths = new DynamicShortestPaths(graph, 0);
+        assertEquals(3, paths.distance(1));
+        paths.setWeight(0, 1, 4); // Every 0 -> 1 edge becomes 4, an increase of the used one
+        assertEquals(4, paths.distance(1));
+    }
+
+    @Test
+    public void testRandomUpdatesMatchDijkstra() {
+        SplittableRandom random = new SplittableRandom(7);
+        int V = 200;
+        GraphAlgorithms.WeightedGraph reference = GraphFixtures.weightedGraph(V, 600, 0, 30, 3);
+        DynamicShortestPaths paths = new DynamicShortestPaths(reference, 0);
+        GraphAlgorithms algorithms = new GraphAlgorithms();
+
+        for (int step = 0; step < 500; step++) {
+            int u = random.nextInt(V);
+            if (random.nextBoolean() || reference.getAdjList()[u].isEmpty()) {
+                int v = random.nextInt(V);
+                int w = random.nextInt(31);
+                reference.addEdge(u, v, w);
+                paths.insertEdge(u, v, w);
+            } else {
+                int[] edge = reference.getAdjList()[u].get(random.nextInt(reference.getAdjList()[u].size()));
+                int w = random.nextInt(31);
+                setReferenceWeight(reference, u, edge[0], w);
+                paths.setWeight(u, edge[0], w);
+            }
+            assertArrayEquals(algorithms.dijkstra(reference, 0), paths.getDistances(), "step " + step);
+        }
+
+        // The parents form a shortest path tree
+        for (int v = 1; v < V; v++) {
+            int p = paths.getParent(v);
+            if (paths.distance(v) == Integer.MAX_VALUE) {
+                assertEquals(-1, p);
+                continue;
+            }
+            int best = Integer.MAX_VALUE;
+            for (int[] edge : reference.getAdjList()[p]) {
+                if (edge[0] == v) best = Math.min(best, edge[1]);
+            }
+            assertEquals(paths.distance(v), paths.distance(p) + best);
+        }
+    }
+
+    @Test
+    public void testReadersSeeConsistentSnapshots() throws InterruptedException {
+        // Distances on a weighted path only ever increase along the path, in every snapshot
+        int V = 2000;
+        GraphAlgorithms.WeightedGraph graph = new GraphAlgorithms.WeightedGraph(V);
+        for (int v = 0; v + 1 < V; v++) graph.addEdge(v, v + 1, 5);
+        DynamicShortestPaths paths = new DynamicShortestPaths(graph, 0);
+
+        AtomicBoolean stop = new AtomicBoolean();
+        AtomicBoolean broken = new AtomicBoolean();
+        Thread reader = new Thread(() -> {
+            while (!stop.get()) {
+                int[] snapshot = paths.getDistances();
+                for (int v = 0; v + 1 < V; v++) {
+                    if (snapshot[v] >= snapshot[v + 1]) broken.set(true);
+                }
+            }
+        });
+        reader.start();
+        for (int round = 0; round < 200; round++) {
+            paths.setWeight(0, 1, 1 + round % 7);
+        }
+        stop.set(true);
+        reader.join();
+        assertFalse(broken.get());
+        assertEquals(400, paths.getSequence());
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        GraphAlgorithms.WeightedGraph graph = new GraphAlgorithms.WeightedGraph(3);
+        graph.addEdge(0, 1, 1);
+        assertThrows(IllegalArgumentException.class, () -> new DynamicShortestPaths(graph, 3));
+        DynamicShortestPaths paths = new DynamicShortestPaths(graph, 0);
+        assertThrows(IllegalArgumentException.class, () -> paths.insertEdge(0, 2, -1));
+        assertThrows(IllegalArgumentException.class, () -> paths.insertEdge(0, 5, 1));
+        assertThrows(IllegalArgumentException.class, () -> paths.setWeight(1, 2, 1));
+    }
+}
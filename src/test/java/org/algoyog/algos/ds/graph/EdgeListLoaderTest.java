@@ -0,0 +1,162 @@
+package org.algoyog.algos.ds.graph;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+
+public class EdgeListLoaderTest {
+
+    private Path dir;
+    private final EdgeListLoader loader = new EdgeListLoader();
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("edges");
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path file : (Iterable<Path>) files::iterator) Files.delete(file);
+        }
+        Files.delete(dir);
+    }
+
+    // Row of u as sorted "target:weight" pairs, independent of the scatter order
+    private static long[] row(CsrGraph graph, int u) {
+        int[] offsets = graph.getOffsets();
+        long[] row = new long[graph.degree(u)];
+        for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+            int weight = graph.isWeighted() ? graph.getWeights()[e] : 0;
+            row[e - offsets[u]] = ((long) graph.getTargets()[e] << 32) | (weight & 0xFFFFFFFFL);
+        }
+        Arrays.sort(row);
+        return row;
+    }
+
+    private static void assertSameGraph(CsrGraph expected, CsrGraph actual) {
+        assertEquals(expected.getVertexCount(), actual.getVertexCount());
+        assertEquals(expected.getEdgeCount(), actual.getEdgeCount());
+        assertEquals(expected.isWeighted(), actual.isWeighted());
+        for (int u = 0; u < expected.getVertexCount(); u++) {
+            assertArrayEquals(row(expected, u), row(actual, u), "row " + u);
+        }
+    }
+
+    @Test
+    public void testTextFormat() throws IOException {
+        Path file = dir.resolve("edges.txt");
+        Files.writeString(file, "# comment line\n0 1\n0\t2\r\n\n  2,0   % trailing comment\n3 1\n1 2");
+
+        CsrGraph graph = loader.loadText(file);
+        assertEquals(4, graph.getVertexCount());
+        assertEquals(5, graph.getEdgeCount());
+        assertFalse(graph.isWeighted());
+        assertArrayEquals(new long[]{1L << 32, 2L << 32}, row(graph, 0));
+        assertArrayEquals(new long[]{2L << 32}, row(graph, 1));
+
+        // An explicit vertex count keeps isolated trailing vertices
+        assertEquals(10, loader.loadText(file, 10).getVertexCount());
+        assertThrows(IllegalArgumentException.class, () -> loader.loadText(file, 3));
+    }
+
+    @Test
+    public void testWeightedText() throws IOException {
+        Path file = dir.resolve("weighted.txt");
+        Files.writeString(file, "0 1 5\n1 2 -3\n2 0 7\n");
+        CsrGraph graph = loader.loadText(file);
+        assertTrue(graph.isWeighted());
+        assertArrayEquals(new int[]{-3}, Arrays.copyOfRange(graph.getWeights(), graph.getOffsets()[1], graph.getOffsets()[2]));
+
+        GraphAlgorithms.WeightedGraph weighted = graph.toWeightedGraph();
+        assertEquals(5, weighted.getAdjList()[0].get(0)[1]);
+    }
+
+    @Test
+    public void testMalformedInput() throws IOException {
+        Path mixed = dir.resolve("mixed.txt");
+        Files.writeString(mixed, "0 1\n1 2 3\n");
+        assertThrows(IllegalArgumentException.class, () -> loader.loadText(mixed));
+
+        Path garbage = dir.resolve("garbage.txt");
+        Files.writeString(garbage, "0 1\n1 x\n");
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class, () -> loader.loadText(garbage));
+        assertTrue(error.getMessage().contains("byte 4"), error.getMessage());
+
+        Path negative = dir.resolve("negative.txt");
+        Files.writeString(negative, "-1 2\n");
+        assertThrows(IllegalArgumentException.class, () -> loader.loadText(negative));
+
+        Path notBinary = dir.resolve("not.bin");
+        Files.writeString(notBinary, "0 1\n");
+        assertThrows(IllegalArgumentException.class, () -> loader.loadBinary(notBinary));
+
+        // Vertex ids and counts that leave no room for the offsets array
+        Path maxId = dir.resolve("max-id.txt");
+        Files.writeString(maxId, "0 " + Integer.MAX_VALUE + "\n");
+        assertThrows(IllegalArgumentException.class, () -> loader.loadText(maxId));
+        Path valid = dir.resolve("valid.txt");
+        Files.writeString(valid, "0 1\n");
+        assertThrows(IllegalArgumentException.class, () -> loader.loadText(valid, Integer.MAX_VALUE));
+
+        // Headers with negative or oversized counts
+        for (long[] counts : new long[][]{{-1, 0}, {Integer.MAX_VALUE, 0}, {2, -1}}) {
+            Path badHeader = dir.resolve("bad-header.bin");
+            ByteBuffer header = ByteBuffer.allocate(20).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(EdgeListLoader.MAGIC).putInt(0).putInt((int) counts[0]).putLong(counts[1]);
+            Files.write(badHeader, header.array());
+            IllegalArgumentException headerError = assertThrows(IllegalArgumentException.class, () -> loader.loadBinary(badHeader));
+            assertTrue(headerError.getMessage().contains("does not match"), headerError.getMessage());
+        }
+
+        Path empty = dir.resolve("empty.txt");
+        Files.writeString(empty, "");
+        assertEquals(0, loader.loadText(empty).getVertexCount());
+    }
+
+    @Test
+    public void testLargeFileRoundTrips() throws IOException {
+        // Large enough to be cut into several chunks
+        SplittableRandom random = new SplittableRandom(3);
+        int V = 5_000;
+        GraphAlgorithms.WeightedGraph graph = new GraphAlgorithms.WeightedGraph(V);
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 200_000; i++) {
+            int u = random.nextInt(V);
+            int v = random.nextInt(V);
+            int w = random.nextInt(1, 1000);
+            graph.addEdge(u, v, w);
+            text.append(u).append(' ').append(v).append(' ').append(w).append('\n');
+        }
+        graph.addEdge(V - 1, 0, 1);
+        text.append(V - 1).append(" 0 1\n");
+        CsrGraph expected = CsrGraph.of(graph);
+
+        Path textFile = dir.resolve("large.txt");
+        Files.writeString(textFile, text);
+        CsrGraph fromText = loader.loadText(textFile);
+        assertSameGraph(expected, fromText);
+
+        Path binary = dir.resolve("large.bin");
+        loader.writeBinary(fromText, binary);
+        assertEquals(20 + 12L * expected.getEdgeCount(), Files.size(binary));
+        assertSameGraph(expected, loader.loadBinary(binary));
+
+        // Unweighted binary records are two ints
+        CsrGraph plain = new CsrGraph(expected.getOffsets(), expected.getTargets(), null);
+        loader.writeBinary(plain, binary);
+        CsrGraph loaded = loader.loadBinary(binary);
+        assertFalse(loaded.isWeighted());
+        assertSameGraph(plain, loaded);
+    }
+}
@@ -0,0 +1,108 @@
+package org.algoyog.algos.ds.graph;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+public class FlowNetworkTest {
+
+    // Classic CLRS example with maximum flow 23
+    private FlowNetwork sampleNetwork() {
+        FlowNetwork network = new FlowNetwork(6);
+        network.addEdge(0, 1, 16);
+        network.addEdge(0, 2, 13);
+        network.addEdge(1, 2, 10);
+        network.addEdge(2, 1, 4);
+        network.addEdge(1, 3, 12);
+        network.addEdge(3, 2, 9);
+        network.addEdge(2, 4, 14);
+        network.addEdge(4, 3, 7);
+        network.addEdge(3, 5, 20);
+        network.addEdge(4, 5, 4);
+        return network;
+    }
+
+    @Test
+    public void testDinic() {
+        FlowNetwork network = sampleNetwork();
+        assertEquals(23, network.dinic(0, 5));
+        assertValidFlow(network, 0, 5, 23);
+    }
+
+    @Test
+    public void testPushRelabel() {
+        FlowNetwork network = sampleNetwork();
+        assertEquals(23, network.pushRelabel(0, 5));
+        assertValidFlow(network, 0, 5, 23);
+    }
+
+    @Test
+    public void testMinCut() {
+        FlowNetwork network = sampleNetwork();
+        long flow = network.dinic(0, 5);
+
+        boolean[] sourceSide = network.minCutSourceSide(0);
+        assertTrue(sourceSide[0]);
+        assertFalse(sourceSide[5]);
+
+        long cutCapacity = 0;
+        for (int edge : network.minCutEdges(0)) {
+            cutCapacity += network.getCapacity(edge);
+        }
+        assertEquals(flow, cutCapacity);
+    }
+
+    @Test
+    public void testSolversAgreeOnRandomNetworks() {
+        Random random = new Random(23);
+        for (int round = 0; round < 20; round++) {
+            int n = 50 + random.nextInt(150);
+            FlowNetwork network = new FlowNetwork(n);
+            for (int i = 0; i < n * 6; i++) {
+                network.addEdge(random.nextInt(n), random.nextInt(n), random.nextInt(50));
+            }
+
+            long dinic = network.dinic(0, n - 1);
+            assertValidFlow(network, 0, n - 1, dinic);
+
+            network.reset();
+            long pushRelabel = network.pushRelabel(0, n - 1);
+            assertValidFlow(network, 0, n - 1, pushRelabel);
+            assertEquals(dinic, pushRelabel);
+
+            long cutCapacity = 0;
+            for (int edge : network.minCutEdges(0)) {
+                cutCapacity += network.getCapacity(edge);
+            }
+            assertEquals(pushRelabel, cutCapacity);
+        }
+    }
+
+    @Test
+    public void testDisconnectedAndInvalidInput() {
+        FlowNetwork network = new FlowNetwork(3);
+        network.addEdge(0, 1, 5);
+        assertEquals(0, network.dinic(0, 2));
+        assertEquals(0, network.pushRelabel(0, 2));
+
+        assertThrows(IllegalArgumentException.class, () -> network.addEdge(0, 1, -1));
+        assertThrows(IllegalArgumentException.class, () -> network.dinic(1, 1));
+    }
+
+    // Capacity limits, conservation at inner vertices and the flow value at the sink
+    private static void assertValidFlow(FlowNetwork network, int source, int sink, long value) {
+        long[] balance = new long[network.getVertexCount()];
+        for (int edge = 0; edge < network.getEdgeCount(); edge++) {
+            long flow = network.getFlow(edge);
+            assertTrue(flow >= 0 && flow <= network.getCapacity(edge));
+            balance[network.getFrom(edge)] -= flow;
+            balance[network.getTo(edge)] += flow;
+        }
+        for (int v = 0; v < balance.length; v++) {
+            if (v == source) assertEquals(-value, balance[v]);
+            else if (v == sink) assertEquals(value, balance[v]);
+            else assertEquals(0, balance[v], "conservation at " + v);
+        }
+    }
+}
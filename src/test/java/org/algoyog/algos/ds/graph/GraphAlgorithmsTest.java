@@ -6,7 +6,12 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
 
 public class GraphAlgorithmsTest {
 
@@ -101,6 +106,45 @@ public class GraphAlgorithmsTest {
         assertArrayEquals(expected, distances);
     }
 
+    @Test
+    public void testBellmanFord() {
+        // Same distances as Dijkstra on non-negative weights
+        GraphAlgorithms.WeightedGraph graph = new GraphAlgorithms.WeightedGraph(5);
+        graph.addUndirectedEdge(0, 1, 4);
+        graph.addUndirectedEdge(0, 2, 2);
+        graph.addUndirectedEdge(1, 3, 8);
+        graph.addUndirectedEdge(1, 4, 1);
+        graph.addUndirectedEdge(2, 4, 1);
+        assertArrayEquals(graphAlgos.dijkstra(graph, 0), graphAlgos.bellmanFord(graph, 0));
+
+        // Negative edge: 0 -(4)-> 1 -(-3)-> 2, 0 -(2)-> 2; vertex 3 unreachable
+        GraphAlgorithms.WeightedGraph negative = new GraphAlgorithms.WeightedGraph(4);
+        negative.addEdge(0, 1, 4);
+        negative.addEdge(1, 2, -3);
+        negative.addEdge(0, 2, 2);
+        assertArrayEquals(new int[]{0, 4, 1, Integer.MAX_VALUE}, graphAlgos.bellmanFord(negative, 0));
+
+        // Negative cycle 1 -> 2 -> 1
+        negative.addEdge(2, 1, 1);
+        assertThrows(IllegalStateException.class, () -> graphAlgos.bellmanFord(negative, 0));
+    }
+
+    @Test
+    public void testBellmanFordLargeWeights() {
+        // Distances close to the int limits come out exact
+        GraphAlgorithms.WeightedGraph graph = new GraphAlgorithms.WeightedGraph(4);
+        graph.addEdge(0, 1, 2_000_000_000);
+        graph.addEdge(1, 2, -1_900_000_000);
+        graph.addEdge(0, 3, 2_000_000_000);
+        assertArrayEquals(new int[]{0, 2_000_000_000, 100_000_000, 2_000_000_000}, graphAlgos.bellmanFord(graph, 0));
+
+        // -4e9 to vertex 2 does not fit; an int sum would have wrapped around to a positive value
+        GraphAlgorithms.WeightedGraph deep = new GraphAlgorithms.WeightedGraph(3);
+        deep.addEdge(0, 1, -2_000_000_000);
+        deep.addEdge(1, 2, -2_000_000_000);
+        assertThrows(IllegalArgumentException.class, () -> graphAlgos.bellmanFord(deep, 0));
+    }
+
     @Test
     public void testHasCycle() {
         // Create a directed acyclic graph (DAG)
@@ -157,4 +201,147 @@ public class GraphAlgorithmsTest {
             }
         }
     }
+
+    @Test
+    public void testDfsOrder() {
+        GraphAlgorithms.Graph graph = new GraphAlgorithms.Graph(5);
+        graph.addUndirectedEdge(0, 1);
+        graph.addUndirectedEdge(0, 2);
+        graph.addUndirectedEdge(1, 3);
+        graph.addUndirectedEdge(1, 4);
+        graph.addUndirectedEdge(2, 4);
+
+        // Same order as the printed DFS
+        assertArrayEquals(new int[]{0, 1, 3, 4, 2}, graphAlgos.dfsOrder(graph, 0));
+        assertArrayEquals(new int[]{3, 1, 0, 2, 4}, graphAlgos.dfsOrder(graph, 3));
+        assertEquals("", outputStreamCaptor.toString());
+    }
+
+    @Test
+    public void testDeepChainDoesNotOverflow() {
+        // 0 -> 1 -> ... -> n-1, far deeper than a recursive DFS can go
+        int n = 200_000;
+        GraphAlgorithms.Graph chain = new GraphAlgorithms.Graph(n);
+        for (int i = 0; i + 1 < n; i++) {
+            chain.addEdge(i, i + 1);
+        }
+
+        int[] order = graphAlgos.dfsOrder(chain, 0);
+        assertEquals(n, order.length);
+        assertEquals(n - 1, order[n - 1]);
+
+        assertFalse(graphAlgos.hasCycle(chain));
+        int[] topo = graphAlgos.topologicalSort(chain);
+        for (int i = 0; i < n; i++) {
+            assertEquals(i, topo[i]);
+        }
+
+        chain.addEdge(n - 1, 0);
+        assertTrue(graphAlgos.hasCycle(chain));
+    }
+
+    @Test
+    public void testTopologicalLevels() {
+        // 5 -> 0 -> 2 -> 3 -> 1, 0 -> 1, 3 -> 4
+        GraphAlgorithms.Graph dag = new GraphAlgorithms.Graph(6);
+        dag.addEdge(5, 0);
+        dag.addEdge(0, 2);
+        dag.addEdge(0, 1);
+        dag.addEdge(2, 3);
+        dag.addEdge(3, 1);
+        dag.addEdge(3, 4);
+
+        int[][] levels = graphAlgos.topologicalLevels(dag);
+        assertEquals(5, levels.length);
+        assertArrayEquals(new int[]{5}, levels[0]);
+        assertArrayEquals(new int[]{0}, levels[1]);
+        assertArrayEquals(new int[]{2}, levels[2]);
+        assertArrayEquals(new int[]{3}, levels[3]);
+        int[] last = levels[4].clone();
+        Arrays.sort(last);
+        assertArrayEquals(new int[]{1, 4}, last);
+
+        // Independent vertices share a level
+        GraphAlgorithms.Graph wide = new GraphAlgorithms.Graph(4);
+        wide.addEdge(0, 3);
+        wide.addEdge(1, 3);
+        wide.addEdge(2, 3);
+        levels = graphAlgos.topologicalLevels(wide);
+        assertArrayEquals(new int[]{0, 1, 2}, levels[0]);
+        assertArrayEquals(new int[]{3}, levels[1]);
+
+        GraphAlgorithms.Graph cyclic = new GraphAlgorithms.Graph(3);
+        cyclic.addEdge(0, 1);
+        cyclic.addEdge(1, 2);
+        cyclic.addEdge(2, 1);
+        assertThrows(IllegalStateException.class, () -> graphAlgos.topologicalLevels(cyclic));
+    }
+
+    private GraphAlgorithms.Graph diamond() {
+        // 0 -- 1 -- 3
+        // |    |
+        // 2 -- 4
+        GraphAlgorithms.Graph graph = new GraphAlgorithms.Graph(6);
+        graph.addUndirectedEdge(0, 1);
+        graph.addUndirectedEdge(0, 2);
+        graph.addUndirectedEdge(1, 3);
+        graph.addUndirectedEdge(1, 4);
+        graph.addUndirectedEdge(2, 4);
+        return graph; // Vertex 5 is isolated
+    }
+
+    @Test
+    public void testVisitorStopsEarly() {
+        GraphAlgorithms.Graph graph = diamond();
+
+        List<Integer> seen = new ArrayList<>();
+        int visited = graphAlgos.bfs(graph, 0, v -> {
+            seen.add(v);
+            return v != 2;
+        });
+        assertEquals(3, visited);
+        assertEquals(List.of(0, 1, 2), seen);
+
+        seen.clear();
+        assertEquals(5, graphAlgos.dfs(graph, 0, v -> seen.add(v)));
+        assertEquals(List.of(0, 1, 3, 4, 2), seen);
+        assertEquals("", outputStreamCaptor.toString());
+    }
+
+    @Test
+    public void testTraversalTrees() {
+        GraphAlgorithms.Graph graph = diamond();
+
+        GraphAlgorithms.Traversal bfs = graphAlgos.bfsTree(graph, 0);
+        assertArrayEquals(new int[]{0, 1, 2, 3, 4}, bfs.getOrder());
+        assertArrayEquals(new int[]{0, 1, 1, 2, 2, -1}, bfs.getDepth());
+        assertArrayEquals(new int[]{-1, 0, 0, 1, 1, -1}, bfs.getParent());
+
+        GraphAlgorithms.Traversal dfs = graphAlgos.dfsTree(graph, 0);
+        assertArrayEquals(new int[]{0, 1, 3, 4, 2}, dfs.getOrder());
+        assertArrayEquals(new int[]{0, 1, 3, 2, 2, -1}, dfs.getDepth());
+        assertArrayEquals(new int[]{-1, 0, 4, 1, 1, -1}, dfs.getParent());
+    }
+
+    @Test
+    public void testIterators() {
+        GraphAlgorithms.Graph graph = diamond();
+
+        PrimitiveIterator.OfInt bfs = graphAlgos.bfsIterator(graph, 3);
+        assertEquals(3, bfs.nextInt());
+        assertEquals(1, bfs.nextInt());
+        List<Integer> rest = new ArrayList<>();
+        bfs.forEachRemaining((IntConsumer) rest::add);
+        assertEquals(List.of(0, 4, 2), rest);
+        assertFalse(bfs.hasNext());
+        assertThrows(NoSuchElementException.class, bfs::nextInt);
+
+        PrimitiveIterator.OfInt dfs = graphAlgos.dfsIterator(graph, 3);
+        int[] order = new int[5];
+        for (int i = 0; dfs.hasNext(); i++) {
+            order[i] = dfs.nextInt();
+        }
+        assertArrayEquals(new int[]{3, 1, 0, 2, 4}, order);
+        assertThrows(NoSuchElementException.class, dfs::nextInt);
+    }
 }
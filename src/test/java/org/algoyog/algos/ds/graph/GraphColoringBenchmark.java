@@ -0,0 +1,64 @@
+package org.algoyog.algos.ds.graph;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+/**
+ * Parallel coloring against the sequential greedy pass (not part of the test suite)
+ * The input is a random undirected conflict graph with a fixed average degree.
+ *
+ * Run: java -cp target/classes:target/test-classes org.algoyog.algos.ds.graph.GraphColoringBenchmark [vertices] [degree]
+ */
+public class GraphColoringBenchmark {
+
+    public static void main(String[] args) {
+        int V = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        int degree = args.length > 1 ? Integer.parseInt(args[1]) : 16;
+        CsrGraph graph = randomUndirected(V, degree, 3);
+        GraphColoring coloring = new GraphColoring();
+        System.out.printf("V = %,d, E = %,d, threads = %d%n", V, graph.getEdgeCount(),
+                Runtime.getRuntime().availableProcessors());
+
+        report("greedy", () -> coloring.greedy(graph));
+        report("Jones-Plassmann", () -> coloring.jonesPlassmann(graph, 1));
+        report("speculative", () -> coloring.speculative(graph, 1));
+    }
+
+    private static void report(String name, Supplier<GraphColoring.Coloring> run) {
+        GraphColoring.Coloring result = run.get();
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long start = System.nanoTime();
+            result = run.get();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("%-16s %8.1f ms   %3d colors   %4d rounds%n",
+                name, best / 1e6, result.getColorCount(), result.getRounds());
+    }
+
+    // V * degree / 2 random edges, stored in both directions
+    static CsrGraph randomUndirected(int V, int degree, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int edges = (int) ((long) V * degree / 2);
+        int[] from = new int[edges];
+        int[] to = new int[edges];
+        int[] offsets = new int[V + 1];
+        for (int i = 0; i < edges; i++) {
+            from[i] = random.nextInt(V);
+            to[i] = random.nextInt(V);
+            offsets[from[i] + 1]++;
+            offsets[to[i] + 1]++;
+        }
+        for (int v = 0; v < V; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+        int[] fill = Arrays.copyOf(offsets, V);
+        int[] targets = new int[2 * edges];
+        for (int i = 0; i < edges; i++) {
+            targets[fill[from[i]]++] = to[i];
+            targets[fill[to[i]]++] = from[i];
+        }
+        return new CsrGraph(offsets, targets, null);
+    }
+}
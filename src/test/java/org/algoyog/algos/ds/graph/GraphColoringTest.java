@@ -0,0 +1,85 @@
+package org.algoyog.algos.ds.graph;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+
+public class GraphColoringTest {
+
+    private final GraphColoring coloring = new GraphColoring();
+
+    private static void assertProper(GraphAlgorithms.Graph graph, GraphColoring.Coloring result) {
+        int[] colors = result.getColors();
+        int maxDegree = 0;
+        for (int u = 0; u < graph.getVertexCount(); u++) {
+            assertTrue(colors[u] >= 0 && colors[u] < result.getColorCount());
+            maxDegree = Math.max(maxDegree, graph.getAdjList()[u].size());
+            for (int v : graph.getAdjList()[u]) {
+                if (u != v) assertNotEquals(colors[u], colors[v], "edge " + u + " - " + v);
+            }
+        }
+        assertTrue(result.getColorCount() <= maxDegree + 1);
+    }
+
+    @Test
+    public void testGreedy() {
+        // Path 0 - 1 - 2 - 3 needs two colors
+        GraphAlgorithms.Graph path = new GraphAlgorithms.Graph(4);
+        path.addUndirectedEdge(0, 1);
+        path.addUndirectedEdge(1, 2);
+        path.addUndirectedEdge(2, 3);
+        GraphColoring.Coloring result = coloring.greedy(path);
+        assertArrayEquals(new int[]{0, 1, 0, 1}, result.getColors());
+        assertEquals(2, result.getColorCount());
+    }
+
+    @Test
+    public void testCompleteGraphNeedsAllColors() {
+        GraphAlgorithms.Graph k6 = new GraphAlgorithms.Graph(6);
+        for (int u = 0; u < 6; u++) {
+            for (int v = u + 1; v < 6; v++) k6.addUndirectedEdge(u, v);
+        }
+        assertEquals(6, coloring.jonesPlassmann(k6, 1).getColorCount());
+        assertEquals(6, coloring.speculative(k6, 1).getColorCount());
+        assertProper(k6, coloring.jonesPlassmann(k6, 1));
+        assertProper(k6, coloring.speculative(k6, 1));
+    }
+
+    @Test
+    public void testRandomGraphs() {
+        for (long seed = 1; seed <= 3; seed++) {
+            GraphAlgorithms.Graph graph = GraphFixtures.undirectedGraph(20_000, 120_000, seed);
+            assertProper(graph, coloring.greedy(graph));
+            GraphColoring.Coloring jp = coloring.jonesPlassmann(graph, seed);
+            assertProper(graph, jp);
+            assertTrue(jp.getRounds() > 1 && jp.getRounds() < 200, "rounds " + jp.getRounds());
+            assertProper(graph, coloring.speculative(graph, seed));
+        }
+    }
+
+    @Test
+    public void testDirectedEdgesAndLoops() {
+        // Only one direction stored, plus a self loop that must not block coloring
+        GraphAlgorithms.Graph graph = new GraphAlgorithms.Graph(3);
+        graph.addEdge(0, 1);
+        graph.addEdge(2, 1);
+        graph.addEdge(1, 1);
+        for (GraphColoring.Coloring result : new GraphColoring.Coloring[]{
+                coloring.greedy(graph), coloring.jonesPlassmann(graph, 5), coloring.speculative(graph, 5)}) {
+            int[] colors = result.getColors();
+            assertNotEquals(colors[0], colors[1]);
+            assertNotEquals(colors[2], colors[1]);
+            assertEquals(2, result.getColorCount());
+        }
+    }
+
+    @Test
+    public void testJonesPlassmannIsDeterministic() {
+        GraphAlgorithms.Graph graph = GraphFixtures.undirectedGraph(5_000, 30_000, 9);
+        assertArrayEquals(coloring.jonesPlassmann(graph, 42).getColors(),
+                coloring.jonesPlassmann(graph, 42).getColors());
+
+        GraphColoring.Coloring empty = coloring.jonesPlassmann(new GraphAlgorithms.Graph(0), 1);
+        assertEquals(0, empty.getColorCount());
+    }
+}
@@ -0,0 +1,65 @@
+package org.algoyog.algos.ds.graph;
+
+import java.util.SplittableRandom;
+
+/**
+ * Random graphs shared by the tests of this package
+ * Every edge has both endpoints drawn uniformly from [0, V), so self loops and parallel
+ * edges occur.
+ */
+final class GraphFixtures {
+
+    private GraphFixtures() {
+    }
+
+    // Endpoints of random edges: edge i is endpoints[2i] -> endpoints[2i + 1]
+    static int[] randomEdges(int V, int edges, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int[] endpoints = new int[2 * edges];
+        for (int i = 0; i < endpoints.length; i++) {
+            endpoints[i] = random.nextInt(V);
+        }
+        return endpoints;
+    }
+
+    static GraphAlgorithms.Graph directedGraph(int V, int edges, long seed) {
+        GraphAlgorithms.Graph graph = new GraphAlgorithms.Graph(V);
+        int[] endpoints = randomEdges(V, edges, seed);
+        for (int i = 0; i < endpoints.length; i += 2) {
+            graph.addEdge(endpoints[i], endpoints[i + 1]);
+        }
+        return graph;
+    }
+
+    static GraphAlgorithms.Graph undirectedGraph(int V, int edges, long seed) {
+        GraphAlgorithms.Graph graph = new GraphAlgorithms.Graph(V);
+        addUndirectedEdges(graph, randomEdges(V, edges, seed));
+        return graph;
+    }
+
+    static void addUndirectedEdges(GraphAlgorithms.Graph graph, int[] endpoints) {
+        for (int i = 0; i < endpoints.length; i += 2) {
+            graph.addUndirectedEdge(endpoints[i], endpoints[i + 1]);
+        }
+    }
+
+    // Directed edges with weights in [minWeight, maxWeight]
+    static GraphAlgorithms.WeightedGraph weightedGraph(int V, int edges, int minWeight, int maxWeight, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        GraphAlgorithms.WeightedGraph graph = new GraphAlgorithms.WeightedGraph(V);
+        for (int i = 0; i < edges; i++) {
+            graph.addEdge(random.nextInt(V), random.nextInt(V), random.nextInt(minWeight, maxWeight + 1));
+        }
+        return graph;
+    }
+
+    // Undirected edges with weights in [minWeight, maxWeight]
+    static GraphAlgorithms.WeightedGraph undirectedWeightedGraph(int V, int edges, int minWeight, int maxWeight, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        GraphAlgorithms.WeightedGraph graph = new GraphAlgorithms.WeightedGraph(V);
+        for (int i = 0; i < edges; i++) {
+            graph.addUndirectedEdge(random.nextInt(V), random.nextInt(V), random.nextInt(minWeight, maxWeight + 1));
+        }
+        return graph;
+    }
+}
@@ -0,0 +1,135 @@
+package org.algoyog.algos.ds.graph;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+public class HopcroftKarpTest {
+
+    private static BipartiteGraph randomBipartite(int L, int R, int edges, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        BipartiteGraph graph = new BipartiteGraph(L, R);
+        for (int i = 0; i < edges; i++) {
+            graph.addEdge(random.nextInt(L), random.nextInt(R));
+        }
+        return graph;
+    }
+
+    // Maximum matching size by max flow: source -> left -> right -> sink, unit capacities
+    private static long maxFlowSize(BipartiteGraph graph) {
+        int L = graph.getLeftCount();
+        int R = graph.getRightCount();
+        FlowNetwork network = new FlowNetwork(L + R + 2);
+        int source = L + R;
+        int sink = L + R + 1;
+        for (int u = 0; u < L; u++) network.addEdge(source, u, 1);
+        for (int v = 0; v < R; v++) network.addEdge(L + v, sink, 1);
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        for (int u = 0; u < L; u++) {
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) network.addEdge(u, L + targets[e], 1);
+        }
+        return network.dinic(source, sink);
+    }
+
+    private static void assertValid(BipartiteGraph graph, HopcroftKarp.Matching matching) {
+        int[] matchLeft = matching.getMatchLeft();
+        int[] matchRight = matching.getMatchRight();
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int size = 0;
+        for (int u = 0; u < matchLeft.length; u++) {
+            int v = matchLeft[u];
+            if (v < 0) continue;
+            size++;
+            assertEquals(u, matchRight[v]);
+            boolean edge = false;
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) edge |= targets[e] == v;
+            assertTrue(edge, "pair (" + u + ", " + v + ") is not an edge");
+        }
+        for (int v = 0; v < matchRight.length; v++) {
+            if (matchRight[v] >= 0) assertEquals(v, matchLeft[matchRight[v]]);
+        }
+        assertEquals(size, matching.size());
+    }
+
+    @Test
+    public void testGreedyStartIsImproved() {
+        // Greedy matches 0-0 and leaves 1 unmatched; the maximum is 0-1, 1-0
+        BipartiteGraph graph = BipartiteGraph.of(2, 2, new int[]{0, 0, 1}, new int[]{0, 1, 0});
+        HopcroftKarp.Matching matching = new HopcroftKarp().solve(graph);
+        assertEquals(2, matching.size());
+        assertArrayEquals(new int[]{1, 0}, matching.getMatchLeft());
+        assertArrayEquals(new int[]{1, 0}, matching.getMatchRight());
+        assertEquals(1, matching.getPhases());
+    }
+
+    @Test
+    public void testRandomGraphsMatchMaxFlow() {
+        HopcroftKarp solver = new HopcroftKarp();
+        int[][] shapes = {{300, 300, 600}, {500, 200, 1_500}, {200, 500, 400}, {1_000, 1_000, 2_500}};
+        long seed = 1;
+        for (int[] shape : shapes) {
+            // The same solver is reused for graphs of different sizes
+            BipartiteGraph graph = randomBipartite(shape[0], shape[1], shape[2], seed++);
+            HopcroftKarp.Matching matching = solver.solve(graph);
+            assertValid(graph, matching);
+            assertEquals(maxFlowSize(graph), matching.size());
+        }
+    }
+
+    @Test
+    public void testWarmStart() {
+        BipartiteGraph graph = randomBipartite(2_000, 2_000, 6_000, 7);
+        HopcroftKarp solver = new HopcroftKarp();
+        HopcroftKarp.Matching cold = solver.solve(graph, filled(2_000, -1));
+        assertValid(graph, cold);
+
+        // New edges arrive; the previous matching stays valid and only needs a few augmentations
+        SplittableRandom random = new SplittableRandom(8);
+        for (int i = 0; i < 200; i++) graph.addEdge(random.nextInt(2_000), random.nextInt(2_000));
+        HopcroftKarp.Matching warm = solver.solve(graph, cold.getMatchLeft());
+        assertValid(graph, warm);
+        assertEquals(solver.solve(graph).size(), warm.size());
+        assertTrue(warm.size() >= cold.size());
+
+        int[] invalid = filled(2_000, -1);
+        invalid[0] = 0;
+        invalid[1] = 0;
+        BipartiteGraph small = BipartiteGraph.of(2_000, 2_000, new int[]{0, 1}, new int[]{0, 0});
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(small, invalid));
+        assertThrows(IllegalArgumentException.class, () -> small.addEdge(0, 2_000));
+    }
+
+    @Test
+    public void testPhaseTakesOnlyShortestPaths() {
+        // Left 0 is free with a direct free edge to right 1 (length 1). Through right 0, matched
+        // to left 1, there is also the longer path 0-0-1-2, listed first; this phase must not take it.
+        BipartiteGraph graph = BipartiteGraph.of(2, 3, new int[]{0, 0, 1, 1}, new int[]{0, 1, 0, 2});
+        HopcroftKarp.Matching matching = new HopcroftKarp().solve(graph, new int[]{-1, 0});
+        assertValid(graph, matching);
+        assertArrayEquals(new int[]{1, 0}, matching.getMatchLeft());
+        assertEquals(1, matching.getPhases());
+    }
+
+    @Test
+    public void testEmptyAndUnbalanced() {
+        HopcroftKarp solver = new HopcroftKarp();
+        assertEquals(0, solver.solve(new BipartiteGraph(3, 0)).size());
+
+        // Star: one right vertex shared by every left vertex
+        BipartiteGraph star = new BipartiteGraph(5, 1);
+        for (int u = 0; u < 5; u++) star.addEdge(u, 0);
+        HopcroftKarp.Matching matching = solver.solve(star);
+        assertEquals(1, matching.size());
+        assertValid(star, matching);
+    }
+
+    private static int[] filled(int n, int value) {
+        int[] array = new int[n];
+        Arrays.fill(array, value);
+        return array;
+    }
+}
@@ -0,0 +1,65 @@
+package org.algoyog.algos.ds.graph;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+
+public class MinimumSpanningForestTest {
+
+    private final MinimumSpanningForest msf = new MinimumSpanningForest();
+
+    @Test
+    public void testSmallGraph() {
+        // 0 --(4)-- 1 --(8)-- 3
+        // |         |
+        // (2)       (1)
+        // |         |
+        // 2 --(1)-- 4        5 --(3)-- 6
+        GraphAlgorithms.WeightedGraph graph = new GraphAlgorithms.WeightedGraph(7);
+        graph.addUndirectedEdge(0, 1, 4);
+        graph.addUndirectedEdge(0, 2, 2);
+        graph.addUndirectedEdge(1, 3, 8);
+        graph.addUndirectedEdge(1, 4, 1);
+        graph.addUndirectedEdge(2, 4, 1);
+        graph.addUndirectedEdge(5, 6, 3);
+
+        MinimumSpanningForest.EdgeList edges = MinimumSpanningForest.EdgeList.of(graph);
+        assertEquals(6, edges.size());
+
+        int[] kruskal = msf.kruskal(edges);
+        assertEquals(5, kruskal.length); // 7 vertices, 2 components
+        assertEquals(15, edges.totalWeight(kruskal));
+
+        int[] boruvka = msf.parallelBoruvka(edges);
+        assertEquals(5, boruvka.length);
+        assertEquals(15, edges.totalWeight(boruvka));
+    }
+
+    @Test
+    public void testKruskalAndBoruvkaAgree() {
+        int n = 50_000;
+        GraphAlgorithms.WeightedGraph graph = GraphFixtures.undirectedWeightedGraph(n, 150_000, -100, 899, 17);
+        MinimumSpanningForest.EdgeList edges = MinimumSpanningForest.EdgeList.of(graph);
+
+        int[] kruskal = msf.kruskal(edges);
+        int[] boruvka = msf.parallelBoruvka(edges);
+        assertEquals(kruskal.length, boruvka.length);
+        assertEquals(edges.totalWeight(kruskal), edges.totalWeight(boruvka));
+
+        // A spanning forest has V - (number of components) edges
+        int components = new ConnectedComponents().sequential(CsrGraph.of(graph)).getComponentCount();
+        assertEquals(n - components, kruskal.length);
+
+        // No edge is returned twice
+        assertEquals(boruvka.length, Arrays.stream(boruvka).distinct().count());
+    }
+
+    @Test
+    public void testNoEdges() {
+        MinimumSpanningForest.EdgeList edges =
+                MinimumSpanningForest.EdgeList.of(new GraphAlgorithms.WeightedGraph(3));
+        assertEquals(0, msf.kruskal(edges).length);
+        assertEquals(0, msf.parallelBoruvka(edges).length);
+    }
+}
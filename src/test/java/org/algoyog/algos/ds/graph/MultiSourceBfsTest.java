@@ -0,0 +1,83 @@
+package org.algoyog.algos.ds.graph;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class MultiSourceBfsTest {
+
+    @Test
+    public void testSmallGraph() {
+        // 0 -- 1 -- 3
+        // |    |
+        // 2 -- 4        5
+        GraphAlgorithms.Graph graph = new GraphAlgorithms.Graph(6);
+        graph.addUndirectedEdge(0, 1);
+        graph.addUndirectedEdge(0, 2);
+        graph.addUndirectedEdge(1, 3);
+        graph.addUndirectedEdge(1, 4);
+        graph.addUndirectedEdge(2, 4);
+
+        int[][] depths = new MultiSourceBfs().distances(graph, new int[]{0, 3, 5});
+        assertArrayEquals(new int[]{0, 1, 1, 2, 2, -1}, depths[0]);
+        assertArrayEquals(new int[]{2, 1, 3, 0, 2, -1}, depths[1]);
+        assertArrayEquals(new int[]{-1, -1, -1, -1, -1, 0}, depths[2]);
+    }
+
+    @Test
+    public void testMatchesSingleSourceBfs() {
+        int n = 2000;
+        CsrGraph csr = CsrGraph.of(GraphFixtures.directedGraph(n, 5000, 13));
+        SplittableRandom random = new SplittableRandom(14);
+
+        // 150 sources with a repeat: several batches, the last one partly filled
+        int[] sources = new int[150];
+        for (int i = 0; i < sources.length; i++) sources[i] = random.nextInt(n);
+        sources[149] = sources[0];
+
+        for (int lanes : new int[]{64, 128}) {
+            int[][] depths = new MultiSourceBfs(lanes).distances(csr, sources);
+            for (int i = 0; i < sources.length; i++) {
+                assertArrayEquals(bfs(csr, sources[i]), depths[i], "source index " + i);
+            }
+        }
+    }
+
+    @Test
+    public void testForEachSource() {
+        GraphAlgorithms.Graph graph = new GraphAlgorithms.Graph(3);
+        graph.addEdge(0, 1);
+        graph.addEdge(1, 2);
+
+        AtomicInteger calls = new AtomicInteger();
+        new MultiSourceBfs().forEachSource(graph, new int[]{2, 0}, (source, depths) -> {
+            calls.incrementAndGet();
+            if (source == 0) assertArrayEquals(new int[]{0, 1, 2}, depths);
+            else assertArrayEquals(new int[]{-1, -1, 0}, depths);
+        });
+        assertEquals(2, calls.get());
+    }
+
+    private static int[] bfs(CsrGraph graph, int source) {
+        int[] depth = new int[graph.getVertexCount()];
+        Arrays.fill(depth, -1);
+        int[] queue = new int[graph.getVertexCount()];
+        int head = 0, tail = 0;
+        depth[source] = 0;
+        queue[tail++] = source;
+        while (head < tail) {
+            int u = queue[head++];
+            for (int e = graph.getOffsets()[u]; e < graph.getOffsets()[u + 1]; e++) {
+                int v = graph.getTargets()[e];
+                if (depth[v] < 0) {
+                    depth[v] = depth[u] + 1;
+                    queue[tail++] = v;
+                }
+            }
+        }
+        return depth;
+    }
+}
@@ -0,0 +1,119 @@
+package org.algoyog.algos.ds.graph;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class PageRankTest {
+
+    private static GraphAlgorithms.Graph randomGraph(int V, int edges, long seed) {
+        GraphAlgorithms.Graph graph = new GraphAlgorithms.Graph(V);
+        int[] endpoints = GraphFixtures.randomEdges(V, edges, seed);
+        for (int i = 0; i < endpoints.length; i += 2) {
+            // Leave every tenth vertex dangling
+            if (endpoints[i] % 10 == 0) continue;
+            graph.addEdge(endpoints[i], endpoints[i + 1]);
+        }
+        return graph;
+    }
+
+    // Straightforward push-style power iteration used as the reference
+    private static double[] reference(GraphAlgorithms.Graph graph, double[] teleport, double d, int iterations) {
+        int V = graph.getVertexCount();
+        List<Integer>[] adj = graph.getAdjList();
+        double[] rank = teleport.clone();
+        for (int it = 0; it < iterations; it++) {
+            double dangling = 0;
+            for (int u = 0; u < V; u++) {
+                if (adj[u].isEmpty()) dangling += rank[u];
+            }
+            double[] next = new double[V];
+            for (int v = 0; v < V; v++) {
+                next[v] = (1 - d) * teleport[v] + d * dangling * teleport[v];
+            }
+            for (int u = 0; u < V; u++) {
+                for (int v : adj[u]) next[v] += d * rank[u] / adj[u].size();
+            }
+            rank = next;
+        }
+        return rank;
+    }
+
+    private static double sum(double[] values) {
+        return Arrays.stream(values).sum();
+    }
+
+    @Test
+    public void testSmallGraph() {
+        // 0 <-> 1, 2 -> 0, 3 dangling, 2 -> 3
+        GraphAlgorithms.Graph graph = new GraphAlgorithms.Graph(4);
+        graph.addEdge(0, 1);
+        graph.addEdge(1, 0);
+        graph.addEdge(2, 0);
+        graph.addEdge(2, 3);
+
+        PageRank.Result result = new PageRank().compute(graph);
+        assertTrue(result.isConverged());
+        double[] ranks = result.getRanks();
+        assertEquals(1.0, sum(ranks), 1e-9);
+        assertArrayEquals(reference(graph, new double[]{0.25, 0.25, 0.25, 0.25}, 0.85, 300), ranks, 1e-8);
+        assertTrue(ranks[0] > ranks[2] && ranks[1] > ranks[3]);
+    }
+
+    @Test
+    public void testMatchesReferenceOnLargeGraph() {
+        // Big enough to be split into several ForkJoin chunks
+        int V = 60_000;
+        GraphAlgorithms.Graph graph = randomGraph(V, 400_000, 1);
+        double[] uniform = new double[V];
+        Arrays.fill(uniform, 1.0 / V);
+
+        PageRank pageRank = new PageRank(0.85, 1e-12, 500);
+        PageRank.Result result = pageRank.compute(graph);
+        assertTrue(result.isConverged());
+        assertEquals(1.0, sum(result.getRanks()), 1e-9);
+        assertArrayEquals(reference(graph, uniform, 0.85, result.getIterations()), result.getRanks(), 1e-12);
+
+        PageRank.Result gs = pageRank.gaussSeidel(graph);
+        assertTrue(gs.isConverged());
+        assertTrue(gs.getIterations() < result.getIterations(),
+                gs.getIterations() + " sweeps vs " + result.getIterations() + " iterations");
+        assertArrayEquals(result.getRanks(), gs.getRanks(), 1e-10);
+    }
+
+    @Test
+    public void testPersonalized() {
+        int V = 2_000;
+        GraphAlgorithms.Graph graph = randomGraph(V, 10_000, 2);
+        int[] seeds = {5, 17};
+        double[] teleport = new double[V];
+        teleport[5] = 0.5;
+        teleport[17] = 0.5;
+
+        PageRank pageRank = new PageRank(0.85, 1e-12, 500);
+        PageRank.Result result = pageRank.personalized(graph, seeds);
+        assertTrue(result.isConverged());
+        assertEquals(1.0, sum(result.getRanks()), 1e-9);
+        assertArrayEquals(reference(graph, teleport, 0.85, result.getIterations()), result.getRanks(), 1e-12);
+        // The seeds keep at least the teleport share
+        assertTrue(result.getRanks()[5] >= 0.15 * 0.5);
+
+        PageRank.Result gs = pageRank.gaussSeidel(CsrGraph.of(graph), seeds);
+        assertArrayEquals(result.getRanks(), gs.getRanks(), 1e-10);
+
+        assertThrows(IllegalArgumentException.class, () -> pageRank.personalized(graph));
+        assertThrows(IllegalArgumentException.class, () -> pageRank.personalized(graph, V));
+        assertThrows(IllegalArgumentException.class, () -> new PageRank(1.0, 1e-9, 10));
+    }
+
+    @Test
+    public void testIterationLimit() {
+        GraphAlgorithms.Graph graph = randomGraph(500, 3_000, 3);
+        PageRank.Result result = new PageRank(0.85, 0, 3).compute(graph);
+        assertEquals(3, result.getIterations());
+        assertFalse(result.isConverged());
+        assertTrue(result.getResidual() > 0);
+    }
+}
@@ -0,0 +1,146 @@
+package org.algoyog.algos.ds.graph;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+public class PregelEngineTest {
+
+    // Single source shortest paths: relax on the minimum incoming distance, then halt
+    private static PregelEngine.VertexProgram shortestPaths(int source) {
+        return context -> {
+            double best = context.getSuperstep() == 0 && context.getVertex() == source ? 0 : context.getValue();
+            for (int i = 0; i < context.getMessageCount(); i++) {
+                best = Math.min(best, context.getMessage(i));
+            }
+            if (best < context.getValue() || (context.getSuperstep() == 0 && context.getVertex() == source)) {
+                context.setValue(best);
+                for (int i = 0; i < context.getOutDegree(); i++) {
+                    context.sendMessage(context.getNeighbor(i), best + context.getEdgeWeight(i));
+                }
+            }
+            context.voteToHalt();
+        };
+    }
+
+    @Test
+    public void testShortestPathsMatchDijkstra() {
+        GraphAlgorithms.WeightedGraph graph = GraphFixtures.weightedGraph(500, 3000, 1, 20, 3);
+        int[] expected = new GraphAlgorithms().dijkstra(graph, 0);
+        double[] initial = new double[500];
+        Arrays.fill(initial, Double.POSITIVE_INFINITY);
+
+        for (int workers : new int[]{1, 3, 8}) {
+            for (PregelEngine.Combiner combiner : new PregelEngine.Combiner[]{PregelEngine.Combiner.MIN, null}) {
+                PregelEngine.Result result = new PregelEngine(workers)
+                        .run(CsrGraph.of(graph), initial, shortestPaths(0), combiner, 1000);
+                double[] dist = result.getValues();
+                for (int v = 0; v < 500; v++) {
+                    double want = expected[v] == Integer.MAX_VALUE ? Double.POSITIVE_INFINITY : expected[v];
+                    assertEquals(want, dist[v], "vertex " + v + " with " + workers + " workers");
+                }
+                assertTrue(result.getSupersteps() < 1000, "converged before the limit");
+            }
+        }
+        // The initial values are not modified
+        assertEquals(Double.POSITIVE_INFINITY, initial[0]);
+    }
+
+    @Test
+    public void testLabelPropagationFindsComponents() {
+        int V = 2_000;
+        GraphAlgorithms.Graph graph = GraphFixtures.undirectedGraph(V, 1_500, 9);
+
+        double[] labels = new double[V];
+        for (int v = 0; v < V; v++) labels[v] = v;
+        PregelEngine.VertexProgram minLabel = context -> {
+            double label = context.getValue();
+            for (int i = 0; i < context.getMessageCount(); i++) {
+                label = Math.min(label, context.getMessage(i));
+            }
+            if (context.getSuperstep() == 0 || label < context.getValue()) {
+                context.setValue(label);
+                context.sendToNeighbors(label);
+            }
+            context.voteToHalt();
+        };
+
+        double[] result = new PregelEngine(4).run(graph, labels, minLabel, PregelEngine.Combiner.MIN, 10_000).getValues();
+        int[] ids = new ConnectedComponents().parallel(graph).getComponentIds();
+        for (int u = 0; u < V; u++) {
+            for (int e : graph.getAdjList()[u]) {
+                assertEquals(result[u], result[e]);
+            }
+            // The label is the smallest vertex of the component, which has the same component id
+            assertEquals(ids[u], ids[(int) result[u]]);
+            assertTrue(result[u] <= u);
+        }
+    }
+
+    @Test
+    public void testPageRankWithoutCombiner() {
+        SplittableRandom random = new SplittableRandom(4);
+        int V = 300;
+        GraphAlgorithms.Graph graph = new GraphAlgorithms.Graph(V);
+        for (int v = 0; v < V; v++) {
+            graph.addEdge(v, (v + 1) % V); // No dangling vertices
+            for (int k = 0; k < 3; k++) graph.addEdge(v, random.nextInt(V));
+        }
+        int iterations = 30;
+        double d = 0.85;
+
+        double[] initial = new double[V];
+        Arrays.fill(initial, 1.0 / V);
+        PregelEngine.VertexProgram pageRank = context -> {
+            if (context.getSuperstep() > 0) {
+                double sum = 0;
+                for (int i = 0; i < context.getMessageCount(); i++) sum += context.getMessage(i);
+                context.setValue((1 - d) / context.getVertexCount() + d * sum);
+            }
+            if (context.getSuperstep() < iterations) {
+                context.sendToNeighbors(context.getValue() / context.getOutDegree());
+            } else {
+                context.voteToHalt();
+            }
+        };
+        PregelEngine.Result result = new PregelEngine(5).run(graph, initial, pageRank, null, 100);
+
+        // Reference power iteration
+        double[] rank = initial.clone();
+        for (int it = 0; it < iterations; it++) {
+            double[] next = new double[V];
+            Arrays.fill(next, (1 - d) / V);
+            for (int u = 0; u < V; u++) {
+                for (int v : graph.getAdjList()[u]) next[v] += d * rank[u] / graph.getAdjList()[u].size();
+            }
+            rank = next;
+        }
+        assertArrayEquals(rank, result.getValues(), 1e-12);
+        assertEquals((long) iterations * 4 * V, result.getMessageCount());
+    }
+
+    @Test
+    public void testSuperstepLimitAndFailures() {
+        GraphAlgorithms.Graph ring = new GraphAlgorithms.Graph(4);
+        for (int v = 0; v < 4; v++) ring.addEdge(v, (v + 1) % 4);
+
+        // Never halts on its own
+        PregelEngine.Result result = new PregelEngine(2).run(ring, new double[4],
+                context -> context.setValue(context.getValue() + 1), null, 7);
+        assertEquals(7, result.getSupersteps());
+        assertArrayEquals(new double[]{7, 7, 7, 7}, result.getValues());
+
+        PregelEngine.VertexProgram failing = context -> {
+            if (context.getVertex() == 3) throw new IllegalStateException("boom");
+        };
+        IllegalStateException error = assertThrows(IllegalStateException.class,
+                () -> new PregelEngine(3).run(ring, new double[4], failing, null, 5));
+        assertEquals("boom", error.getMessage());
+
+        assertThrows(IllegalArgumentException.class, () -> new PregelEngine(0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new PregelEngine(1).run(ring, new double[3], failing, null, 5));
+    }
+}
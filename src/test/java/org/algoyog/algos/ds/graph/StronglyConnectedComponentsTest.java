@@ -0,0 +1,95 @@
+package org.algoyog.algos.ds.graph;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class StronglyConnectedComponentsTest {
+
+    private final StronglyConnectedComponents scc = new StronglyConnectedComponents();
+    private final GraphAlgorithms graphAlgos = new GraphAlgorithms();
+
+    // 0 <-> 1 -> 2 -> 3 -> 4 -> 2, 4 -> 5
+    private GraphAlgorithms.Graph sampleGraph() {
+        GraphAlgorithms.Graph graph = new GraphAlgorithms.Graph(6);
+        graph.addEdge(0, 1);
+        graph.addEdge(1, 0);
+        graph.addEdge(1, 2);
+        graph.addEdge(2, 3);
+        graph.addEdge(3, 4);
+        graph.addEdge(4, 2);
+        graph.addEdge(4, 5);
+        return graph;
+    }
+
+    @Test
+    public void testTarjan() {
+        StronglyConnectedComponents.Components result = scc.tarjan(sampleGraph());
+        int[] ids = result.getComponentIds();
+        assertEquals(3, result.getComponentCount());
+        assertEquals(ids[0], ids[1]);
+        assertEquals(ids[2], ids[3]);
+        assertEquals(ids[2], ids[4]);
+        assertNotEquals(ids[0], ids[2]);
+
+        // Reverse topological numbering: sinks first
+        assertEquals(0, ids[5]);
+        assertEquals(1, ids[2]);
+        assertEquals(2, ids[0]);
+    }
+
+    @Test
+    public void testTarjanDeepCycle() {
+        // One cycle through 300k vertices would overflow a recursive Tarjan
+        int n = 300_000;
+        GraphAlgorithms.Graph cycle = new GraphAlgorithms.Graph(n);
+        for (int i = 0; i < n; i++) {
+            cycle.addEdge(i, (i + 1) % n);
+        }
+        assertEquals(1, scc.tarjan(cycle).getComponentCount());
+        assertEquals(1, scc.parallelForwardBackward(cycle).getComponentCount());
+    }
+
+    @Test
+    public void testForwardBackwardMatchesTarjan() {
+        GraphAlgorithms.Graph graph = GraphFixtures.directedGraph(30_000, 60_000, 5);
+
+        StronglyConnectedComponents.Components expected = scc.tarjan(graph);
+        StronglyConnectedComponents.Components actual = scc.parallelForwardBackward(graph);
+        assertEquals(expected.getComponentCount(), actual.getComponentCount());
+        assertSamePartition(expected.getComponentIds(), actual.getComponentIds());
+
+        assertSamePartition(scc.tarjan(sampleGraph()).getComponentIds(),
+                scc.parallelForwardBackward(sampleGraph()).getComponentIds());
+    }
+
+    @Test
+    public void testCondensation() {
+        GraphAlgorithms.Graph graph = sampleGraph();
+        StronglyConnectedComponents.Components components = scc.tarjan(graph);
+        GraphAlgorithms.Graph dag = scc.condensation(graph, components);
+
+        assertEquals(3, dag.getVertexCount());
+        assertFalse(graphAlgos.hasCycle(dag));
+        int[] ids = components.getComponentIds();
+        assertEquals(List.of(ids[2]), dag.getAdjList()[ids[0]]);
+        assertEquals(List.of(ids[5]), dag.getAdjList()[ids[2]]);
+        assertTrue(dag.getAdjList()[ids[5]].isEmpty());
+    }
+
+    // Two labelings describe the same partition when the id mapping between them is a bijection
+    private static void assertSamePartition(int[] expected, int[] actual) {
+        int[] forward = new int[expected.length];
+        int[] backward = new int[expected.length];
+        Arrays.fill(forward, -1);
+        Arrays.fill(backward, -1);
+        for (int v = 0; v < expected.length; v++) {
+            if (forward[expected[v]] == -1) forward[expected[v]] = actual[v];
+            if (backward[actual[v]] == -1) backward[actual[v]] = expected[v];
+            assertEquals(forward[expected[v]], actual[v], "vertex " + v);
+            assertEquals(backward[actual[v]], expected[v], "vertex " + v);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package org.algoyog.algos.ds.graph;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.SplittableRandom;
+
+public class TriangleCountingTest {
+
+    private final TriangleCounting triangles = new TriangleCounting();
+
+    @Test
+    public void testCompleteGraph() {
+        GraphAlgorithms.Graph k5 = new GraphAlgorithms.Graph(5);
+        for (int u = 0; u < 5; u++) {
+            for (int v = u + 1; v < 5; v++) k5.addUndirectedEdge(u, v);
+        }
+
+        assertEquals(10, triangles.count(k5));
+        TriangleCounting.Result result = triangles.analyze(k5);
+        assertEquals(10, result.getTriangleCount());
+        assertArrayEquals(new long[]{6, 6, 6, 6, 6}, result.getVertexTriangles());
+        assertArrayEquals(new double[]{1, 1, 1, 1, 1}, result.getClusteringCoefficients(), 1e-12);
+        assertEquals(1.0, result.getAverageClustering(), 1e-12);
+    }
+
+    @Test
+    public void testDirectionLoopsAndDuplicatesIgnored() {
+        // Triangle 0-1-2 given with mixed directions, a duplicate edge and a self loop; 3 hangs off 0
+        GraphAlgorithms.Graph graph = new GraphAlgorithms.Graph(4);
+        graph.addEdge(0, 1);
+        graph.addEdge(2, 1);
+        graph.addEdge(0, 2);
+        graph.addEdge(2, 0);
+        graph.addEdge(1, 1);
+        graph.addEdge(3, 0);
+
+        TriangleCounting.Result result = triangles.analyze(graph);
+        assertEquals(1, result.getTriangleCount());
+        assertArrayEquals(new long[]{1, 1, 1, 0}, result.getVertexTriangles());
+        // Vertex 0 has neighbors 1, 2, 3 and only the pair 1-2 is adjacent
+        assertArrayEquals(new double[]{1.0 / 3, 1, 1, 0}, result.getClusteringCoefficients(), 1e-12);
+    }
+
+    @Test
+    public void testRandomGraphMatchesBruteForce() {
+        SplittableRandom random = new SplittableRandom(21);
+        int V = 120;
+        boolean[][] adjacent = new boolean[V][V];
+        GraphAlgorithms.Graph graph = new GraphAlgorithms.Graph(V);
+        for (int i = 0; i < 1_500; i++) {
+            // A few hubs so both merging and galloping are exercised
+            int u = random.nextInt(4) == 0 ? random.nextInt(3) : random.nextInt(V);
+            int v = random.nextInt(V);
+            graph.addEdge(u, v);
+            if (u != v) {
+                adjacent[u][v] = true;
+                adjacent[v][u] = true;
+            }
+        }
+
+        long expected = 0;
+        long[] perVertex = new long[V];
+        for (int a = 0; a < V; a++) {
+            for (int b = a + 1; b < V; b++) {
+                if (!adjacent[a][b]) continue;
+                for (int c = b + 1; c < V; c++) {
+                    if (adjacent[a][c] && adjacent[b][c]) {
+                        expected++;
+                        perVertex[a]++;
+                        perVertex[b]++;
+                        perVertex[c]++;
+                    }
+                }
+            }
+        }
+
+        assertEquals(expected, triangles.count(graph));
+        TriangleCounting.Result result = triangles.analyze(graph);
+        assertEquals(expected, result.getTriangleCount());
+        assertArrayEquals(perVertex, result.getVertexTriangles());
+    }
+
+    @Test
+    public void testIntersectionKernels() {
+        SplittableRandom random = new SplittableRandom(8);
+        for (int trial = 0; trial < 200; trial++) {
+            int[] a = random.ints(random.nextInt(1, 20), 0, 5_000).sorted().distinct().toArray();
+            // Sometimes much longer, so galloping is used
+            int[] b = random.ints(random.nextInt(1, trial % 2 == 0 ? 30 : 3_000), 0, 5_000).sorted().distinct().toArray();
+
+            int expected = 0;
+            for (int x : a) {
+                for (int y : b) {
+                    if (x == y) expected++;
+                }
+            }
+            assertEquals(expected, TriangleCounting.intersectCount(a, 0, a.length, b, 0, b.length));
+            assertEquals(expected, TriangleCounting.intersectCount(b, 0, b.length, a, 0, a.length));
+        }
+        assertEquals(0, TriangleCounting.intersectCount(new int[0], 0, 0, new int[]{1}, 0, 1));
+    }
+}
@@ -0,0 +1,101 @@
+package org.algoyog.algos.ds.graph;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Traversal speed before and after vertex reordering (not part of the test suite)
+ * The input is a 2D grid whose vertex ids are randomly shuffled, the typical shape of a
+ * road-like graph loaded with arbitrary ids. BFS runs on the CSR arrays and Dijkstra on a
+ * WeightedGraph, once on the shuffled labels and once per reordering pass.
+ *
+ * Run: java -cp target/classes:target/test-classes org.algoyog.algos.ds.graph.VertexReorderingBenchmark [side]
+ */
+public class VertexReorderingBenchmark {
+
+    public static void main(String[] args) {
+        int side = args.length > 0 ? Integer.parseInt(args[0]) : 1500;
+        CsrGraph shuffled = shuffledGrid(side, 7);
+        VertexReordering reordering = new VertexReordering();
+        System.out.printf("grid %d x %d, V = %,d, E = %,d%n", side, side,
+                shuffled.getVertexCount(), shuffled.getEdgeCount());
+
+        report("shuffled ids", shuffled, 0);
+        VertexReordering.Permutation[] passes = {
+                reordering.reverseCuthillMcKee(shuffled),
+                reordering.degreeSort(shuffled),
+                reordering.bfsOrder(shuffled)
+        };
+        String[] names = {"reverse Cuthill-McKee", "degree sort", "BFS order"};
+        for (int i = 0; i < passes.length; i++) {
+            CsrGraph permuted = reordering.permute(shuffled, passes[i]);
+            report(names[i], permuted, passes[i].getNewIds()[0]);
+        }
+    }
+
+    private static void report(String name, CsrGraph graph, int source) {
+        long bfs = bestOf(() -> bfs(graph, source));
+        GraphAlgorithms.WeightedGraph weighted = graph.toWeightedGraph();
+        GraphAlgorithms algos = new GraphAlgorithms();
+        long dijkstra = bestOf(() -> algos.dijkstra(weighted, source));
+        System.out.printf("%-22s BFS %8.1f ms   dijkstra %8.1f ms%n", name, bfs / 1e6, dijkstra / 1e6);
+    }
+
+    private static int bfs(CsrGraph graph, int source) {
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int[] depth = new int[graph.getVertexCount()];
+        Arrays.fill(depth, -1);
+        int[] queue = new int[graph.getVertexCount()];
+        int head = 0;
+        int tail = 0;
+        depth[source] = 0;
+        queue[tail++] = source;
+        while (head < tail) {
+            int u = queue[head++];
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int v = targets[e];
+                if (depth[v] < 0) {
+                    depth[v] = depth[u] + 1;
+                    queue[tail++] = v;
+                }
+            }
+        }
+        return tail;
+    }
+
+    private static long bestOf(Runnable run) {
+        run.run();
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long start = System.nanoTime();
+            run.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+
+    // side x side grid with 4-neighborhood, vertex ids shuffled uniformly at random
+    static CsrGraph shuffledGrid(int side, long seed) {
+        int V = side * side;
+        int[] label = new int[V];
+        for (int i = 0; i < V; i++) label[i] = i;
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = V - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = label[i];
+            label[i] = label[j];
+            label[j] = tmp;
+        }
+
+        GraphAlgorithms.Graph graph = new GraphAlgorithms.Graph(V);
+        for (int r = 0; r < side; r++) {
+            for (int c = 0; c < side; c++) {
+                int v = r * side + c;
+                if (c + 1 < side) graph.addUndirectedEdge(label[v], label[v + 1]);
+                if (r + 1 < side) graph.addUndirectedEdge(label[v], label[v + side]);
+            }
+        }
+        return CsrGraph.of(graph);
+    }
+}
@@ -0,0 +1,85 @@
+package org.algoyog.algos.ds.graph;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+
+public class VertexReorderingTest {
+
+    private final VertexReordering reordering = new VertexReordering();
+    private final GraphAlgorithms graphAlgos = new GraphAlgorithms();
+
+    @Test
+    public void testPermutationsAreBijections() {
+        GraphAlgorithms.Graph graph = GraphFixtures.undirectedGraph(500, 1500, 3);
+        for (VertexReordering.Permutation p : new VertexReordering.Permutation[]{
+                reordering.reverseCuthillMcKee(graph),
+                reordering.degreeSort(graph),
+                reordering.bfsOrder(graph)}) {
+            int[] newIds = p.getNewIds();
+            int[] oldIds = p.getOldIds();
+            int[] sorted = newIds.clone();
+            Arrays.sort(sorted);
+            for (int i = 0; i < sorted.length; i++) {
+                assertEquals(i, sorted[i]);
+                assertEquals(i, newIds[oldIds[i]]);
+            }
+        }
+    }
+
+    @Test
+    public void testDegreeSort() {
+        // Star around 3 plus edge 0 - 1
+        GraphAlgorithms.Graph graph = new GraphAlgorithms.Graph(5);
+        graph.addUndirectedEdge(3, 0);
+        graph.addUndirectedEdge(3, 1);
+        graph.addUndirectedEdge(3, 2);
+        graph.addUndirectedEdge(3, 4);
+        graph.addUndirectedEdge(0, 1);
+
+        assertArrayEquals(new int[]{3, 0, 1, 2, 4}, reordering.degreeSort(graph).getOldIds());
+    }
+
+    @Test
+    public void testReverseCuthillMcKeeReducesBandwidth() {
+        // A path with scrambled labels has a large bandwidth; RCM restores a bandwidth of 1
+        int n = 200;
+        int[] label = new int[n];
+        for (int i = 0; i < n; i++) label[i] = (int) ((i * 37L) % n);
+        GraphAlgorithms.Graph path = new GraphAlgorithms.Graph(n);
+        for (int i = 0; i + 1 < n; i++) {
+            path.addUndirectedEdge(label[i], label[i + 1]);
+        }
+
+        CsrGraph permuted = reordering.permute(CsrGraph.of(path), reordering.reverseCuthillMcKee(path));
+        assertTrue(bandwidth(CsrGraph.of(path)) > 1);
+        assertEquals(1, bandwidth(permuted));
+    }
+
+    @Test
+    public void testPermutedWeightedGraphKeepsDistances() {
+        int n = 300;
+        GraphAlgorithms.WeightedGraph graph = GraphFixtures.undirectedWeightedGraph(n, 1200, 1, 20, 9);
+
+        VertexReordering.Permutation p = reordering.reverseCuthillMcKee(CsrGraph.of(graph));
+        GraphAlgorithms.WeightedGraph permuted = reordering.permute(graph, p);
+        int[] newIds = p.getNewIds();
+
+        int[] original = graphAlgos.dijkstra(graph, 0);
+        int[] relabeled = graphAlgos.dijkstra(permuted, newIds[0]);
+        for (int v = 0; v < n; v++) {
+            assertEquals(original[v], relabeled[newIds[v]]);
+        }
+    }
+
+    private static int bandwidth(CsrGraph graph) {
+        int max = 0;
+        for (int u = 0; u < graph.getVertexCount(); u++) {
+            for (int e = graph.getOffsets()[u]; e < graph.getOffsets()[u + 1]; e++) {
+                max = Math.max(max, Math.abs(u - graph.getTargets()[e]));
+            }
+        }
+        return max;
+    }
+}
@@ -0,0 +1,73 @@
+package org.algoyog.algos.ds.tree;
+
+import java.nio.ByteBuffer;
+import java.util.SplittableRandom;
+
+/**
+ * Binary codec against the text Codec on a random tree (not part of the test suite)
+ * The tree is a random binary search tree, so its depth stays small enough for the recursive
+ * text codec. Values are drawn from [0, range).
+ *
+ * Run: java -cp target/classes:target/test-classes org.algoyog.algos.ds.tree.BinaryTreeCodecBenchmark [nodes] [range]
+ */
+public class BinaryTreeCodecBenchmark {
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        int range = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+        BinaryTree.TreeNode root = randomSearchTree(n, range, 11);
+        BinaryTree.Codec text = new BinaryTree().new Codec();
+
+        String serialized = text.serialize(root);
+        ByteBuffer encoded = BinaryTreeCodec.encode(root);
+        System.out.printf("n = %,d, values in [0, %,d)%n", n, range);
+        System.out.printf("text   %,14d bytes%nbinary %,14d bytes (%.1fx smaller)%n",
+                serialized.length(), encoded.remaining(), (double) serialized.length() / encoded.remaining());
+
+        long textEncode = best(() -> text.serialize(root));
+        long binaryEncode = best(() -> BinaryTreeCodec.encode(root));
+        long textDecode = best(() -> text.deserialize(serialized));
+        long binaryDecode = best(() -> BinaryTreeCodec.decode(encoded.duplicate()));
+        System.out.printf("encode  text %8.1f ms   binary %8.1f ms   (%.1fx)%n",
+                textEncode / 1e6, binaryEncode / 1e6, (double) textEncode / binaryEncode);
+        System.out.printf("decode  text %8.1f ms   binary %8.1f ms   (%.1fx)%n",
+                textDecode / 1e6, binaryDecode / 1e6, (double) textDecode / binaryDecode);
+    }
+
+    private static long best(Runnable run) {
+        run.run();
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long start = System.nanoTime();
+            run.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+
+    // Insert random keys one at a time; node values are drawn independently of the keys
+    static BinaryTree.TreeNode randomSearchTree(int n, int range, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        long[] keys = new long[n];
+        int[] left = new int[n];
+        int[] right = new int[n];
+        BinaryTree.TreeNode[] nodes = new BinaryTree.TreeNode[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = random.nextLong();
+            nodes[i] = new BinaryTree.TreeNode(random.nextInt(range));
+            left[i] = right[i] = -1;
+            int at = 0;
+            while (i > 0) {
+                int[] side = keys[i] < keys[at] ? left : right;
+                if (side[at] < 0) {
+                    side[at] = i;
+                    if (side == left) nodes[at].left = nodes[i];
+                    else nodes[at].right = nodes[i];
+                    break;
+                }
+                at = side[at];
+            }
+        }
+        return n == 0 ? null : nodes[0];
+    }
+}
@@ -0,0 +1,88 @@
+package org.algoyog.algos.ds.tree;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+public class BinaryTreeCodecTest {
+
+    private final BinaryTree tree = new BinaryTree();
+
+    private void assertSameTree(BinaryTree.TreeNode expected, BinaryTree.TreeNode actual) {
+        assertArrayEquals(tree.preorderArray(expected), tree.preorderArray(actual));
+        assertArrayEquals(tree.inorderArray(expected), tree.inorderArray(actual));
+    }
+
+    @Test
+    public void testRoundTripSmall() {
+        BinaryTree.TreeNode root = new BinaryTree.TreeNode(1);
+        root.left = new BinaryTree.TreeNode(-2);
+        root.right = new BinaryTree.TreeNode(Integer.MAX_VALUE);
+        root.left.right = new BinaryTree.TreeNode(Integer.MIN_VALUE);
+        assertSameTree(root, BinaryTreeCodec.decode(BinaryTreeCodec.encode(root)));
+
+        ByteBuffer empty = BinaryTreeCodec.encode(null);
+        assertEquals(6, empty.remaining()); // Magic and the end frame
+        assertNull(BinaryTreeCodec.decode(empty));
+    }
+
+    @Test
+    public void testRoundTripRandomTrees() {
+        SplittableRandom random = new SplittableRandom(3);
+        for (int trial = 0; trial < 30; trial++) {
+            // Sizes around the frame length exercise partial and full frames
+            int n = trial < 5 ? BinaryTreeCodec.FRAME_NODES - 2 + trial : random.nextInt(20_000);
+            BinaryTree.TreeNode root = TreeFixtures.randomTree(n, random, trial % 2 == 0 ? 100 : Integer.MAX_VALUE);
+            ByteBuffer encoded = BinaryTreeCodec.encode(root);
+            BinaryTree.TreeNode decoded = BinaryTreeCodec.decode(encoded);
+            assertSameTree(root, decoded);
+            assertFalse(encoded.hasRemaining());
+        }
+    }
+
+    @Test
+    public void testChannelsAndDegenerateDepth() throws IOException {
+        // A 1M-node chain would overflow a recursive codec
+        int n = 1_000_000;
+        BinaryTree.TreeNode root = new BinaryTree.TreeNode(0);
+        BinaryTree.TreeNode node = root;
+        for (int i = 1; i < n; i++) {
+            node.right = new BinaryTree.TreeNode(i);
+            node = node.right;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BinaryTreeCodec.writeTo(root, Channels.newChannel(bytes));
+        BinaryTree.TreeNode decoded = BinaryTreeCodec.readFrom(Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray())));
+        assertArrayEquals(tree.preorderArray(root), tree.preorderArray(decoded));
+        assertEquals(n, tree.postorderArray(decoded).length);
+    }
+
+    @Test
+    public void testMuchSmallerThanTextCodec() {
+        BinaryTree.TreeNode root = TreeFixtures.randomTree(10_000, new SplittableRandom(8), 1000);
+        String text = tree.new Codec().serialize(root);
+        int binary = BinaryTreeCodec.encode(root).remaining();
+        assertTrue(binary * 4 < text.length(), binary + " bytes vs " + text.length() + " characters");
+    }
+
+    @Test
+    public void testMalformedInput() {
+        BinaryTree.TreeNode root = TreeFixtures.randomTree(100, new SplittableRandom(1), 100);
+        byte[] bytes = BinaryTreeCodec.encode(root).array();
+
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 3);
+        assertThrows(IllegalArgumentException.class, () -> BinaryTreeCodec.decode(ByteBuffer.wrap(truncated)));
+        assertThrows(IOException.class, () -> BinaryTreeCodec.readFrom(Channels.newChannel(new ByteArrayInputStream(truncated))));
+
+        byte[] wrongMagic = bytes.clone();
+        wrongMagic[0] ^= 1;
+        assertThrows(IllegalArgumentException.class, () -> BinaryTreeCodec.decode(ByteBuffer.wrap(wrongMagic)));
+    }
+}
@@ -4,8 +4,15 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.SplittableRandom;
+import java.util.function.IntConsumer;
+import java.util.stream.StreamSupport;
 
 public class BinaryTreeTest {
 
@@ -145,4 +152,172 @@ public class BinaryTreeTest {
         deserialized = codec.deserialize(serialized);
         assertNull(deserialized);
     }
+
+    // Degenerate tree: a chain of left children, then a chain of right children
+    private static BinaryTree.TreeNode zigChain(int n) {
+        BinaryTree.TreeNode root = new BinaryTree.TreeNode(0);
+        BinaryTree.TreeNode node = root;
+        for (int i = 1; i < n; i++) {
+            BinaryTree.TreeNode next = new BinaryTree.TreeNode(i);
+            if (i < n / 2) node.left = next;
+            else node.right = next;
+            node = next;
+        }
+        return root;
+    }
+
+    private static int[] toInts(List<Integer> values) {
+        return values.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    @Test
+    public void testTraversalArrays() {
+        assertArrayEquals(new int[]{4, 2, 5, 1, 3}, tree.inorderArray(root));
+        assertArrayEquals(new int[]{1, 2, 4, 5, 3}, tree.preorderArray(root));
+        assertArrayEquals(new int[]{4, 5, 2, 3, 1}, tree.postorderArray(root));
+        assertArrayEquals(new int[]{1, 2, 3, 4, 5}, tree.levelOrderArray(root));
+        assertArrayEquals(new int[]{4, 2, 5, 1, 3}, tree.morrisInorder(root));
+        assertArrayEquals(new int[]{1, 2, 4, 5, 3}, tree.morrisPreorder(root));
+        assertEquals(0, tree.inorderArray(null).length);
+        assertEquals(0, tree.morrisInorder(null).length);
+        assertEquals(0, tree.levelOrderArray(null).length);
+    }
+
+    @Test
+    public void testTraversalsAgreeOnRandomTrees() {
+        SplittableRandom random = new SplittableRandom(5);
+        for (int trial = 0; trial < 50; trial++) {
+            BinaryTree.TreeNode t = TreeFixtures.randomTree(random.nextInt(200), random);
+            int[] inorder = toInts(tree.inorderTraversal(t));
+            int[] preorder = toInts(tree.preorderTraversal(t));
+            assertArrayEquals(inorder, tree.morrisInorder(t));
+            assertArrayEquals(preorder, tree.morrisPreorder(t));
+            // Morris threads are removed again
+            assertArrayEquals(inorder, tree.inorderArray(t));
+            assertArrayEquals(preorder, tree.preorderArray(t));
+
+            List<Integer> levels = new ArrayList<>();
+            tree.levelOrder(t).forEach(levels::addAll);
+            assertArrayEquals(toInts(levels), tree.levelOrderArray(t));
+        }
+    }
+
+    @Test
+    public void testDegenerateTreesDoNotOverflowTheStack() {
+        int n = 100_000;
+        BinaryTree.TreeNode chain = zigChain(n);
+        int[] inorder = tree.inorderArray(chain);
+        assertEquals(n, inorder.length);
+        assertEquals(n / 2 - 1, inorder[0]);
+        assertArrayEquals(inorder, tree.morrisInorder(chain));
+        assertEquals(n, tree.postorderArray(chain).length);
+        assertEquals(n, tree.preorderTraversal(chain).size());
+        assertEquals(n, StreamSupport.intStream(tree.preorderSpliterator(chain), true).count());
+    }
+
+    @Test
+    public void testIterators() {
+        PrimitiveIterator.OfInt iterator = tree.postorderIterator(root);
+        int[] seen = new int[5];
+        for (int i = 0; i < 5; i++) {
+            assertTrue(iterator.hasNext());
+            seen[i] = iterator.nextInt();
+        }
+        assertArrayEquals(new int[]{4, 5, 2, 3, 1}, seen);
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::nextInt);
+        assertFalse(tree.inorderIterator(null).hasNext());
+    }
+
+    @Test
+    public void testSpliteratorsKeepOrderInParallel() {
+        SplittableRandom random = new SplittableRandom(9);
+        BinaryTree.TreeNode t = TreeFixtures.randomTree(20_000, random);
+        int[] inorder = tree.inorderArray(t);
+        int[] preorder = tree.preorderArray(t);
+        assertArrayEquals(inorder, StreamSupport.intStream(tree.inorderSpliterator(t), true).toArray());
+        assertArrayEquals(preorder, StreamSupport.intStream(tree.preorderSpliterator(t), true).toArray());
+        assertArrayEquals(inorder, StreamSupport.intStream(tree.inorderSpliterator(t), false).toArray());
+        assertArrayEquals(tree.postorderArray(t), StreamSupport.intStream(tree.postorderSpliterator(t), false).toArray());
+        assertEquals(Arrays.stream(inorder).sum(), StreamSupport.intStream(tree.preorderSpliterator(t), true).sum());
+
+        // Splitting by hand covers both halves exactly once
+        Spliterator.OfInt rest = tree.inorderSpliterator(root);
+        Spliterator.OfInt prefix = rest.trySplit();
+        assertNotNull(prefix);
+        List<Integer> values = new ArrayList<>();
+        prefix.forEachRemaining((IntConsumer) values::add);
+        rest.forEachRemaining((IntConsumer) values::add);
+        assertEquals(Arrays.asList(4, 2, 5, 1, 3), values);
+    }
+
+    private static long count(Spliterator.OfInt spliterator) {
+        long[] count = {0};
+        spliterator.forEachRemaining((IntConsumer) value -> count[0]++);
+        return count[0];
+    }
+
+    @Test
+    public void testSpliteratorSplitsEvenly() {
+        int n = (1 << 16) - 1;
+        BinaryTree.TreeNode t = TreeFixtures.perfectTree(16);
+        for (Spliterator.OfInt rest : new Spliterator.OfInt[]{tree.inorderSpliterator(t), tree.preorderSpliterator(t)}) {
+            long estimate = rest.estimateSize();
+            Spliterator.OfInt prefix = rest.trySplit();
+            assertEquals(estimate / 2, rest.estimateSize());
+            assertEquals(estimate / 2, prefix.estimateSize());
+            // Split each half twice more: eight pieces of about n / 8 values
+            List<Spliterator.OfInt> pieces = new ArrayList<>(List.of(prefix, rest));
+            for (int round = 0; round < 2; round++) {
+                List<Spliterator.OfInt> next = new ArrayList<>();
+                for (Spliterator.OfInt piece : pieces) {
+                    next.add(piece.trySplit());
+                    next.add(piece);
+                }
+                pieces = next;
+            }
+            long total = 0;
+            for (Spliterator.OfInt piece : pieces) {
+                long size = count(piece);
+                assertTrue(Math.abs(size - n / 8) <= 8, "piece of " + size);
+                total += size;
+            }
+            assertEquals(n, total);
+        }
+        // Splitting stops while a little traversal is left
+        Spliterator.OfInt small = tree.inorderSpliterator(root);
+        int splits = 0;
+        while (small.trySplit() != null) splits++;
+        assertTrue(splits <= 2);
+    }
+
+    @Test
+    public void testSpliteratorStopsSplittingAtTheStreamThreshold() {
+        // A parallel stream splits while the estimate is above estimate / (4 * parallelism);
+        // with halving estimates that is a fixed number of pieces, not one per node
+        int n = (1 << 20) - 1;
+        BinaryTree.TreeNode t = TreeFixtures.perfectTree(20);
+        Spliterator.OfInt whole = tree.inorderSpliterator(t);
+        long threshold = whole.estimateSize() / 32;
+        List<Spliterator.OfInt> pending = new ArrayList<>(List.of(whole));
+        List<Spliterator.OfInt> pieces = new ArrayList<>();
+        while (!pending.isEmpty()) {
+            Spliterator.OfInt piece = pending.remove(pending.size() - 1);
+            Spliterator.OfInt prefix = piece.estimateSize() > threshold ? piece.trySplit() : null;
+            if (prefix == null) {
+                pieces.add(piece);
+            } else {
+                pending.add(piece);
+                pending.add(prefix);
+            }
+        }
+        assertEquals(32, pieces.size());
+        long total = 0;
+        for (Spliterator.OfInt piece : pieces) {
+            long size = count(piece);
+            assertTrue(size > n / 64, "piece of " + size);
+            total += size;
+        }
+        assertEquals(n, total);
+    }
 }
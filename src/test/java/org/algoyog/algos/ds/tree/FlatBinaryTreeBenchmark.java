@@ -0,0 +1,49 @@
+package org.algoyog.algos.ds.tree;
+
+/**
+ * Flat tree layouts against linked TreeNode objects (not part of the test suite)
+ * The tree is a random binary search tree built by insertion, so its nodes are allocated in
+ * insertion order and end up scattered relative to any traversal order.
+ *
+ * Run: java -cp target/classes:target/test-classes org.algoyog.algos.ds.tree.FlatBinaryTreeBenchmark [nodes]
+ */
+public class FlatBinaryTreeBenchmark {
+    // Results are accumulated here so the JIT cannot drop the work
+    private static volatile long sink;
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 4_000_000;
+        BinaryTree.TreeNode root = BinaryTreeCodecBenchmark.randomSearchTree(n, Integer.MAX_VALUE, 5);
+        BinaryTree tree = new BinaryTree();
+        FlatBinaryTree bfs = FlatBinaryTree.of(root, FlatBinaryTree.Layout.BFS);
+        FlatBinaryTree veb = FlatBinaryTree.of(root, FlatBinaryTree.Layout.VAN_EMDE_BOAS);
+
+        // TreeNode: 12 byte header + int + two compressed references = 24 bytes
+        System.out.printf("n = %,d, depth = %d%n", n, bfs.maxDepth());
+        System.out.printf("memory  TreeNode %,d bytes   flat %,d bytes%n", 24L * n, bfs.sizeInBytes());
+
+        System.out.println("                 linked       BFS       vEB  (ms)");
+        row("inorder", () -> tree.inorderArray(root).length, () -> bfs.inorderArray().length, () -> veb.inorderArray().length);
+        row("preorder", () -> tree.preorderArray(root).length, () -> bfs.preorderArray().length, () -> veb.preorderArray().length);
+        row("max depth", () -> tree.maxDepth(root), bfs::maxDepth, veb::maxDepth);
+    }
+
+    private static void row(String name, Task linked, Task flatBfs, Task flatVeb) {
+        System.out.printf("%-12s %9.1f %9.1f %9.1f%n", name, best(linked), best(flatBfs), best(flatVeb));
+    }
+
+    private interface Task {
+        long run();
+    }
+
+    private static double best(Task task) {
+        sink += task.run();
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            long start = System.nanoTime();
+            sink += task.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best / 1e6;
+    }
+}
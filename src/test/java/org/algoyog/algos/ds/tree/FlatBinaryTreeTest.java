@@ -0,0 +1,108 @@
+package org.algoyog.algos.ds.tree;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+public class FlatBinaryTreeTest {
+
+    private final BinaryTree tree = new BinaryTree();
+
+    //       1
+    //      / \
+    //     2   3
+    //    / \
+    //   4   5
+    private static BinaryTree.TreeNode sample() {
+        BinaryTree.TreeNode root = new BinaryTree.TreeNode(1);
+        root.left = new BinaryTree.TreeNode(2);
+        root.right = new BinaryTree.TreeNode(3);
+        root.left.left = new BinaryTree.TreeNode(4);
+        root.left.right = new BinaryTree.TreeNode(5);
+        return root;
+    }
+
+    @Test
+    public void testBfsLayout() {
+        FlatBinaryTree flat = FlatBinaryTree.of(sample());
+        assertEquals(5, flat.size());
+        assertArrayEquals(new int[]{1, 2, 3, 4, 5}, flat.getValues());
+        assertArrayEquals(new int[]{1, 3, -1, -1, -1}, flat.getLeft());
+        assertArrayEquals(new int[]{2, 4, -1, -1, -1}, flat.getRight());
+        assertArrayEquals(new int[]{4, 2, 5, 1, 3}, flat.inorderArray());
+        assertArrayEquals(new int[]{1, 2, 4, 5, 3}, flat.preorderArray());
+        assertArrayEquals(new int[]{4, 5, 2, 3, 1}, flat.postorderArray());
+        assertArrayEquals(new int[]{1, 2, 3, 4, 5}, flat.levelOrderArray());
+        assertEquals(3, flat.maxDepth());
+        assertTrue(flat.isBalanced());
+        assertEquals(15, flat.sum());
+    }
+
+    @Test
+    public void testVanEmdeBoasLayout() {
+        // Depth 4 perfect tree: the top two levels, then the four two-level bottom trees
+        BinaryTree.TreeNode root = TreeFixtures.perfectTree(4);
+        FlatBinaryTree flat = FlatBinaryTree.of(root, FlatBinaryTree.Layout.VAN_EMDE_BOAS);
+        int[] bfs = FlatBinaryTree.of(root).getValues();
+        int[] expected = {
+                bfs[0], bfs[1], bfs[2],
+                bfs[3], bfs[7], bfs[8],
+                bfs[4], bfs[9], bfs[10],
+                bfs[5], bfs[11], bfs[12],
+                bfs[6], bfs[13], bfs[14]
+        };
+        assertArrayEquals(expected, flat.getValues());
+        assertArrayEquals(tree.inorderArray(root), flat.inorderArray());
+    }
+
+    @Test
+    public void testLayoutsAgreeWithLinkedTree() {
+        SplittableRandom random = new SplittableRandom(12);
+        for (int trial = 0; trial < 30; trial++) {
+            BinaryTree.TreeNode root = TreeFixtures.randomTree(random.nextInt(2000), random, 1000);
+            for (FlatBinaryTree.Layout layout : FlatBinaryTree.Layout.values()) {
+                FlatBinaryTree flat = FlatBinaryTree.of(root, layout);
+                assertArrayEquals(tree.inorderArray(root), flat.inorderArray());
+                assertArrayEquals(tree.preorderArray(root), flat.preorderArray());
+                assertArrayEquals(tree.postorderArray(root), flat.postorderArray());
+                assertArrayEquals(tree.levelOrderArray(root), flat.levelOrderArray());
+                assertEquals(tree.maxDepth(root), flat.maxDepth());
+                assertEquals(tree.isBalanced(root), flat.isBalanced());
+                assertEquals(Arrays.stream(tree.inorderArray(root)).asLongStream().sum(), flat.sum());
+
+                // Parents come before their children
+                for (int i = 0; i < flat.size(); i++) {
+                    assertTrue(flat.getLeft()[i] < 0 || flat.getLeft()[i] > i);
+                    assertTrue(flat.getRight()[i] < 0 || flat.getRight()[i] > i);
+                }
+                BinaryTree.TreeNode back = flat.toTreeNode();
+                assertArrayEquals(tree.preorderArray(root), tree.preorderArray(back));
+                assertArrayEquals(tree.inorderArray(root), tree.inorderArray(back));
+            }
+        }
+    }
+
+    @Test
+    public void testEmptyAndChain() {
+        FlatBinaryTree empty = FlatBinaryTree.of(null, FlatBinaryTree.Layout.VAN_EMDE_BOAS);
+        assertEquals(0, empty.size());
+        assertEquals(0, empty.maxDepth());
+        assertTrue(empty.isBalanced());
+        assertNull(empty.toTreeNode());
+        assertEquals(0, empty.inorderArray().length);
+
+        int n = 500_000;
+        BinaryTree.TreeNode root = new BinaryTree.TreeNode(0);
+        BinaryTree.TreeNode node = root;
+        for (int i = 1; i < n; i++) {
+            node.left = new BinaryTree.TreeNode(i);
+            node = node.left;
+        }
+        FlatBinaryTree flat = FlatBinaryTree.of(root, FlatBinaryTree.Layout.VAN_EMDE_BOAS);
+        assertEquals(n, flat.maxDepth());
+        assertFalse(flat.isBalanced());
+        assertEquals(n - 1, flat.inorderArray()[0]);
+    }
+}
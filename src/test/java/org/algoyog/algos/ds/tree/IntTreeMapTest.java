@@ -0,0 +1,165 @@
+package org.algoyog.algos.ds.tree;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.OptionalInt;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+
+public class IntTreeMapTest {
+
+    private static OptionalInt optional(Integer key) {
+        return key == null ? OptionalInt.empty() : OptionalInt.of(key);
+    }
+
+    // AVL bound: height < 1.4405 log2(n + 2)
+    private static void assertAvlHeight(IntTreeMap map) {
+        assertTrue(map.height() <= 1.4405 * Math.log(map.size() + 2) / Math.log(2), "height " + map.height());
+    }
+
+    @Test
+    public void testBasicOperations() {
+        IntTreeMap map = new IntTreeMap();
+        assertTrue(map.isEmpty());
+        assertTrue(map.put(5, 50));
+        assertTrue(map.put(1, 10));
+        assertTrue(map.put(9, 90));
+        assertFalse(map.put(5, 55)); // Replaces the value
+        assertEquals(3, map.size());
+        assertEquals(55, map.getOrDefault(5, -1));
+        assertEquals(-1, map.getOrDefault(4, -1));
+        assertTrue(map.containsKey(9));
+
+        assertEquals(OptionalInt.of(5), map.floorKey(7));
+        assertEquals(OptionalInt.of(9), map.ceilingKey(7));
+        assertEquals(OptionalInt.of(1), map.lowerKey(5));
+        assertEquals(OptionalInt.of(9), map.higherKey(5));
+        assertEquals(OptionalInt.empty(), map.floorKey(0));
+        assertEquals(OptionalInt.empty(), map.higherKey(9));
+        assertEquals(1, map.firstKey());
+        assertEquals(9, map.lastKey());
+
+        assertEquals(0, map.rank(1));
+        assertEquals(2, map.rank(6));
+        assertEquals(9, map.select(2));
+        assertEquals(90, map.selectValue(2));
+        assertEquals(2, map.countInRange(1, 9));
+
+        assertEquals(55, map.removeOrDefault(5, -1));
+        assertFalse(map.remove(5));
+        assertArrayEquals(new int[]{1, 9}, map.keys());
+
+        map.clear();
+        assertEquals(0, map.size());
+        assertThrows(NoSuchElementException.class, map::firstKey);
+        assertThrows(IndexOutOfBoundsException.class, () -> map.select(0));
+    }
+
+    @Test
+    public void testRandomOperationsMatchTreeMap() {
+        SplittableRandom random = new SplittableRandom(21);
+        IntTreeMap map = new IntTreeMap(4);
+        TreeMap<Integer, Integer> reference = new TreeMap<>();
+
+        for (int step = 0; step < 200_000; step++) {
+            int key = random.nextInt(5000) - 2500;
+            int op = random.nextInt(10);
+            if (op < 5) {
+                int value = random.nextInt();
+                assertEquals(reference.put(key, value) == null, map.put(key, value));
+            } else if (op < 8) {
+                assertEquals(reference.remove(key) != null, map.remove(key));
+            } else {
+                assertEquals(optional(reference.floorKey(key)), map.floorKey(key));
+                assertEquals(optional(reference.ceilingKey(key)), map.ceilingKey(key));
+                assertEquals(optional(reference.lowerKey(key)), map.lowerKey(key));
+                assertEquals(optional(reference.higherKey(key)), map.higherKey(key));
+                assertEquals(reference.headMap(key).size(), map.rank(key));
+            }
+            assertEquals(reference.size(), map.size());
+        }
+
+        assertAvlHeight(map);
+        int rank = 0;
+        for (Map.Entry<Integer, Integer> entry : reference.entrySet()) {
+            assertEquals((int) entry.getKey(), map.select(rank));
+            assertEquals((int) entry.getValue(), map.selectValue(rank));
+            assertEquals((int) entry.getValue(), map.getOrDefault(entry.getKey(), 0));
+            rank++;
+        }
+
+        // Ranges, including empty and reversed ones
+        for (int trial = 0; trial < 200; trial++) {
+            int from = random.nextInt(6000) - 3000;
+            int to = from + random.nextInt(800) - 100;
+            int[] expected = from < to
+                    ? reference.subMap(from, to).keySet().stream().mapToInt(Integer::intValue).toArray()
+                    : new int[0];
+            assertArrayEquals(expected, map.keysInRange(from, to));
+            assertEquals(expected.length, map.countInRange(from, to));
+        }
+    }
+
+    @Test
+    public void testFromSorted() {
+        int n = 100_000;
+        int[] keys = new int[n];
+        int[] values = new int[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = 3 * i - n;
+            values[i] = i;
+        }
+        IntTreeMap map = IntTreeMap.fromSorted(keys, values);
+        assertEquals(n, map.size());
+        assertEquals(17, map.height()); // Perfectly balanced: ceil(log2(n + 1))
+        assertArrayEquals(keys, map.keys());
+        assertEquals(n / 2, map.rank(keys[n / 2]));
+        assertEquals(keys[777], map.select(777));
+
+        // Still a working AVL tree afterwards
+        for (int i = 0; i < n; i += 2) {
+            assertTrue(map.remove(keys[i]));
+        }
+        for (int i = 0; i < 1000; i++) {
+            map.put(3 * i - n + 1, -i);
+        }
+        assertEquals(n / 2 + 1000, map.size());
+        assertAvlHeight(map);
+
+        assertThrows(IllegalArgumentException.class, () -> IntTreeMap.fromSorted(new int[]{1, 1}, new int[]{0, 0}));
+        assertThrows(IllegalArgumentException.class, () -> IntTreeMap.fromSorted(new int[]{1}, new int[0]));
+        assertTrue(IntTreeMap.fromSorted(new int[0], new int[0]).isEmpty());
+    }
+
+    @Test
+    public void testExtremeKeysAndRangeVisit() {
+        IntTreeMap map = new IntTreeMap();
+        map.put(Integer.MAX_VALUE, 1);
+        map.put(Integer.MIN_VALUE, 2);
+        map.put(0, 3);
+        assertArrayEquals(new int[]{Integer.MIN_VALUE, 0, Integer.MAX_VALUE}, map.keys());
+        assertEquals(OptionalInt.empty(), map.lowerKey(Integer.MIN_VALUE));
+        assertEquals(OptionalInt.empty(), map.higherKey(Integer.MAX_VALUE));
+
+        List<String> visited = new ArrayList<>();
+        map.forEachInRange(Integer.MIN_VALUE, Integer.MAX_VALUE, (key, value) -> visited.add(key + "=" + value));
+        assertEquals(List.of(Integer.MIN_VALUE + "=2", "0=3"), visited);
+    }
+
+    @Test
+    public void testNodesAreReused() {
+        IntTreeMap map = new IntTreeMap(8);
+        for (int round = 0; round < 100; round++) {
+            for (int k = 0; k < 8; k++) map.put(k, round);
+            for (int k = 0; k < 8; k++) assertTrue(map.remove(k));
+        }
+        assertTrue(map.isEmpty());
+        for (int k = 0; k < 8; k++) map.put(k, k);
+        assertArrayEquals(new int[]{0, 1, 2, 3, 4, 5, 6, 7}, map.keys());
+    }
+}
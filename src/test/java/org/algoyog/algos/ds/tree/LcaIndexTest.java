@@ -0,0 +1,114 @@
+package org.algoyog.algos.ds.tree;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.SplittableRandom;
+
+public class LcaIndexTest {
+
+    private final BinaryTree tree = new BinaryTree();
+
+    //       1
+    //      / \
+    //     2   3
+    //    / \
+    //   4   5
+    private static BinaryTree.TreeNode sample() {
+        BinaryTree.TreeNode root = new BinaryTree.TreeNode(1);
+        root.left = new BinaryTree.TreeNode(2);
+        root.right = new BinaryTree.TreeNode(3);
+        root.left.left = new BinaryTree.TreeNode(4);
+        root.left.right = new BinaryTree.TreeNode(5);
+        return root;
+    }
+
+    // Reference answer from parents and depths
+    private static int naiveLca(LcaIndex index, int u, int v) {
+        while (index.getDepth(u) > index.getDepth(v)) u = index.getParent(u);
+        while (index.getDepth(v) > index.getDepth(u)) v = index.getParent(v);
+        while (u != v) {
+            u = index.getParent(u);
+            v = index.getParent(v);
+        }
+        return u;
+    }
+
+    @Test
+    public void testSample() {
+        BinaryTree.TreeNode root = sample();
+        for (LcaIndex index : new LcaIndex[]{LcaIndex.eulerTour(root), LcaIndex.binaryLifting(root)}) {
+            assertEquals(5, index.getNodeCount());
+            // Preorder ids: 1 -> 0, 2 -> 1, 4 -> 2, 5 -> 3, 3 -> 4
+            int four = index.getId(root.left.left);
+            int five = index.getId(root.left.right);
+            int three = index.getId(root.right);
+            assertEquals(2, four);
+            assertEquals(2, index.getNode(index.lca(four, five)).val);
+            assertEquals(1, index.getNode(index.lca(four, three)).val);
+            assertEquals(four, index.lca(four, four));
+            assertEquals(1, index.lca(1, four)); // A node and its descendant
+            assertArrayEquals(new int[]{1, 0, 1}, index.lca(new int[]{four, five, four, three, five, 1}));
+            assertEquals(0, index.getDepth(0));
+            assertEquals(-1, index.getParent(0));
+
+            // Agrees with the tree walk
+            assertSame(tree.lowestCommonAncestor(root, root.left.left, root.right), index.getNode(index.lca(four, three)));
+        }
+    }
+
+    @Test
+    public void testRandomTreesAgree() {
+        SplittableRandom random = new SplittableRandom(6);
+        for (int trial = 0; trial < 20; trial++) {
+            BinaryTree.TreeNode root = TreeFixtures.randomTree(1 + random.nextInt(3000), random, 100);
+            LcaIndex euler = LcaIndex.eulerTour(root);
+            LcaIndex lifting = LcaIndex.binaryLifting(root);
+            int n = euler.getNodeCount();
+            assertEquals(tree.preorderArray(root).length, n);
+            int[] pairs = new int[2000];
+            for (int i = 0; i < pairs.length; i++) pairs[i] = random.nextInt(n);
+            int[] a = euler.lca(pairs);
+            int[] b = lifting.lca(pairs);
+            for (int i = 0; i < a.length; i++) {
+                int expected = naiveLca(euler, pairs[2 * i], pairs[2 * i + 1]);
+                assertEquals(expected, a[i]);
+                assertEquals(expected, b[i]);
+            }
+        }
+    }
+
+    @Test
+    public void testDeepChainAndLargeBatch() {
+        int n = 300_000;
+        BinaryTree.TreeNode root = new BinaryTree.TreeNode(0);
+        BinaryTree.TreeNode node = root;
+        for (int i = 1; i < n; i++) {
+            node.right = new BinaryTree.TreeNode(i);
+            node = node.right;
+        }
+        LcaIndex euler = LcaIndex.eulerTour(root);
+        LcaIndex lifting = LcaIndex.binaryLifting(root);
+        SplittableRandom random = new SplittableRandom(2);
+        int[] pairs = new int[100_000];
+        for (int i = 0; i < pairs.length; i++) pairs[i] = random.nextInt(n);
+        int[] a = euler.lca(pairs);
+        int[] b = lifting.lca(pairs);
+        for (int i = 0; i < a.length; i++) {
+            // On a chain the ancestor is the shallower node
+            int expected = Math.min(pairs[2 * i], pairs[2 * i + 1]);
+            assertEquals(expected, a[i]);
+            assertEquals(expected, b[i]);
+        }
+    }
+
+    @Test
+    public void testInvalidQueries() {
+        LcaIndex index = LcaIndex.eulerTour(sample());
+        assertThrows(IllegalArgumentException.class, () -> index.lca(0, 5));
+        assertThrows(IllegalArgumentException.class, () -> index.lca(new int[]{0, 1, 2}));
+        assertThrows(IllegalArgumentException.class, () -> index.lca(new int[]{0, -1}));
+        assertThrows(IllegalArgumentException.class, () -> index.getId(new BinaryTree.TreeNode(1)));
+        assertEquals(0, LcaIndex.binaryLifting(null).getNodeCount());
+    }
+}
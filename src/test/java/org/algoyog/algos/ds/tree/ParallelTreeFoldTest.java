@@ -0,0 +1,100 @@
+package org.algoyog.algos.ds.tree;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+public class ParallelTreeFoldTest {
+
+    private final BinaryTree tree = new BinaryTree();
+
+    @Test
+    public void testAggregationsMatchSequential() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        SplittableRandom random = new SplittableRandom(4);
+        try {
+            for (int cutoff : new int[]{1, 3, 64, 4096}) {
+                ParallelTreeFold fold = new ParallelTreeFold(pool, cutoff);
+                for (int trial = 0; trial < 20; trial++) {
+                    BinaryTree.TreeNode root = TreeFixtures.randomTree(random.nextInt(5000), random, 1000);
+                    int[] values = tree.preorderArray(root);
+                    assertEquals(values.length, fold.size(root));
+                    assertEquals(Arrays.stream(values).asLongStream().sum(), fold.sum(root));
+                    assertEquals(tree.maxDepth(root), fold.maxDepth(root));
+                    assertEquals(tree.isBalanced(root), fold.isBalanced(root));
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testBalance() {
+        ParallelTreeFold fold = new ParallelTreeFold(ForkJoinPool.commonPool(), 2);
+        // Perfect tree of depth 12 is balanced; hanging two extra nodes under a leaf is not
+        BinaryTree.TreeNode root = TreeFixtures.perfectTree(12);
+        assertTrue(fold.isBalanced(root));
+        assertEquals(12, fold.maxDepth(root));
+        BinaryTree.TreeNode leaf = root;
+        while (leaf.left != null) leaf = leaf.left;
+        leaf.left = new BinaryTree.TreeNode(0);
+        leaf.left.left = new BinaryTree.TreeNode(0);
+        assertFalse(fold.isBalanced(root));
+        assertTrue(fold.isBalanced(null));
+        assertEquals(0, fold.maxDepth(null));
+    }
+
+    @Test
+    public void testGenericFoldKeepsChildOrder() {
+        // Inorder string built bottom-up: left + value + right
+        BinaryTree.TreeNode root = TreeFixtures.randomTree(300, new SplittableRandom(2), 10);
+        ParallelTreeFold fold = new ParallelTreeFold(ForkJoinPool.commonPool(), 4);
+        StringBuilder expected = new StringBuilder();
+        for (int value : tree.inorderArray(root)) expected.append(value).append(',');
+        assertEquals(expected.toString(), fold.fold(root, "", (node, left, right) -> left + node.val + "," + right));
+    }
+
+    @Test
+    public void testDegenerateChain() {
+        int n = 2_000_000;
+        BinaryTree.TreeNode root = new BinaryTree.TreeNode(1);
+        BinaryTree.TreeNode node = root;
+        for (int i = 1; i < n; i++) {
+            node.left = new BinaryTree.TreeNode(1);
+            node = node.left;
+        }
+        ParallelTreeFold fold = new ParallelTreeFold();
+        assertEquals(n, fold.size(root));
+        assertEquals(n, fold.maxDepth(root));
+        assertFalse(fold.isBalanced(root));
+    }
+
+    @Test
+    public void testCaterpillar() {
+        // Right chain with a leaf on every chain node: every task has two subtrees below it
+        int chain = 1_000_000;
+        BinaryTree.TreeNode root = new BinaryTree.TreeNode(1);
+        BinaryTree.TreeNode node = root;
+        for (int i = 1; i < chain; i++) {
+            node.left = new BinaryTree.TreeNode(2);
+            node.right = new BinaryTree.TreeNode(1);
+            node = node.right;
+        }
+        for (ParallelTreeFold fold : new ParallelTreeFold[]{
+                new ParallelTreeFold(), new ParallelTreeFold(ForkJoinPool.commonPool(), 16)}) {
+            assertEquals(2 * chain - 1, fold.size(root));
+            assertEquals(3L * chain - 2, fold.sum(root));
+            assertEquals(chain, fold.maxDepth(root));
+            assertFalse(fold.isBalanced(root));
+        }
+    }
+
+    @Test
+    public void testInvalidCutoff() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelTreeFold(ForkJoinPool.commonPool(), 0));
+    }
+}
@@ -0,0 +1,41 @@
+package org.algoyog.algos.ds.tree;
+
+import java.util.SplittableRandom;
+
+/**
+ * Trees shared by the tests of this package
+ */
+final class TreeFixtures {
+
+    private TreeFixtures() {
+    }
+
+    // Random shape: every node gets a random number of nodes in its left subtree
+    static BinaryTree.TreeNode randomTree(int n, SplittableRandom random, int valueRange) {
+        if (n == 0) return null;
+        BinaryTree.TreeNode node = new BinaryTree.TreeNode(random.nextInt(valueRange) - valueRange / 2);
+        int leftSize = random.nextInt(n);
+        node.left = randomTree(leftSize, random, valueRange);
+        node.right = randomTree(n - 1 - leftSize, random, valueRange);
+        return node;
+    }
+
+    // Values in [-500, 500)
+    static BinaryTree.TreeNode randomTree(int n, SplittableRandom random) {
+        return randomTree(n, random, 1000);
+    }
+
+    // Perfect tree of the given depth with values 0, 1, 2, ... in inorder
+    static BinaryTree.TreeNode perfectTree(int depth) {
+        return perfectTree(depth, new int[1]);
+    }
+
+    private static BinaryTree.TreeNode perfectTree(int depth, int[] next) {
+        if (depth == 0) return null;
+        BinaryTree.TreeNode node = new BinaryTree.TreeNode(0);
+        node.left = perfectTree(depth - 1, next);
+        node.val = next[0]++;
+        node.right = perfectTree(depth - 1, next);
+        return node;
+    }
+}
@@ -0,0 +1,41 @@
+package org.algoyog.algos.ds.union_find;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.stream.IntStream;
+
+public class ConcurrentDisjointSetTest {
+
+    @Test
+    public void testUnionFind() {
+        ConcurrentDisjointSet ds = new ConcurrentDisjointSet(5);
+        assertEquals(5, ds.getCount());
+
+        assertTrue(ds.union(3, 4));
+        assertTrue(ds.union(1, 3));
+        assertFalse(ds.union(4, 1)); // Already in the same set
+        assertTrue(ds.isConnected(1, 4));
+        assertFalse(ds.isConnected(0, 4));
+        assertEquals(3, ds.getCount());
+
+        // The root of a set is its smallest element
+        assertEquals(1, ds.find(4));
+    }
+
+    @Test
+    public void testConcurrentUnions() {
+        // Many threads join the elements of a chain in a scrambled order
+        int n = 100_000;
+        ConcurrentDisjointSet ds = new ConcurrentDisjointSet(n);
+        IntStream.range(0, n - 1).parallel()
+                .map(i -> (int) ((i * 7919L) % (n - 1)))
+                .forEach(i -> ds.union(i, i + 1));
+        IntStream.range(0, n).parallel().forEach(ds::compress);
+
+        assertEquals(1, ds.getCount());
+        for (int i = 0; i < n; i++) {
+            assertEquals(0, ds.find(i));
+        }
+    }
+}